@@ -25,6 +25,7 @@ plugins {
     alias(libs.plugins.cthingPublishing)
     alias(libs.plugins.cthingVersioning)
     alias(libs.plugins.dependencyAnalysis)
+    alias(libs.plugins.jmh)
     alias(libs.plugins.spotbugs)
     alias(libs.plugins.versions)
 }
@@ -42,8 +43,6 @@ java {
 dependencies {
     api(libs.checkstyle)
 
-    implementation(libs.beanUtils)
-
     testImplementation(libs.junitApi)
     testImplementation(libs.assertJ)
 
@@ -75,6 +74,23 @@ jacoco {
     toolVersion = libs.versions.jacoco.get()
 }
 
+val jmhResultsFile = layout.buildDirectory.file("reports/jmh/results.csv")
+val jmhBaselineFile = layout.projectDirectory.file("dev/jmh/baseline.csv")
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    includeTests = true
+    profilers = listOf("gc")
+    resultFormat = "CSV"
+    resultsFile = jmhResultsFile
+    humanOutputFile = layout.buildDirectory.file("reports/jmh/human.txt")
+
+    // The multi-threaded audit benchmark measures scaling with the number of cores and is only run on request
+    if (!project.hasProperty("jmhAudit")) {
+        excludes.add("AuditBenchmark")
+    }
+}
+
 dependencyAnalysis {
     issues {
         all {
@@ -127,6 +143,10 @@ tasks {
         isEnabled = false
     }
 
+    named<com.github.spotbugs.snom.SpotBugsTask>("spotbugsJmh") {
+        isEnabled = false
+    }
+
     withType<JacocoReport> {
         dependsOn("test")
         with(reports) {
@@ -141,6 +161,30 @@ tasks {
         useJUnitPlatform()
     }
 
+    test {
+        useJUnitPlatform {
+            excludeTags("metrics")
+        }
+    }
+
+    // The checks are tested uninstrumented, as they ship, by the test task. The tests of the instrumentation
+    // run with metrics enabled in their own JVM.
+    val metricsTest by registering(Test::class) {
+        description = "Runs the tests of the check metrics with metrics enabled."
+        group = "verification"
+        testClassesDirs = sourceSets["test"].output.classesDirs
+        classpath = sourceSets["test"].runtimeClasspath
+        useJUnitPlatform {
+            includeTags("metrics")
+        }
+        systemProperty("org.cthing.checkstyle.metrics", "true")
+        shouldRunAfter(test)
+    }
+
+    check {
+        dependsOn(metricsTest)
+    }
+
     withType<GenerateModuleMetadata> {
         enabled = false
     }
@@ -157,6 +201,27 @@ tasks {
     }
 }
 
+val jmhBaseline by tasks.registering(JavaExec::class) {
+    group = "jmh"
+    description = "Runs the benchmarks and stores the results as the baseline for comparison."
+    dependsOn(tasks.named("jmh"))
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.cthing.checkstyle.checks.BenchmarkBaseline"
+    args("update", jmhResultsFile.get().asFile, jmhBaselineFile.asFile)
+}
+
+val jmhCompare by tasks.registering(JavaExec::class) {
+    group = "jmh"
+    description = "Runs the benchmarks and fails if a benchmark has regressed relative to the baseline."
+    dependsOn(tasks.named("jmh"))
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "org.cthing.checkstyle.checks.BenchmarkBaseline"
+    args("compare", jmhResultsFile.get().asFile, jmhBaselineFile.asFile,
+         layout.buildDirectory.file("reports/jmh/comparison.txt").get().asFile,
+         providers.gradleProperty("jmhThroughputTolerance").getOrElse("0.25"),
+         providers.gradleProperty("jmhAllocationTolerance").getOrElse("0.10"))
+}
+
 val sourceJar by tasks.registering(Jar::class) {
     from(project.sourceSets["main"].allSource)
     archiveClassifier = "sources"
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.cthing.checkstyle.audit.CThingAudit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+
+/**
+ * Benchmark of a multi-threaded audit using {@link CThingAudit}. The benchmark runs all the checks over a mix of
+ * generated files with an increasing number of threads, so the scaling of the audit with the number of cores can
+ * be determined by comparing the node rates. The GC profiler does not account for the memory allocated by the
+ * audit threads, so the benchmark is not run by default and is not included in the stored baseline. To run it,
+ * specify the {@code jmhAudit} project property (i.e. {@code ./gradlew jmh -PjmhAudit}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditBenchmark {
+
+    private static final int FILES_PER_SHAPE = 50;
+    private static final int SCALE = 100;
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    private Path inputDir;
+    private long nodesPerPass;
+    private int filesPerPass;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, CheckstyleException {
+        this.inputDir = Files.createTempDirectory("cthing-checks-jmh");
+        final SyntheticCorpus corpus = new SyntheticCorpus(20_260_101L, 0.05);
+        final List<File> files = new ArrayList<>();
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            files.addAll(corpus.write(this.inputDir, shape, FILES_PER_SHAPE, SCALE));
+        }
+        this.filesPerPass = files.size();
+        this.nodesPerPass = CheckBenchmark.countNodes(files);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        CheckBenchmark.deleteInput(this.inputDir);
+    }
+
+    @Benchmark
+    public int audit(final CheckBenchmark.Processed processed) throws CheckstyleException {
+        final int violations = CThingAudit.run(List.of(this.inputDir), this.threads).size();
+        processed.files += this.filesPerPass;
+        processed.nodes += this.nodesPerPass;
+        return violations;
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Maintains a stored baseline of benchmark results and compares new results against it. The baseline records,
+ * for each benchmark, check and input, the AST nodes processed per second and the bytes allocated per AST node.
+ * Parameters of a benchmark other than the check and input are included in the benchmark name (e.g.
+ * {@code AuditBenchmark.audit[threads=4]}). The results are read from the CSV file written by JMH. The baseline is itself a CSV file so that it can be
+ * reviewed and diffed when it is updated.
+ *
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * BenchmarkBaseline update RESULTS BASELINE
+ * BenchmarkBaseline compare RESULTS BASELINE REPORT THROUGHPUT_TOLERANCE ALLOCATION_TOLERANCE
+ * </pre>
+ *
+ * <p>
+ * A benchmark has regressed if its throughput has decreased, or its allocation per node has increased, by more
+ * than the corresponding tolerance, expressed as a fraction of the baseline value (e.g. 0.1 for 10%). An increase
+ * in allocation of less than one byte per node is never considered a regression. A negative tolerance disables
+ * the comparison. The comparison writes a report of every benchmark to the report file and
+ * exits with status 1 if any benchmark has regressed. Benchmarks that are not in the baseline are reported but
+ * are not considered regressions.
+ * </p>
+ */
+public final class BenchmarkBaseline {
+
+    private static final String HEADER = "benchmark,checks,input,opsPerSecond,nodesPerSecond,bytesPerNode";
+
+    /**
+     * Smallest increase in the bytes allocated per node that is considered a regression. Checks that allocate
+     * almost nothing per node would otherwise exceed the relative tolerance due to measurement noise.
+     */
+    private static final double MIN_ALLOCATION_INCREASE = 1.0;
+
+    private static final String PARAM_PREFIX = "Param: ";
+    private static final String NODES_METRIC = "nodes";
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /**
+     * Measurements of a single benchmark, check and input combination.
+     */
+    static final class Entry {
+        private double opsPerSecond = Double.NaN;
+        private double nodesPerSecond = Double.NaN;
+        private double bytesPerOp = Double.NaN;
+        private double bytesPerNode = Double.NaN;
+
+        double getNodesPerSecond() {
+            return this.nodesPerSecond;
+        }
+
+        double getBytesPerNode() {
+            if (Double.isNaN(this.bytesPerNode) && (this.nodesPerSecond > 0.0)) {
+                return this.bytesPerOp / (this.nodesPerSecond / this.opsPerSecond);
+            }
+            return this.bytesPerNode;
+        }
+    }
+
+    private BenchmarkBaseline() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if ((args.length == 3) && "update".equals(args[0])) {
+            final Map<String, Entry> results = readResults(Path.of(args[1]));
+            writeBaseline(Path.of(args[2]), results);
+            System.out.println("Baseline of " + results.size() + " benchmarks written to " + args[2]);
+        } else if ((args.length == 6) && "compare".equals(args[0])) {
+            final Map<String, Entry> results = readResults(Path.of(args[1]));
+            final Map<String, Entry> baseline = readBaseline(Path.of(args[2]));
+            final double throughputTolerance = Double.parseDouble(args[4]);
+            final double allocationTolerance = Double.parseDouble(args[5]);
+
+            final Path reportFile = Path.of(args[3]);
+            final Path reportDir = reportFile.toAbsolutePath().getParent();
+            if (reportDir != null) {
+                Files.createDirectories(reportDir);
+            }
+            final int regressions;
+            try (PrintStream report = new PrintStream(Files.newOutputStream(reportFile), true,
+                                                      StandardCharsets.UTF_8)) {
+                regressions = compare(results, baseline, throughputTolerance, allocationTolerance, report);
+            }
+            System.out.print(Files.readString(reportFile, StandardCharsets.UTF_8));
+            if (regressions > 0) {
+                System.err.println(regressions + " benchmark(s) regressed. See " + reportFile);
+                System.exit(1);
+            }
+        } else {
+            System.err.println("Usage: BenchmarkBaseline update RESULTS BASELINE");
+            System.err.println("       BenchmarkBaseline compare RESULTS BASELINE REPORT THROUGHPUT_TOLERANCE "
+                                       + "ALLOCATION_TOLERANCE");
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Compares benchmark results with the baseline and writes a report of the differences.
+     *
+     * @param results  New benchmark results
+     * @param baseline  Baseline results
+     * @param throughputTolerance  Allowed fractional decrease in throughput. Negative to ignore throughput.
+     * @param allocationTolerance  Allowed fractional increase in allocation per node. Negative to ignore
+     *      allocation.
+     * @param report  Stream to which the report is written
+     * @return Number of benchmarks that have regressed.
+     */
+    static int compare(final Map<String, Entry> results, final Map<String, Entry> baseline,
+                       final double throughputTolerance, final double allocationTolerance,
+                       final PrintStream report) {
+        report.printf(Locale.ROOT, "%-60s %14s %14s %8s %12s %12s %8s  %s%n", "Benchmark", "Base nodes/s",
+                      "Nodes/s", "Change", "Base B/node", "B/node", "Change", "Status");
+
+        int regressions = 0;
+        for (final Map.Entry<String, Entry> result : results.entrySet()) {
+            final Entry current = result.getValue();
+            final Entry base = baseline.get(result.getKey());
+            if (base == null) {
+                report.printf(Locale.ROOT, "%-60s %14s %14.0f %8s %12s %12.1f %8s  %s%n", result.getKey(), "-",
+                              current.getNodesPerSecond(), "-", "-", current.getBytesPerNode(), "-", "NEW");
+                continue;
+            }
+
+            final double throughputChange = change(base.getNodesPerSecond(), current.getNodesPerSecond());
+            final double allocationChange = change(base.getBytesPerNode(), current.getBytesPerNode());
+            final List<String> problems = new ArrayList<>();
+            if ((throughputTolerance >= 0.0) && (-throughputChange > throughputTolerance)) {
+                problems.add("THROUGHPUT");
+            }
+            if ((allocationTolerance >= 0.0) && (allocationChange > allocationTolerance)
+                    && (current.getBytesPerNode() - base.getBytesPerNode() >= MIN_ALLOCATION_INCREASE)) {
+                problems.add("ALLOCATION");
+            }
+            if (!problems.isEmpty()) {
+                regressions++;
+            }
+
+            report.printf(Locale.ROOT, "%-60s %14.0f %14.0f %+7.1f%% %12.1f %12.1f %+7.1f%%  %s%n",
+                          result.getKey(), base.getNodesPerSecond(), current.getNodesPerSecond(),
+                          throughputChange * 100.0, base.getBytesPerNode(), current.getBytesPerNode(),
+                          allocationChange * 100.0,
+                          problems.isEmpty() ? "OK" : "REGRESSED " + String.join(" ", problems));
+        }
+
+        for (final String key : baseline.keySet()) {
+            if (!results.containsKey(key)) {
+                report.printf(Locale.ROOT, "%-60s %14s %14s %8s %12s %12s %8s  %s%n", key, "", "", "", "", "", "",
+                              "NOT RUN");
+            }
+        }
+
+        report.printf(Locale.ROOT, "%nThroughput tolerance: %s, allocation tolerance: %s, regressions: %d%n",
+                      tolerance(throughputTolerance), tolerance(allocationTolerance), regressions);
+        return regressions;
+    }
+
+    /**
+     * Reads the results written by JMH in CSV format. The primary score of each benchmark is the operation
+     * rate. The node rate and allocation per operation are reported as secondary results named after the
+     * benchmark followed by ":nodes" and ":gc.alloc.rate.norm" respectively.
+     *
+     * @param file  JMH results file
+     * @return Results keyed by benchmark, check and input.
+     * @throws IOException if the file could not be read
+     */
+    static Map<String, Entry> readResults(final Path file) throws IOException {
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        final Map<String, Entry> results = new TreeMap<>();
+        if (lines.isEmpty()) {
+            return results;
+        }
+
+        final List<String> header = parseCsvLine(lines.get(0));
+        final int benchmarkColumn = header.indexOf("Benchmark");
+        final int scoreColumn = header.indexOf("Score");
+        final int checksColumn = header.indexOf("Param: checks");
+        final int inputColumn = header.indexOf("Param: input");
+        final List<Integer> otherParamColumns = new ArrayList<>();
+        for (int column = 0; column < header.size(); column++) {
+            if (header.get(column).startsWith(PARAM_PREFIX) && (column != checksColumn) && (column != inputColumn)) {
+                otherParamColumns.add(column);
+            }
+        }
+        if ((benchmarkColumn < 0) || (scoreColumn < 0)) {
+            throw new IOException("Not a JMH CSV results file: " + file);
+        }
+
+        for (final String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            final List<String> fields = parseCsvLine(line);
+            String benchmark = fields.get(benchmarkColumn);
+            String metric = null;
+            final int metricStart = benchmark.indexOf(':');
+            if (metricStart >= 0) {
+                metric = benchmark.substring(metricStart + 1).replace("\u00B7", "");
+                benchmark = benchmark.substring(0, metricStart);
+            }
+            benchmark = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            benchmark += otherParams(header, fields, otherParamColumns);
+
+            final String key = key(benchmark, field(fields, checksColumn), field(fields, inputColumn));
+            final Entry entry = results.computeIfAbsent(key, k -> new Entry());
+            final double score = Double.parseDouble(fields.get(scoreColumn));
+            if (metric == null) {
+                entry.opsPerSecond = score;
+            } else if (NODES_METRIC.equals(metric)) {
+                entry.nodesPerSecond = score;
+            } else if (ALLOCATION_METRIC.equals(metric)) {
+                entry.bytesPerOp = score;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Reads a baseline written by {@link #writeBaseline(Path, Map)}.
+     *
+     * @param file  Baseline file
+     * @return Baseline results keyed by benchmark, check and input.
+     * @throws IOException if the file could not be read
+     */
+    static Map<String, Entry> readBaseline(final Path file) throws IOException {
+        final Map<String, Entry> baseline = new TreeMap<>();
+        for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#") || HEADER.equals(line)) {
+                continue;
+            }
+            final List<String> fields = parseCsvLine(line);
+            if (fields.size() != 6) {
+                throw new IOException("Malformed baseline line in " + file + ": " + line);
+            }
+            final Entry entry = new Entry();
+            entry.opsPerSecond = Double.parseDouble(fields.get(3));
+            entry.nodesPerSecond = Double.parseDouble(fields.get(4));
+            entry.bytesPerNode = Double.parseDouble(fields.get(5));
+            baseline.put(key(fields.get(0), fields.get(1), fields.get(2)), entry);
+        }
+        return baseline;
+    }
+
+    /**
+     * Writes the specified results as the baseline.
+     *
+     * @param file  Baseline file
+     * @param results  Results to store in the baseline
+     * @throws IOException if the file could not be written
+     */
+    static void writeBaseline(final Path file, final Map<String, Entry> results) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        lines.add("# Benchmark baseline. Regenerate with: ./gradlew jmhBaseline");
+        lines.add(HEADER);
+        for (final Map.Entry<String, Entry> result : results.entrySet()) {
+            final Entry entry = result.getValue();
+            lines.add(String.format(Locale.ROOT, "%s,%.3f,%.1f,%.2f", result.getKey(), entry.opsPerSecond,
+                                    entry.getNodesPerSecond(), entry.getBytesPerNode()));
+        }
+        final Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Formats the parameters of a benchmark other than the check and input, which have their own columns in the
+     * baseline, as a suffix of the benchmark name (e.g. "[threads=4]").
+     */
+    private static String otherParams(final List<String> header, final List<String> fields,
+                                      final List<Integer> columns) {
+        final StringBuilder params = new StringBuilder();
+        for (final int column : columns) {
+            final String value = field(fields, column);
+            if (!value.isEmpty()) {
+                params.append(params.length() == 0 ? "[" : ";")
+                      .append(header.get(column).substring(PARAM_PREFIX.length()))
+                      .append('=')
+                      .append(value);
+            }
+        }
+        return (params.length() == 0) ? "" : params.append(']').toString();
+    }
+
+    private static String key(final String benchmark, final String checks, final String input) {
+        return benchmark + ',' + checks + ',' + input;
+    }
+
+    private static String field(final List<String> fields, final int column) {
+        return ((column >= 0) && (column < fields.size())) ? fields.get(column) : "";
+    }
+
+    private static double change(final double base, final double current) {
+        return (base == 0.0) ? 0.0 : (current - base) / base;
+    }
+
+    private static String tolerance(final double tolerance) {
+        return (tolerance < 0.0) ? "ignored" : String.format(Locale.ROOT, "%.0f%%", tolerance * 100.0);
+    }
+
+    /**
+     * Splits a line of CSV into its fields, removing the quotes from quoted fields. JMH does not write fields
+     * containing quotes, so escaped quotes are not supported.
+     *
+     * @param line  Line to split
+     * @return Fields in the line.
+     */
+    private static List<String> parseCsvLine(final String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char ch = line.charAt(i);
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if ((ch == ',') && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.TreeWalker;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+
+
+/**
+ * End-to-end benchmark of the C Thing checks. Each benchmark operation runs a real {@link Checker} and
+ * {@link TreeWalker}, configured with one or all of the checks, over a set of representative source files.
+ * The files are either the unit test fixtures or files produced by the {@link SyntheticCorpus} generator.
+ * In addition to the operation rate, the benchmark reports the number of files and AST nodes processed per
+ * second. Run with the GC profiler to obtain the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckBenchmark {
+
+    /**
+     * Counters reported by JMH as rates alongside the primary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Processed {
+
+        public long files;
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.files = 0;
+            this.nodes = 0;
+        }
+    }
+
+    private static final String[] FIXTURES = {
+        "AbstractDaoImpl.java",
+        "GoodDaoImpl.java",
+        "IncorrectAnnotationsDaoImpl.java",
+        "MissingAnnotationsDaoImpl.java",
+        "NestedDaoImpl.java",
+        "DaoMissingAnnotations.java",
+        "LogDeclaration.java",
+        "TestMethodDeclaration.java",
+        "Annotations.java",
+        "ClassDeclaration.java",
+    };
+
+    private static final long CORPUS_SEED = 20_260_101L;
+    private static final double CORPUS_VIOLATION_RATE = 0.05;
+    private static final int CORPUS_FILES = 20;
+
+    @Param({ "LogDeclaration", "SpringDaoAnnotation", "TestMethodDeclaration", "All", "CThingChecks" })
+    public String checks;
+
+    /**
+     * Input files to process. Either "fixtures" for the unit test fixtures or the name of a
+     * {@link SyntheticCorpus.Shape} for generated files of that shape.
+     */
+    @Param({ "fixtures", "DAO", "TEST", "FIELDS", "NESTED", "EXPRESSION" })
+    public String input;
+
+    private Path inputDir;
+    private List<File> files;
+    private long nodesPerPass;
+    private Checker checker;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, CheckstyleException {
+        this.inputDir = Files.createTempDirectory("cthing-checks-jmh");
+        this.files = createInput(this.input, this.inputDir);
+        this.nodesPerPass = countNodes(this.files);
+        this.checker = createChecker(this.checks);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.checker.destroy();
+        deleteInput(this.inputDir);
+    }
+
+    @Benchmark
+    public int audit(final Processed processed) throws CheckstyleException {
+        final int errors = this.checker.process(this.files);
+        processed.files += this.files.size();
+        processed.nodes += this.nodesPerPass;
+        return errors;
+    }
+
+    /**
+     * Writes the benchmark input files to the specified directory.
+     *
+     * @param input  Either "fixtures" for the unit test fixtures or the name of a {@link SyntheticCorpus.Shape}
+     * @param dir  Directory in which to write the files
+     * @return Input files.
+     * @throws IOException if the files could not be written
+     */
+    static List<File> createInput(final String input, final Path dir) throws IOException {
+        if ("fixtures".equals(input)) {
+            final List<File> files = new ArrayList<>();
+            for (final String fixture : FIXTURES) {
+                final Path file = dir.resolve(fixture);
+                try (InputStream in = CheckBenchmark.class.getResourceAsStream("/checkstyle/" + fixture)) {
+                    if (in == null) {
+                        throw new IOException("Benchmark input not found: " + fixture);
+                    }
+                    Files.copy(in, file);
+                }
+                files.add(file.toFile());
+            }
+            return files;
+        }
+
+        final SyntheticCorpus.Shape shape = SyntheticCorpus.Shape.valueOf(input);
+        final SyntheticCorpus corpus = new SyntheticCorpus(CORPUS_SEED, CORPUS_VIOLATION_RATE);
+        return corpus.write(dir, shape, CORPUS_FILES, corpusScale(shape));
+    }
+
+    /**
+     * Deletes the specified input directory and its contents.
+     *
+     * @param dir  Directory to delete
+     * @throws IOException if the directory could not be deleted
+     */
+    static void deleteInput(final Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Obtains the size of the generated classes of the specified shape. The sizes are chosen so that each
+     * shape produces files of a few hundred kilobytes, comparable to the largest files in a large code base.
+     *
+     * @param shape  Shape of the generated classes
+     * @return Scale at which to generate the classes.
+     */
+    static int corpusScale(final SyntheticCorpus.Shape shape) {
+        return switch (shape) {
+            case DAO, TEST -> 500;
+            case EXPRESSION -> 2000;
+            case FIELDS -> 1000;
+            case NESTED -> 50;
+        };
+    }
+
+    /**
+     * Creates a checker configured with the specified checks.
+     *
+     * @param checkNames  Name of the check to configure or "All" to configure all the checks
+     * @return Configured checker.
+     * @throws CheckstyleException if the checker could not be configured
+     */
+    static Checker createChecker(final String checkNames) throws CheckstyleException {
+        final DefaultConfiguration treeWalkerConfig = new DefaultConfiguration(TreeWalker.class.getName());
+        if ("All".equals(checkNames)) {
+            treeWalkerConfig.addChild(new DefaultConfiguration(LogDeclarationCheck.class.getName()));
+            treeWalkerConfig.addChild(new DefaultConfiguration(SpringDaoAnnotationCheck.class.getName()));
+            treeWalkerConfig.addChild(new DefaultConfiguration(TestMethodDeclarationCheck.class.getName()));
+        } else {
+            treeWalkerConfig.addChild(new DefaultConfiguration(CheckBenchmark.class.getPackageName() + '.'
+                                                                       + checkNames + "Check"));
+        }
+
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
+        checkerConfig.addProperty("charset", "UTF-8");
+        checkerConfig.addChild(treeWalkerConfig);
+
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        return checker;
+    }
+
+    /**
+     * Counts the AST nodes in the specified files, as parsed by the TreeWalker for checks that do not
+     * require comment nodes.
+     *
+     * @param files  Files whose nodes are to be counted
+     * @return Total number of nodes in the files.
+     * @throws IOException if a file could not be read
+     * @throws CheckstyleException if a file could not be parsed
+     */
+    static long countNodes(final List<File> files) throws IOException, CheckstyleException {
+        long count = 0;
+        for (final File file : files) {
+            final DetailAST root = JavaParser.parseFile(file, JavaParser.Options.WITHOUT_COMMENTS);
+            for (DetailAST top = root; top != null; top = top.getNextSibling()) {
+                for (DetailAST node = top; node != null; node = ASTUtils.nextInSubtree(node, top)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+
+
+/**
+ * Minimal replacement for the Checkstyle TreeWalker that dispatches the nodes of an already parsed tree to a
+ * set of checks. The walker performs no parsing, filtering or violation reporting, so a benchmark using it
+ * measures the time and memory consumed by the checks themselves.
+ */
+final class CheckWalker {
+
+    private final AbstractCheck[] checks;
+    private final AbstractCheck[][] checksByType;
+
+    /**
+     * Creates a walker for the specified checks. Each check is configured with its default properties and
+     * registered for its default tokens.
+     *
+     * @param checks  Checks to which the nodes are dispatched
+     * @throws CheckstyleException if a check could not be configured
+     */
+    CheckWalker(final List<AbstractCheck> checks) throws CheckstyleException {
+        this.checks = checks.toArray(new AbstractCheck[0]);
+
+        int maxType = 0;
+        for (final AbstractCheck check : this.checks) {
+            check.configure(new DefaultConfiguration(check.getClass().getName()));
+            check.init();
+            for (final int type : check.getDefaultTokens()) {
+                maxType = Math.max(maxType, type);
+            }
+        }
+
+        final List<List<AbstractCheck>> registered = new ArrayList<>();
+        for (int type = 0; type <= maxType; type++) {
+            registered.add(new ArrayList<>());
+        }
+        for (final AbstractCheck check : this.checks) {
+            for (final int type : check.getDefaultTokens()) {
+                registered.get(type).add(check);
+            }
+        }
+        this.checksByType = new AbstractCheck[maxType + 1][];
+        for (int type = 0; type <= maxType; type++) {
+            this.checksByType[type] = registered.get(type).toArray(new AbstractCheck[0]);
+        }
+    }
+
+    /**
+     * Runs the checks over the specified tree.
+     *
+     * @param root  Root of the tree
+     * @param contents  Contents of the file from which the tree was parsed
+     * @return Number of violations reported by the checks.
+     */
+    int walk(final DetailAST root, final FileContents contents) {
+        for (final AbstractCheck check : this.checks) {
+            check.setFileContents(contents);
+            check.clearViolations();
+            check.beginTree(root);
+        }
+
+        for (DetailAST top = root; top != null; top = top.getNextSibling()) {
+            DetailAST node = top;
+            while (node != null) {
+                dispatch(node, true);
+                final DetailAST child = node.getFirstChild();
+                if (child != null) {
+                    node = child;
+                } else {
+                    node = leave(node, top);
+                }
+            }
+        }
+
+        int violations = 0;
+        for (final AbstractCheck check : this.checks) {
+            check.finishTree(root);
+            violations += check.getViolations().size();
+        }
+        return violations;
+    }
+
+    /**
+     * Leaves the specified node and any ancestors whose children have all been visited.
+     *
+     * @param leaf  Node with no children
+     * @param top  Top of the subtree being walked
+     * @return Next node to visit or {@code null} if the subtree has been walked.
+     */
+    private DetailAST leave(final DetailAST leaf, final DetailAST top) {
+        for (DetailAST node = leaf; node != null; node = node.getParent()) {
+            dispatch(node, false);
+            if (node == top) {
+                return null;
+            }
+            final DetailAST sibling = node.getNextSibling();
+            if (sibling != null) {
+                return sibling;
+            }
+        }
+        return null;
+    }
+
+    private void dispatch(final DetailAST node, final boolean visit) {
+        final int type = node.getType();
+        if (type < this.checksByType.length) {
+            for (final AbstractCheck check : this.checksByType[type]) {
+                if (visit) {
+                    check.visitToken(node);
+                } else {
+                    check.leaveToken(node);
+                }
+            }
+        }
+    }
+}
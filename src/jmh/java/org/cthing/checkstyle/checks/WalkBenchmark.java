@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+
+/**
+ * Benchmark of the C Thing checks alone. The input files are parsed once, before the benchmark is run, and each
+ * operation dispatches the parsed trees to the checks using a {@link CheckWalker}. Because parsing is excluded,
+ * the allocation reported by the GC profiler is the memory allocated by the checks, so a change that increases
+ * the allocation in a check is clearly visible. The inputs are the same as those of {@link CheckBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WalkBenchmark {
+
+    @Param({ "LogDeclaration", "SpringDaoAnnotation", "TestMethodDeclaration", "All", "CThingChecks" })
+    public String checks;
+
+    /**
+     * Input files to process. Either "fixtures" for the unit test fixtures or the name of a
+     * {@link SyntheticCorpus.Shape} for generated files of that shape.
+     */
+    @Param({ "fixtures", "DAO", "TEST", "FIELDS", "NESTED", "EXPRESSION" })
+    public String input;
+
+    private Path inputDir;
+    private DetailAST[] roots;
+    private FileContents[] contents;
+    private long nodesPerPass;
+    private CheckWalker walker;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, CheckstyleException {
+        this.inputDir = Files.createTempDirectory("cthing-checks-jmh");
+        final List<File> files = CheckBenchmark.createInput(this.input, this.inputDir);
+
+        this.roots = new DetailAST[files.size()];
+        this.contents = new FileContents[files.size()];
+        for (int i = 0; i < files.size(); i++) {
+            final FileText text = new FileText(files.get(i), StandardCharsets.UTF_8.name());
+            this.roots[i] = JavaParser.parseFileText(text, JavaParser.Options.WITHOUT_COMMENTS);
+            this.contents[i] = new FileContents(text);
+        }
+
+        this.nodesPerPass = CheckBenchmark.countNodes(files);
+        this.walker = new CheckWalker(createChecks(this.checks));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        CheckBenchmark.deleteInput(this.inputDir);
+    }
+
+    @Benchmark
+    public int walk(final CheckBenchmark.Processed processed) {
+        int violations = 0;
+        for (int i = 0; i < this.roots.length; i++) {
+            violations += this.walker.walk(this.roots[i], this.contents[i]);
+        }
+        processed.files += this.roots.length;
+        processed.nodes += this.nodesPerPass;
+        return violations;
+    }
+
+    /**
+     * Creates the specified checks.
+     *
+     * @param checkNames  Name of the check to create or "All" to create all the checks
+     * @return Checks in the order in which they are run.
+     */
+    static List<AbstractCheck> createChecks(final String checkNames) {
+        final List<AbstractCheck> checkList = new ArrayList<>();
+        if ("All".equals(checkNames) || "LogDeclaration".equals(checkNames)) {
+            checkList.add(new LogDeclarationCheck());
+        }
+        if ("All".equals(checkNames) || "SpringDaoAnnotation".equals(checkNames)) {
+            checkList.add(new SpringDaoAnnotationCheck());
+        }
+        if ("All".equals(checkNames) || "TestMethodDeclaration".equals(checkNames)) {
+            checkList.add(new TestMethodDeclarationCheck());
+        }
+        if ("CThingChecks".equals(checkNames)) {
+            checkList.add(new CThingChecksCheck());
+        }
+        if (checkList.isEmpty()) {
+            throw new IllegalArgumentException("Unknown check: " + checkNames);
+        }
+        return checkList;
+    }
+}
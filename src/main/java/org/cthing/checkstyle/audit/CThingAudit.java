@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.cthing.checkstyle.checks.LogDeclarationCheck;
+import org.cthing.checkstyle.checks.SpringDaoAnnotationCheck;
+import org.cthing.checkstyle.checks.TestMethodDeclarationCheck;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.TreeWalker;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+
+
+/**
+ * Runs a Checkstyle configuration over a set of files using multiple threads. Checkstyle's {@link Checker} is
+ * single threaded, so each thread runs its own, independently configured {@code Checker}. The files are divided
+ * into one batch per thread, balancing the total size of the files in each batch, and each thread audits its
+ * batch with a single call to {@link Checker#process(List)}. Each {@code Checker} therefore runs a single audit,
+ * and its listeners and file set checks see the start and end of the audit once. The violations reported by the
+ * threads are merged into the order in which a single {@code Checker} processing the same files would report
+ * them, so the result does not depend on the number of threads.
+ *
+ * <p>
+ * Each {@code Checker} maintains its own state, so configurations that share state between files, such as a
+ * cache file, are not supported. A file set check that relates several files sees only the files of its thread's
+ * batch.
+ * </p>
+ */
+public final class CThingAudit {
+
+    private static final String JAVA_EXTENSION = ".java";
+    private static final String CACHE_FILE_PROPERTY = "cacheFile";
+    private static final String BASEDIR_PROPERTY = "basedir";
+
+    /**
+     * Collects the violations reported by a {@code Checker}, and the first exception reported to it.
+     */
+    static final class Collector implements AuditListener {
+
+        private List<AuditEvent> events = new ArrayList<>();
+        private CheckstyleException exception;
+
+        /**
+         * Obtains the violations collected since the last call to this method.
+         *
+         * @return Violations in the order they were reported.
+         */
+        List<AuditEvent> takeEvents() {
+            final List<AuditEvent> taken = this.events;
+            this.events = new ArrayList<>();
+            return taken;
+        }
+
+        /**
+         * Throws the first exception reported since the last call to this method, if any. A file whose
+         * processing threw an exception must not be mistaken for a file without violations.
+         *
+         * @throws CheckstyleException if an exception was reported while processing a file
+         */
+        void throwException() throws CheckstyleException {
+            final CheckstyleException reported = this.exception;
+            this.exception = null;
+            if (reported != null) {
+                throw reported;
+            }
+        }
+
+        @Override
+        public void auditStarted(final AuditEvent event) {
+        }
+
+        @Override
+        public void auditFinished(final AuditEvent event) {
+        }
+
+        @Override
+        public void fileStarted(final AuditEvent event) {
+        }
+
+        @Override
+        public void fileFinished(final AuditEvent event) {
+        }
+
+        @Override
+        public void addError(final AuditEvent event) {
+            this.events.add(event);
+        }
+
+        @Override
+        public void addException(final AuditEvent event, final Throwable throwable) {
+            if (this.exception == null) {
+                this.exception = new CheckstyleException("Exception was thrown while processing "
+                                                                 + event.getFileName(), throwable);
+            }
+        }
+    }
+
+    private CThingAudit() {
+    }
+
+    /**
+     * Creates a configuration containing the C Thing checks with their default properties.
+     *
+     * @return Checker configuration containing a TreeWalker with the C Thing checks.
+     */
+    public static DefaultConfiguration createConfiguration() {
+        final DefaultConfiguration treeWalkerConfig = new DefaultConfiguration(TreeWalker.class.getName());
+        treeWalkerConfig.addChild(new DefaultConfiguration(LogDeclarationCheck.class.getName()));
+        treeWalkerConfig.addChild(new DefaultConfiguration(SpringDaoAnnotationCheck.class.getName()));
+        treeWalkerConfig.addChild(new DefaultConfiguration(TestMethodDeclarationCheck.class.getName()));
+
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("Checker");
+        checkerConfig.addProperty("charset", "UTF-8");
+        checkerConfig.addChild(treeWalkerConfig);
+        return checkerConfig;
+    }
+
+    /**
+     * Runs the C Thing checks, with their default properties, over the specified files.
+     *
+     * @param paths  Files to check. Directories are searched recursively for Java source files.
+     * @param threads  Number of threads to use. If less than 1, one thread per available processor is used.
+     * @return Violations in the order in which they would be reported by a single Checker.
+     * @throws CheckstyleException if the files could not be checked
+     */
+    public static List<AuditEvent> run(final Collection<Path> paths, final int threads) throws CheckstyleException {
+        return run(paths, createConfiguration(), threads);
+    }
+
+    /**
+     * Runs the specified configuration over the specified files. Files are processed in the order of their
+     * absolute pathnames.
+     *
+     * @param paths  Files to check. Directories are searched recursively for Java source files.
+     * @param config  Configuration of the Checker module to run (e.g. as loaded by Checkstyle's
+     *      {@code ConfigurationLoader})
+     * @param threads  Number of threads to use. If less than 1, one thread per available processor is used.
+     * @return Violations in the order in which they would be reported by a single Checker processing the files.
+     * @throws CheckstyleException if the files could not be checked
+     */
+    public static List<AuditEvent> run(final Collection<Path> paths, final Configuration config, final int threads)
+            throws CheckstyleException {
+        if (Arrays.asList(config.getPropertyNames()).contains(CACHE_FILE_PROPERTY)) {
+            throw new CheckstyleException("The " + CACHE_FILE_PROPERTY + " property is not supported by a "
+                                                  + "multi-threaded audit");
+        }
+
+        final List<File> files = collectFiles(paths);
+        if (files.isEmpty()) {
+            return List.of();
+        }
+
+        final int numThreads = Math.min(files.size(),
+                                        (threads < 1) ? Runtime.getRuntime().availableProcessors() : threads);
+        final List<List<File>> batches = createBatches(files, numThreads);
+
+        final String basedir = Arrays.asList(config.getPropertyNames()).contains(BASEDIR_PROPERTY)
+                               ? config.getProperty(BASEDIR_PROPERTY) : null;
+        final Map<File, List<AuditEvent>> eventsByFile = new HashMap<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            final List<Future<Map<File, List<AuditEvent>>>> futures = new ArrayList<>();
+            for (final List<File> batch : batches) {
+                futures.add(executor.submit(() -> audit(batch, config, basedir)));
+            }
+            for (final Future<Map<File, List<AuditEvent>>> future : futures) {
+                eventsByFile.putAll(future.get());
+            }
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof CheckstyleException checkstyleException) {
+                throw checkstyleException;
+            }
+            throw new CheckstyleException("Audit failed", cause);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CheckstyleException("Audit interrupted", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final List<AuditEvent> events = new ArrayList<>();
+        for (final File file : files) {
+            events.addAll(eventsByFile.getOrDefault(file, List.of()));
+        }
+        return events;
+    }
+
+    /**
+     * Divides the files into batches of similar total size. The largest remaining file is repeatedly assigned to
+     * the batch with the smallest total size, so that the threads finish at about the same time when file sizes
+     * vary.
+     *
+     * @param files  Files to divide
+     * @param numBatches  Number of batches to create
+     * @return Batches of files. Each batch is in the order of the files in the specified list.
+     */
+    static List<List<File>> createBatches(final List<File> files, final int numBatches) {
+        final long[] sizes = new long[files.size()];
+        final Integer[] bySize = new Integer[files.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = files.get(i).length();
+            bySize[i] = i;
+        }
+        Arrays.sort(bySize, Comparator.comparingLong((Integer i) -> sizes[i]).reversed());
+
+        final long[] batchSizes = new long[numBatches];
+        final List<List<Integer>> batchIndexes = new ArrayList<>(numBatches);
+        for (int i = 0; i < numBatches; i++) {
+            batchIndexes.add(new ArrayList<>());
+        }
+        for (final int fileIndex : bySize) {
+            int smallest = 0;
+            for (int i = 1; i < numBatches; i++) {
+                if (batchSizes[i] < batchSizes[smallest]) {
+                    smallest = i;
+                }
+            }
+            batchIndexes.get(smallest).add(fileIndex);
+            batchSizes[smallest] += sizes[fileIndex];
+        }
+
+        final List<List<File>> batches = new ArrayList<>(numBatches);
+        for (final List<Integer> indexes : batchIndexes) {
+            Collections.sort(indexes);
+            final List<File> batch = new ArrayList<>(indexes.size());
+            for (final int fileIndex : indexes) {
+                batch.add(files.get(fileIndex));
+            }
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Audits a batch of files with a single call to a newly configured {@code Checker}. The {@code Checker}
+     * reports the name of each file relative to its base directory, if one is configured, so the violations are
+     * attributed to the files of the batch by naming the files in the same way.
+     *
+     * @param batch  Files to process
+     * @param config  Configuration of the Checker module
+     * @param basedir  Base directory of the Checker module, or {@code null} if none is configured
+     * @return Violations reported for each file of the batch.
+     * @throws CheckstyleException if the Checker could not be configured, a file could not be processed or an
+     *      exception was reported while processing a file
+     */
+    private static Map<File, List<AuditEvent>> audit(final List<File> batch, final Configuration config,
+                                                     final String basedir) throws CheckstyleException {
+        final Collector collector = new Collector();
+        final Checker checker = new Checker();
+        try {
+            checker.setModuleClassLoader(CThingAudit.class.getClassLoader());
+            checker.configure(config);
+            checker.addListener(collector);
+            checker.process(batch);
+            collector.throwException();
+        } finally {
+            checker.destroy();
+        }
+
+        final Map<String, File> filesByName = new HashMap<>();
+        for (final File file : batch) {
+            filesByName.put(CommonUtil.relativizePath(basedir, file.getAbsolutePath()), file);
+        }
+        final Map<File, List<AuditEvent>> eventsByFile = new HashMap<>();
+        for (final AuditEvent event : collector.takeEvents()) {
+            final File file = filesByName.get(event.getFileName());
+            if (file == null) {
+                throw new CheckstyleException("Violation reported for a file not being processed: "
+                                                      + event.getFileName());
+            }
+            eventsByFile.computeIfAbsent(file, key -> new ArrayList<>()).add(event);
+        }
+        return eventsByFile;
+    }
+
+    /**
+     * Obtains the files to check, in order of their absolute pathnames.
+     *
+     * @param paths  Files and directories to check
+     * @return Files to check, without duplicates.
+     * @throws CheckstyleException if a directory could not be searched
+     */
+    static List<File> collectFiles(final Collection<Path> paths) throws CheckstyleException {
+        final Set<Path> files = new TreeSet<>();
+        for (final Path path : paths) {
+            final Path absolutePath = path.toAbsolutePath().normalize();
+            if (Files.isDirectory(absolutePath)) {
+                try (Stream<Path> tree = Files.walk(absolutePath)) {
+                    tree.filter(file -> Files.isRegularFile(file) && file.toString().endsWith(JAVA_EXTENSION))
+                        .forEach(files::add);
+                } catch (final IOException ex) {
+                    throw new CheckstyleException("Could not search " + path, ex);
+                }
+            } else {
+                files.add(absolutePath);
+            }
+        }
+
+        final List<File> fileList = new ArrayList<>(files.size());
+        for (final Path file : files) {
+            fileList.add(file.toFile());
+        }
+        return fileList;
+    }
+}
@@ -0,0 +1,610 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+
+/**
+ * Long running process that keeps configured {@link Checker}s warm, so that checking a few files costs neither
+ * JVM startup, configuration loading nor JIT compilation. Files can be checked by calling
+ * {@link #check(Collection)}, by clients connecting to a Unix domain socket (see {@link #listen(Path)}) or by
+ * watching directories for changes (see {@link #watch(Collection, Duration, WatchListener)}).
+ *
+ * <p>
+ * The socket protocol is line based and encoded in UTF-8. A client sends the absolute pathnames of the files to
+ * check, one per line, followed by an empty line or the end of its output. The daemon checks the files in order
+ * and, as each file is checked, writes one line per violation in the format of Checkstyle's plain output (e.g.
+ * {@code [ERROR] /src/Foo.java:12:5: Message. [LogDeclaration]}). The response ends with a line containing
+ * {@code END} and the number of violations, or {@code ERROR} and a description of the error if the files could not
+ * be checked. {@link #request(Path, Collection, PrintStream)} implements the client side of the protocol.
+ * </p>
+ *
+ * <p>
+ * On file systems supporting POSIX permissions, the socket file can only be read and written by its owner, so only
+ * the user running the daemon can request checks. A client that does not complete its request within the read
+ * timeout (see {@link #setReadTimeout(Duration)}) is disconnected. If the daemon can no longer accept connections
+ * or watch directories, the error is logged and the daemon is closed.
+ * </p>
+ *
+ * <p>
+ * The daemon can also be run from the command line:
+ * </p>
+ * <pre>
+ *     CheckDaemon serve [-c config.xml] socket
+ *     CheckDaemon check socket file...
+ *     CheckDaemon watch [-c config.xml] directory...
+ * </pre>
+ * Without a configuration file, the C Thing checks are run with their default properties. The {@code check}
+ * command exits with status 1 if there are violations and 2 if the files could not be checked.
+ */
+public final class CheckDaemon implements Closeable {
+
+    /** Default time that must pass without a change to a watched file before the changed files are checked. */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+    /** Default time within which a client must send its complete request. */
+    public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final System.Logger LOG = System.getLogger(CheckDaemon.class.getName());
+
+    private static final String END = "END";
+    private static final String ERROR = "ERROR";
+    private static final String JAVA_EXTENSION = ".java";
+    private static final String CHECK_SUFFIX = "Check";
+    private static final String CONFIG_OPTION = "-c";
+    private static final int EXIT_VIOLATIONS = 1;
+    private static final int EXIT_ERROR = 2;
+    private static final String POSIX_VIEW = "posix";
+    private static final String TEMP_SOCKET_NAME = "socket";
+
+    /**
+     * Receives the results of checking the files changed in a watched directory.
+     */
+    public interface WatchListener {
+
+        /**
+         * Called when changed files have been checked.
+         *
+         * @param files  Files that were checked, in order of their pathnames
+         * @param events  Violations found in the files
+         */
+        void filesChecked(List<Path> files, List<AuditEvent> events);
+
+        /**
+         * Called when changed files could not be checked.
+         *
+         * @param files  Files that were to be checked
+         * @param ex  Reason the files could not be checked
+         */
+        void checkFailed(List<Path> files, CheckstyleException ex);
+    }
+
+    /**
+     * Configured checker and the collector of its violations.
+     */
+    private static final class WarmChecker {
+        private final Checker checker = new Checker();
+        private final CThingAudit.Collector collector = new CThingAudit.Collector();
+
+        WarmChecker(final Configuration config) throws CheckstyleException {
+            this.checker.setModuleClassLoader(CheckDaemon.class.getClassLoader());
+            this.checker.configure(config);
+            this.checker.addListener(this.collector);
+        }
+
+        List<AuditEvent> process(final File file) throws CheckstyleException {
+            try {
+                this.checker.process(List.of(file));
+                this.collector.throwException();
+                return this.collector.takeEvents();
+            } catch (final CheckstyleException ex) {
+                this.collector.takeEvents();
+                throw ex;
+            }
+        }
+    }
+
+    private final List<WarmChecker> allCheckers = new ArrayList<>();
+    private final BlockingQueue<WarmChecker> idleCheckers = new LinkedBlockingQueue<>();
+    private final List<Closeable> resources = new CopyOnWriteArrayList<>();
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newCachedThreadPool(CheckDaemon::newThread);
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(CheckDaemon::newThread);
+    private Path socketPath;
+    private Duration readTimeout = DEFAULT_READ_TIMEOUT;
+
+    /**
+     * Creates a daemon running the C Thing checks with their default properties.
+     *
+     * @throws CheckstyleException if the checkers could not be configured
+     */
+    public CheckDaemon() throws CheckstyleException {
+        this(CThingAudit.createConfiguration(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a daemon running the specified configuration.
+     *
+     * @param config  Configuration of the Checker module to run (e.g. as loaded by Checkstyle's
+     *      {@code ConfigurationLoader})
+     * @param numCheckers  Number of checkers to keep warm, which is the number of requests that can be processed
+     *      concurrently
+     * @throws CheckstyleException if the checkers could not be configured
+     */
+    public CheckDaemon(final Configuration config, final int numCheckers) throws CheckstyleException {
+        for (int i = 0; i < Math.max(1, numCheckers); i++) {
+            final WarmChecker checker = new WarmChecker(config);
+            this.allCheckers.add(checker);
+            this.idleCheckers.add(checker);
+        }
+    }
+
+    /**
+     * Sets the time within which a client connected to the socket must send its complete request. A client that
+     * does not is disconnected, so that a stalled client does not hold a connection open. The default is
+     * {@link #DEFAULT_READ_TIMEOUT}.
+     *
+     * @param readTimeout  Time allowed to read a request
+     */
+    public void setReadTimeout(final Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Checks the specified files using a warm checker.
+     *
+     * @param paths  Files to check. Directories are searched recursively for Java source files.
+     * @return Violations in the order of the absolute pathnames of the files.
+     * @throws CheckstyleException if the files could not be checked
+     */
+    public List<AuditEvent> check(final Collection<Path> paths) throws CheckstyleException {
+        final List<File> files = CThingAudit.collectFiles(paths);
+        final WarmChecker checker = acquireChecker();
+        try {
+            final List<AuditEvent> events = new ArrayList<>();
+            for (final File file : files) {
+                events.addAll(checker.process(file));
+            }
+            return events;
+        } finally {
+            this.idleCheckers.add(checker);
+        }
+    }
+
+    /**
+     * Starts accepting requests on a Unix domain socket. Each connection is served on its own thread. The socket
+     * file is deleted when the daemon is closed.
+     *
+     * @param socket  Pathname of the socket. The file must not exist.
+     * @throws IOException if the socket could not be created
+     */
+    public void listen(final Path socket) throws IOException {
+        final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            bindPrivate(server, socket.toAbsolutePath());
+        } catch (final IOException ex) {
+            server.close();
+            throw ex;
+        }
+        this.socketPath = socket;
+        this.resources.add(server);
+        this.executor.execute(() -> accept(server));
+    }
+
+    /**
+     * Starts watching directories, and their subdirectories, for changed Java source files. Once no file has
+     * changed for the debounce time, the changed files are checked and the results passed to the listener. Saving
+     * a file typically produces several change events, which are therefore combined into a single check.
+     *
+     * @param dirs  Directories to watch
+     * @param debounce  Time that must pass without a change before the changed files are checked
+     * @param listener  Receives the results of checking the changed files
+     * @throws IOException if the directories could not be watched
+     */
+    public void watch(final Collection<Path> dirs, final Duration debounce, final WatchListener listener)
+            throws IOException {
+        final WatchService watchService = FileSystems.getDefault().newWatchService();
+        this.resources.add(watchService);
+        for (final Path dir : dirs) {
+            register(watchService, dir);
+        }
+        this.executor.execute(() -> watchChanges(watchService, debounce, listener));
+    }
+
+    /**
+     * Waits until the daemon is closed.
+     *
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public void awaitClose() throws InterruptedException {
+        this.closed.await();
+    }
+
+    /**
+     * Stops accepting requests and watching directories, deletes the socket file and releases the checkers.
+     *
+     * @throws IOException if the socket file could not be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed.getCount() == 0) {
+            return;
+        }
+        this.closed.countDown();
+
+        for (final Closeable resource : this.resources) {
+            resource.close();
+        }
+        this.executor.shutdownNow();
+        this.scheduler.shutdownNow();
+        if (this.socketPath != null) {
+            Files.deleteIfExists(this.socketPath);
+        }
+        for (final WarmChecker checker : this.allCheckers) {
+            checker.checker.destroy();
+        }
+    }
+
+    /**
+     * Sends files to a daemon listening on a Unix domain socket to be checked, and writes the violations to the
+     * output as they are received.
+     *
+     * @param socket  Pathname of the daemon's socket
+     * @param files  Files to check. Relative pathnames are resolved against the current directory.
+     * @param out  Receives the violations, one per line
+     * @return Number of violations.
+     * @throws IOException if the daemon could not be reached or could not check the files
+     */
+    public static int request(final Path socket, final Collection<Path> files, final PrintStream out)
+            throws IOException {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+            final Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            for (final Path file : files) {
+                writer.write(file.toAbsolutePath().toString());
+                writer.write('\n');
+            }
+            writer.write('\n');
+            writer.flush();
+
+            final BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.startsWith(END + ' ')) {
+                    return Integer.parseInt(line.substring(END.length() + 1));
+                }
+                if (line.startsWith(ERROR + ' ')) {
+                    throw new IOException(line.substring(ERROR.length() + 1));
+                }
+                out.println(line);
+            }
+            throw new IOException("Daemon closed the connection before completing the request");
+        }
+    }
+
+    /**
+     * Formats a violation in the format of Checkstyle's plain output.
+     *
+     * @param event  Violation to format
+     * @return Formatted violation.
+     */
+    static String format(final AuditEvent event) {
+        final StringBuilder buffer = new StringBuilder();
+        buffer.append('[').append(event.getSeverityLevel().getName().toUpperCase(Locale.ROOT)).append("] ")
+              .append(event.getFileName()).append(':').append(event.getLine());
+        if (event.getColumn() > 0) {
+            buffer.append(':').append(event.getColumn());
+        }
+        buffer.append(": ").append(event.getMessage()).append(" [");
+        if (event.getModuleId() == null) {
+            final String sourceName = event.getSourceName();
+            final String checkName = sourceName.substring(sourceName.lastIndexOf('.') + 1);
+            buffer.append(checkName.endsWith(CHECK_SUFFIX)
+                          ? checkName.substring(0, checkName.length() - CHECK_SUFFIX.length()) : checkName);
+        } else {
+            buffer.append(event.getModuleId());
+        }
+        return buffer.append(']').toString();
+    }
+
+    private WarmChecker acquireChecker() throws CheckstyleException {
+        try {
+            return this.idleCheckers.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CheckstyleException("Interrupted waiting for a checker", ex);
+        }
+    }
+
+    /**
+     * Binds a server to a socket that only its owner can connect to. The socket is created in a private directory
+     * and its permissions are set before it is linked to its pathname, so no other user can connect to the socket
+     * in the meantime. Linking fails, as binding does, if the pathname exists. File systems without POSIX
+     * permissions bind the socket in place.
+     */
+    private static void bindPrivate(final ServerSocketChannel server, final Path socket) throws IOException {
+        final Path dir = socket.getParent();
+        if (dir == null || !Files.getFileStore(dir).supportsFileAttributeView(POSIX_VIEW)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+            return;
+        }
+
+        final Path tempDir = Files.createTempDirectory(dir, ".cthing-check-daemon",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        final Path tempSocket = tempDir.resolve(TEMP_SOCKET_NAME);
+        try {
+            server.bind(UnixDomainSocketAddress.of(tempSocket));
+            Files.setPosixFilePermissions(tempSocket, PosixFilePermissions.fromString("rw-------"));
+            Files.createLink(socket, tempSocket);
+        } finally {
+            Files.deleteIfExists(tempSocket);
+            Files.delete(tempDir);
+        }
+    }
+
+    private void accept(final ServerSocketChannel server) {
+        try {
+            while (true) {
+                final SocketChannel channel = server.accept();
+                this.executor.execute(() -> serve(channel));
+            }
+        } catch (final ClosedChannelException ex) {
+            // The daemon has been closed
+        } catch (final IOException | RuntimeException ex) {
+            fail("Could not accept connection on " + this.socketPath, ex);
+        }
+    }
+
+    /**
+     * Handles an error that prevents the daemon from continuing to serve requests or watch directories. The error
+     * occurs on a thread of the daemon, so it is logged and the daemon is closed, which releases any thread
+     * waiting in {@link #awaitClose()}.
+     */
+    private void fail(final String message, final Exception cause) {
+        LOG.log(System.Logger.Level.ERROR, message, cause);
+        try {
+            close();
+        } catch (final IOException ex) {
+            LOG.log(System.Logger.Level.ERROR, "Could not close the daemon", ex);
+        }
+    }
+
+    /**
+     * Serves a single request. The violations in each file are written and flushed as soon as the file has been
+     * checked, so that the client can display them while the remaining files are checked.
+     */
+    private void serve(final SocketChannel channel) {
+        try (channel) {
+            // Closing the channel interrupts a read blocked on a client that stopped sending
+            final Future<?> deadline = this.scheduler.schedule(() -> {
+                channel.close();
+                return null;
+            }, this.readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            final BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            final List<Path> paths = new ArrayList<>();
+            for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+                paths.add(Path.of(line));
+            }
+            if (!deadline.cancel(false)) {
+                return;
+            }
+
+            final Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            int numViolations = 0;
+            try {
+                final List<File> files = CThingAudit.collectFiles(paths);
+                final WarmChecker checker = acquireChecker();
+                try {
+                    for (final File file : files) {
+                        for (final AuditEvent event : checker.process(file)) {
+                            writer.write(format(event));
+                            writer.write('\n');
+                            numViolations++;
+                        }
+                        writer.flush();
+                    }
+                } finally {
+                    this.idleCheckers.add(checker);
+                }
+                writer.write(END + ' ' + numViolations + '\n');
+            } catch (final CheckstyleException ex) {
+                writer.write(ERROR + ' ' + ex.getMessage().replace('\n', ' ') + '\n');
+            }
+            writer.flush();
+        } catch (final IOException | RejectedExecutionException ex) {
+            // The client has disconnected or taken too long, or the daemon has been closed
+        }
+    }
+
+    private void watchChanges(final WatchService watchService, final Duration debounce,
+                              final WatchListener listener) {
+        final Set<Path> changed = new TreeSet<>();
+        try {
+            while (true) {
+                final WatchKey key = changed.isEmpty()
+                                     ? watchService.take()
+                                     : watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    checkChanged(changed, listener);
+                    changed.clear();
+                    continue;
+                }
+
+                final Path dir = (Path)key.watchable();
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() != StandardWatchEventKinds.OVERFLOW) {
+                        final Path path = dir.resolve((Path)event.context());
+                        if (Files.isDirectory(path)) {
+                            register(watchService, path);
+                        } else if (path.toString().endsWith(JAVA_EXTENSION)) {
+                            changed.add(path);
+                        }
+                    }
+                }
+                key.reset();
+            }
+        } catch (final ClosedWatchServiceException | InterruptedException ex) {
+            // The daemon has been closed
+        } catch (final IOException | RuntimeException ex) {
+            fail("Could not watch new directory", ex);
+        }
+    }
+
+    private void checkChanged(final Set<Path> changed, final WatchListener listener) {
+        // Files can be deleted or renamed away after being changed (e.g. editor backup files)
+        final List<Path> files = new ArrayList<>();
+        for (final Path path : changed) {
+            if (Files.isRegularFile(path)) {
+                files.add(path);
+            }
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+
+        try {
+            listener.filesChecked(files, check(files));
+        } catch (final CheckstyleException ex) {
+            listener.checkFailed(files, ex);
+        }
+    }
+
+    private static Thread newThread(final Runnable task) {
+        final Thread thread = new Thread(task, "cthing-check-daemon");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void register(final WatchService watchService, final Path dir) throws IOException {
+        try (Stream<Path> tree = Files.walk(dir)) {
+            for (final Path subdir : (Iterable<Path>)tree.filter(Files::isDirectory)::iterator) {
+                subdir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+    }
+
+    /**
+     * Runs the daemon or its client from the command line.
+     *
+     * @param args  Command line arguments (see the class description)
+     * @throws Exception if the daemon could not be run
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 2) {
+            usage();
+            return;
+        }
+
+        final String command = args[0];
+        List<String> operands = Arrays.asList(args).subList(1, args.length);
+        Configuration config = CThingAudit.createConfiguration();
+        if (operands.size() > 2 && CONFIG_OPTION.equals(operands.get(0))) {
+            config = ConfigurationLoader.loadConfiguration(operands.get(1),
+                                                           new PropertiesExpander(System.getProperties()));
+            operands = operands.subList(2, operands.size());
+        }
+        final List<Path> paths = operands.stream().map(Path::of).toList();
+
+        switch (command) {
+            case "serve" -> {
+                // The daemon runs until the process is terminated, when the socket file is deleted
+                final CheckDaemon daemon = new CheckDaemon(config, Runtime.getRuntime().availableProcessors());
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        daemon.close();
+                    } catch (final IOException ex) {
+                        // Exiting anyway
+                    }
+                }));
+                daemon.listen(paths.get(0));
+                daemon.awaitClose();
+            }
+            case "check" -> {
+                try {
+                    if (request(paths.get(0), paths.subList(1, paths.size()), System.out) > 0) {
+                        System.exit(EXIT_VIOLATIONS);
+                    }
+                } catch (final IOException ex) {
+                    System.err.println(ex.getMessage());
+                    System.exit(EXIT_ERROR);
+                }
+            }
+            case "watch" -> {
+                try (CheckDaemon daemon = new CheckDaemon(config, 1)) {
+                    daemon.watch(paths, DEFAULT_DEBOUNCE, new WatchListener() {
+                        @Override
+                        public void filesChecked(final List<Path> files, final List<AuditEvent> events) {
+                            events.forEach(event -> System.out.println(format(event)));
+                            System.out.println("Checked " + files.size() + " file(s): " + events.size()
+                                                       + " violation(s)");
+                        }
+
+                        @Override
+                        public void checkFailed(final List<Path> files, final CheckstyleException ex) {
+                            System.err.println(ex.getMessage());
+                        }
+                    });
+                    daemon.awaitClose();
+                }
+            }
+            default -> usage();
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: CheckDaemon serve [-c config.xml] socket");
+        System.err.println("       CheckDaemon check socket file...");
+        System.err.println("       CheckDaemon watch [-c config.xml] directory...");
+    }
+}
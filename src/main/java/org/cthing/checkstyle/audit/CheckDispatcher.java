@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
+
+
+/**
+ * Dispatches the nodes of an already parsed tree to a set of configured checks, in the same way as the Checkstyle
+ * TreeWalker. Each check is registered for the tokens set by its {@code tokens} property or, if the property is
+ * not set, its default tokens. Unlike the TreeWalker, the dispatcher performs no parsing or filtering, so it can
+ * be used to run checks on trees parsed elsewhere (e.g. on another thread). A dispatcher is not thread safe.
+ */
+public final class CheckDispatcher {
+
+    private static final AbstractCheck[] NO_CHECKS = new AbstractCheck[0];
+
+    private final AbstractCheck[] checks;
+    private final AbstractCheck[][] checksByType;
+    private final boolean commentNodesRequired;
+
+    /**
+     * Creates a dispatcher for the specified checks.
+     *
+     * @param checks  Configured and initialized checks to which the nodes are dispatched
+     */
+    public CheckDispatcher(final List<AbstractCheck> checks) {
+        this.checks = checks.toArray(NO_CHECKS);
+
+        final List<List<AbstractCheck>> registered = new ArrayList<>();
+        boolean comments = false;
+        for (final AbstractCheck check : this.checks) {
+            for (final int type : getTokens(check)) {
+                while (registered.size() <= type) {
+                    registered.add(new ArrayList<>());
+                }
+                registered.get(type).add(check);
+            }
+            comments |= check.isCommentNodesRequired();
+        }
+
+        this.checksByType = new AbstractCheck[registered.size()][];
+        for (int type = 0; type < registered.size(); type++) {
+            this.checksByType[type] = registered.get(type).toArray(NO_CHECKS);
+        }
+        this.commentNodesRequired = comments;
+    }
+
+    /**
+     * Indicates whether any of the checks requires comment nodes in the tree.
+     *
+     * @return {@code true} if the tree must be parsed with comment nodes.
+     */
+    public boolean isCommentNodesRequired() {
+        return this.commentNodesRequired;
+    }
+
+    /**
+     * Runs the checks over the specified tree.
+     *
+     * @param root  Root of the tree
+     * @param contents  Contents of the file from which the tree was parsed
+     * @return Violations reported by the checks, in violation order.
+     */
+    public SortedSet<Violation> dispatch(final DetailAST root, final FileContents contents) {
+        for (final AbstractCheck check : this.checks) {
+            check.setFileContents(contents);
+            check.clearViolations();
+            check.beginTree(root);
+        }
+
+        for (DetailAST top = root; top != null; top = top.getNextSibling()) {
+            DetailAST node = top;
+            while (node != null) {
+                notify(node, true);
+                final DetailAST child = node.getFirstChild();
+                node = (child != null) ? child : leave(node, top);
+            }
+        }
+
+        final SortedSet<Violation> violations = new TreeSet<>();
+        for (final AbstractCheck check : this.checks) {
+            check.finishTree(root);
+            violations.addAll(check.getViolations());
+        }
+        return violations;
+    }
+
+    /**
+     * Leaves the specified node and any ancestors whose children have all been visited.
+     *
+     * @param leaf  Node with no children
+     * @param top  Top of the subtree being walked
+     * @return Next node to visit or {@code null} if the subtree has been walked.
+     */
+    private DetailAST leave(final DetailAST leaf, final DetailAST top) {
+        for (DetailAST node = leaf; node != null; node = node.getParent()) {
+            notify(node, false);
+            if (node == top) {
+                return null;
+            }
+            final DetailAST sibling = node.getNextSibling();
+            if (sibling != null) {
+                return sibling;
+            }
+        }
+        return null;
+    }
+
+    private void notify(final DetailAST node, final boolean visit) {
+        final int type = node.getType();
+        if (type < this.checksByType.length) {
+            for (final AbstractCheck check : this.checksByType[type]) {
+                if (visit) {
+                    check.visitToken(node);
+                } else {
+                    check.leaveToken(node);
+                }
+            }
+        }
+    }
+
+    private static int[] getTokens(final AbstractCheck check) {
+        if (check.getTokenNames().isEmpty()) {
+            return check.getDefaultTokens();
+        }
+        return check.getTokenNames().stream().mapToInt(TokenUtil::getTokenId).toArray();
+    }
+}
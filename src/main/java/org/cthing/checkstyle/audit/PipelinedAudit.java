@@ -0,0 +1,499 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.ModuleFactory;
+import com.puppycrawl.tools.checkstyle.PackageNamesLoader;
+import com.puppycrawl.tools.checkstyle.PackageObjectFactory;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+
+/**
+ * Audit engine that reads, parses and checks files in a three stage pipeline. The first stage reads and decodes
+ * files concurrently, the second stage parses the file contents into trees concurrently, and the third stage
+ * dispatches each tree to the checks. The stages are connected by bounded queues, so a fast stage waits for a
+ * slower one rather than accumulating files in memory. Because reading, parsing and checking overlap, the
+ * latency of reading files from slow storage (e.g. a network file system) is hidden behind the parsing and
+ * checking of files that have already been read.
+ *
+ * <p>
+ * On Java 21 and later, the stages run on virtual threads. On earlier versions, the stages run on a pool of
+ * platform threads. Each thread of the check stage has its own instances of the checks, created from the
+ * TreeWalker configuration passed to the constructor. Only checks are supported; TreeWalker filters and
+ * Checker level modules in the configuration are not run. Files that fail to parse abort the audit, as they do
+ * in a Checker that halts on exceptions.
+ * </p>
+ *
+ * <p>
+ * If a cache file is specified, the read stage hashes the contents of each file and answers the files whose
+ * contents have not changed since the previous audit from the cache, so that they are neither parsed nor checked.
+ * The contents that were hashed are decoded and passed to the parse stage, so each file is read only once.
+ * </p>
+ *
+ * <p>
+ * The violations are returned in the order of the files' absolute pathnames and, within each file, in violation
+ * order, which is the order in which a single Checker processing the same files reports them.
+ * </p>
+ */
+public final class PipelinedAudit {
+
+    /**
+     * File that has been read, with its position in the list of files to audit.
+     */
+    private static final class ReadFile {
+        private final int index;
+        private final FileText text;
+        private final byte[] hash;
+
+        ReadFile(final int index, final FileText text, final byte[] hash) {
+            this.index = index;
+            this.text = text;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * File that has been parsed, with its position in the list of files to audit.
+     */
+    private static final class ParsedFile {
+        private final int index;
+        private final FileText text;
+        private final byte[] hash;
+        private final DetailAST root;
+
+        ParsedFile(final ReadFile file, final DetailAST root) {
+            this.index = file.index;
+            this.text = file.text;
+            this.hash = file.hash;
+            this.root = root;
+        }
+    }
+
+    /**
+     * Work performed by a pipeline stage.
+     */
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    private static final ReadFile END_OF_READ_FILES = new ReadFile(-1, null, null);
+    private static final ParsedFile END_OF_PARSED_FILES = new ParsedFile(END_OF_READ_FILES, null);
+
+    private static final int VIRTUAL_THREADS_VERSION = 21;
+    private static final int DEFAULT_READ_THREADS = 16;
+    private static final int QUEUE_CAPACITY_PER_THREAD = 4;
+
+    private final Configuration treeWalkerConfig;
+    private final ModuleFactory moduleFactory;
+    private Charset charset = StandardCharsets.UTF_8;
+    private int readThreads = DEFAULT_READ_THREADS;
+    private int parseThreads = Runtime.getRuntime().availableProcessors();
+    private int checkThreads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity;
+    private Path cacheFile;
+    private int cacheHits;
+
+    /**
+     * Creates an engine that runs the C Thing checks with their default properties.
+     *
+     * @throws CheckstyleException if the checks cannot be found
+     */
+    public PipelinedAudit() throws CheckstyleException {
+        this(CThingAudit.createConfiguration().getChildren()[0]);
+    }
+
+    /**
+     * Creates an engine that runs the checks in the specified TreeWalker configuration.
+     *
+     * @param treeWalkerConfig  Configuration of a TreeWalker module whose children are the checks to run
+     * @throws CheckstyleException if the checks cannot be found
+     */
+    public PipelinedAudit(final Configuration treeWalkerConfig) throws CheckstyleException {
+        this.treeWalkerConfig = treeWalkerConfig;
+        final ClassLoader classLoader = PipelinedAudit.class.getClassLoader();
+        this.moduleFactory = new PackageObjectFactory(PackageNamesLoader.getPackageNames(classLoader), classLoader);
+    }
+
+    /**
+     * Sets the character set of the files. The default is UTF-8.
+     *
+     * @param charset  Name of the character set
+     */
+    public void setCharset(final String charset) {
+        this.charset = Charset.forName(charset);
+    }
+
+    /**
+     * Sets the number of files read concurrently. The default is 16.
+     *
+     * @param readThreads  Number of threads reading files
+     */
+    public void setReadThreads(final int readThreads) {
+        this.readThreads = Math.max(1, readThreads);
+    }
+
+    /**
+     * Sets the number of files parsed concurrently. The default is the number of available processors.
+     *
+     * @param parseThreads  Number of threads parsing files
+     */
+    public void setParseThreads(final int parseThreads) {
+        this.parseThreads = Math.max(1, parseThreads);
+    }
+
+    /**
+     * Sets the number of files checked concurrently. The default is the number of available processors.
+     *
+     * @param checkThreads  Number of threads running the checks
+     */
+    public void setCheckThreads(final int checkThreads) {
+        this.checkThreads = Math.max(1, checkThreads);
+    }
+
+    /**
+     * Sets the number of files that may wait in each queue between stages. The default is four times the number
+     * of threads in the stage consuming the queue.
+     *
+     * @param queueCapacity  Capacity of each queue
+     */
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    /**
+     * Sets the file in which the violations found in each file are cached between audits (see
+     * {@link ResultCache}). Files whose contents have not changed since they were last audited with the same
+     * configuration are not parsed or checked. By default, no cache is used.
+     *
+     * @param cacheFile  Cache file or {@code null} to not use a cache
+     */
+    public void setCacheFile(final Path cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * Obtains the number of files whose violations were obtained from the cache in the most recent audit.
+     *
+     * @return Number of files answered from the cache.
+     */
+    public int getCacheHits() {
+        return this.cacheHits;
+    }
+
+    /**
+     * Indicates whether the stages run on virtual threads.
+     *
+     * @return {@code true} if virtual threads are supported by the Java runtime.
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        return Runtime.version().feature() >= VIRTUAL_THREADS_VERSION;
+    }
+
+    /**
+     * Audits the specified files.
+     *
+     * @param paths  Files to check. Directories are searched recursively for Java source files.
+     * @return Violations in the order in which they would be reported by a single Checker.
+     * @throws CheckstyleException if the checks could not be created or a file could not be read or parsed
+     */
+    public List<AuditEvent> run(final Collection<Path> paths) throws CheckstyleException {
+        this.cacheHits = 0;
+        final List<File> files = CThingAudit.collectFiles(paths);
+        if (files.isEmpty()) {
+            return List.of();
+        }
+
+        final List<AbstractCheck> checks = createChecks();
+        final boolean comments = new CheckDispatcher(checks).isCommentNodesRequired();
+        final ResultCache cache = openCache(checks);
+        final AtomicInteger hits = new AtomicInteger();
+        final BlockingQueue<ReadFile> readQueue =
+                new ArrayBlockingQueue<>(capacity(this.parseThreads));
+        final BlockingQueue<ParsedFile> parsedQueue =
+                new ArrayBlockingQueue<>(capacity(this.checkThreads));
+        final List<SortedSet<Violation>> fileViolations = new ArrayList<>(Collections.nCopies(files.size(), null));
+        final AtomicInteger nextFile = new AtomicInteger();
+        final AtomicInteger activeReaders = new AtomicInteger(this.readThreads);
+        final AtomicInteger activeParsers = new AtomicInteger(this.parseThreads);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        final ExecutorService executor = createExecutor(this.readThreads + this.parseThreads + this.checkThreads);
+        try {
+            for (int i = 0; i < this.readThreads; i++) {
+                submit(executor, failure, () -> {
+                    try {
+                        for (int index = nextFile.getAndIncrement(); index < files.size();
+                             index = nextFile.getAndIncrement()) {
+                            final File file = files.get(index);
+                            final byte[] contents = Files.readAllBytes(file.toPath());
+                            if (cache == null) {
+                                readQueue.put(new ReadFile(index, decode(file, contents, this.charset), null));
+                            } else {
+                                final byte[] hash = ResultCache.hash(contents);
+                                final SortedSet<Violation> cached = cache.get(file.getAbsolutePath(), hash);
+                                if (cached == null) {
+                                    readQueue.put(new ReadFile(index, decode(file, contents, this.charset), hash));
+                                } else {
+                                    fileViolations.set(index, cached);
+                                    hits.incrementAndGet();
+                                }
+                            }
+                        }
+                    } finally {
+                        if (activeReaders.decrementAndGet() == 0) {
+                            for (int j = 0; j < this.parseThreads; j++) {
+                                readQueue.put(END_OF_READ_FILES);
+                            }
+                        }
+                    }
+                });
+            }
+
+            final JavaParser.Options options = comments ? JavaParser.Options.WITH_COMMENTS
+                                                        : JavaParser.Options.WITHOUT_COMMENTS;
+            for (int i = 0; i < this.parseThreads; i++) {
+                submit(executor, failure, () -> {
+                    try {
+                        for (ReadFile file = readQueue.take(); file != END_OF_READ_FILES; file = readQueue.take()) {
+                            final DetailAST root = JavaParser.parseFileText(file.text, options);
+                            parsedQueue.put(new ParsedFile(file, root));
+                        }
+                    } finally {
+                        if (activeParsers.decrementAndGet() == 0) {
+                            for (int j = 0; j < this.checkThreads; j++) {
+                                parsedQueue.put(END_OF_PARSED_FILES);
+                            }
+                        }
+                    }
+                });
+            }
+
+            for (int i = 0; i < this.checkThreads; i++) {
+                submit(executor, failure, () -> {
+                    final CheckDispatcher dispatcher = new CheckDispatcher(createChecks());
+                    for (ParsedFile file = parsedQueue.take(); file != END_OF_PARSED_FILES;
+                         file = parsedQueue.take()) {
+                        final SortedSet<Violation> violations =
+                                dispatcher.dispatch(file.root, new FileContents(file.text));
+                        fileViolations.set(file.index, violations);
+                        if (cache != null) {
+                            cache.put(file.text.getFile().getAbsolutePath(), file.hash, violations);
+                        }
+                    }
+                });
+            }
+
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (failure.get() != null) {
+                    executor.shutdownNow();
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CheckstyleException("Audit interrupted", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        this.cacheHits = hits.get();
+        if (cache != null) {
+            try {
+                cache.close();
+            } catch (final IOException ex) {
+                failure.compareAndSet(null, new CheckstyleException("Could not write cache file " + this.cacheFile,
+                                                                    ex));
+            }
+        }
+
+        final Throwable cause = failure.get();
+        if (cause != null) {
+            if (cause instanceof CheckstyleException checkstyleException) {
+                throw checkstyleException;
+            }
+            throw new CheckstyleException("Audit failed: " + cause.getMessage(), cause);
+        }
+
+        final List<AuditEvent> events = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            final String fileName = files.get(i).getAbsolutePath();
+            for (final Violation violation : fileViolations.get(i)) {
+                events.add(new AuditEvent(this, fileName, violation));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Creates a set of checks from the TreeWalker configuration.
+     *
+     * @return Configured and initialized checks.
+     * @throws CheckstyleException if a check could not be created or configured
+     */
+    private List<AbstractCheck> createChecks() throws CheckstyleException {
+        final List<AbstractCheck> checks = new ArrayList<>();
+        for (final Configuration checkConfig : this.treeWalkerConfig.getChildren()) {
+            final Object module = this.moduleFactory.createModule(checkConfig.getName());
+            if (!(module instanceof AbstractCheck)) {
+                throw new CheckstyleException(checkConfig.getName() + " is not a check");
+            }
+            final AbstractCheck check = AbstractCheck.class.cast(module);
+            check.configure(checkConfig);
+            check.init();
+            checks.add(check);
+        }
+        return checks;
+    }
+
+    /**
+     * Opens the cache file, if one has been specified.
+     *
+     * @param checks  Checks run by the audit
+     * @return Cache or {@code null} if no cache file has been specified.
+     * @throws CheckstyleException if the cache file could not be read
+     */
+    private ResultCache openCache(final List<AbstractCheck> checks) throws CheckstyleException {
+        if (this.cacheFile == null) {
+            return null;
+        }
+        final List<Class<?>> checkClasses = checks.stream().<Class<?>>map(Object::getClass).toList();
+        final String fingerprint = ResultCache.createFingerprint(this.treeWalkerConfig, checkClasses, this.charset);
+        try {
+            return ResultCache.open(this.cacheFile, fingerprint, PipelinedAudit.class.getClassLoader());
+        } catch (final IOException ex) {
+            throw new CheckstyleException("Could not read cache file " + this.cacheFile, ex);
+        }
+    }
+
+    /**
+     * Decodes the contents of a file into lines, in the same way as {@link FileText#FileText(File, String)}, so that
+     * a file hashed for the cache does not need to be read a second time. Malformed and unmappable input is replaced
+     * and the lines are separated by any of the line terminators recognized by {@link BufferedReader}.
+     *
+     * @param file  File whose contents are decoded
+     * @param contents  Contents of the file
+     * @param charset  Character set of the file
+     * @return Text of the file.
+     * @throws IOException if the contents could not be decoded
+     */
+    static FileText decode(final File file, final byte[] contents, final Charset charset) throws IOException {
+        final CharsetDecoder decoder = charset.newDecoder()
+                                              .onMalformedInput(CodingErrorAction.REPLACE)
+                                              .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final String fullText = decoder.decode(ByteBuffer.wrap(contents)).toString();
+
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(fullText))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+        return new FileText(file, lines);
+    }
+
+    private int capacity(final int consumerThreads) {
+        return (this.queueCapacity > 0) ? this.queueCapacity : consumerThreads * QUEUE_CAPACITY_PER_THREAD;
+    }
+
+    /**
+     * Runs a stage on the executor. If the stage fails, the failure is recorded and all stages are stopped.
+     */
+    private static void submit(final ExecutorService executor, final AtomicReference<Throwable> failure,
+                               final Stage stage) {
+        if (executor.isShutdown()) {
+            // An earlier stage has already failed
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    stage.run();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (final IOException ex) {
+                    failure.compareAndSet(null, new CheckstyleException("Could not read file: " + ex.getMessage(),
+                                                                        ex));
+                    executor.shutdownNow();
+                } catch (final Exception | Error ex) {
+                    failure.compareAndSet(null, ex);
+                    executor.shutdownNow();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            // The executor was shut down by a stage that failed after the check above
+        }
+    }
+
+    /**
+     * Creates an executor running each task on a new virtual thread, if virtual threads are available, or on a
+     * pool of platform threads. Virtual threads are created reflectively so that the library can be compiled for
+     * and run on Java 17.
+     *
+     * @param numTasks  Number of tasks that will be run concurrently
+     * @return Executor for the pipeline stages.
+     */
+    static ExecutorService createExecutor(final int numTasks) {
+        if (isVirtualThreadsAvailable()) {
+            try {
+                return ExecutorService.class.cast(Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                                                                .invoke(null));
+            } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+                // Fall back to platform threads
+            }
+        }
+        return Executors.newFixedThreadPool(numTasks);
+    }
+
+    /**
+     * Creates the TreeWalker configuration for the specified checks, for use with
+     * {@link #PipelinedAudit(Configuration)}.
+     *
+     * @param checkConfigs  Configurations of the checks
+     * @return TreeWalker configuration.
+     */
+    public static DefaultConfiguration createTreeWalkerConfig(final Configuration... checkConfigs) {
+        final DefaultConfiguration treeWalkerConfig = new DefaultConfiguration("TreeWalker");
+        for (final Configuration checkConfig : checkConfigs) {
+            treeWalkerConfig.addChild(checkConfig);
+        }
+        return treeWalkerConfig;
+    }
+}
@@ -0,0 +1,518 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+
+/**
+ * Persistent cache of the violations found in each file. An entry is keyed by the absolute pathname of a file and
+ * the SHA-256 hash of its contents, so a file whose contents have not changed since it was last audited is answered
+ * from the cache without being parsed or checked. The cache as a whole is tagged with a fingerprint of everything
+ * else that can affect the violations: the versions and code of Checkstyle and the checks, the check configuration,
+ * the character set and the locale. If the fingerprint of the cache file does not match the current fingerprint,
+ * the cache is discarded.
+ *
+ * <p>
+ * The cache file is append-only: the entries added during an audit are appended to the file when the cache is
+ * closed, and an entry for a file supersedes the earlier entries for the same file. When the superseded entries
+ * outnumber the current ones, the file is compacted by rewriting it with only the current entries of files that
+ * still exist. Each entry is protected by a checksum, so an entry truncated by an interrupted write is detected and
+ * removed by compaction. The cache is safe for use by multiple threads but the cache file must not be shared by
+ * concurrently running audits.
+ * </p>
+ */
+public final class ResultCache implements AutoCloseable {
+
+    private static final int MAGIC = 0x43544843;
+    private static final int FORMAT_VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int MIN_COMPACTION_RECORDS = 64;
+    private static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+    private static final String CUSTOM_MESSAGE = "{0}";
+    private static final String CLASS_EXTENSION = ".class";
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * Cached violation. A {@link Violation} does not expose its message arguments, so the formatted message is
+     * stored and the violation is recreated with the message as its custom message.
+     */
+    private static final class CachedViolation {
+        private final int lineNo;
+        private final int columnNo;
+        private final int columnCharIndex;
+        private final int tokenType;
+        private final SeverityLevel severityLevel;
+        private final String moduleId;
+        private final String key;
+        private final String message;
+        private final String sourceName;
+
+        CachedViolation(final Violation violation) {
+            this(violation.getLineNo(), violation.getColumnNo(), violation.getColumnCharIndex(),
+                 violation.getTokenType(), violation.getSeverityLevel(), violation.getModuleId(), violation.getKey(),
+                 violation.getViolation(), violation.getSourceName());
+        }
+
+        CachedViolation(final int lineNo, final int columnNo, final int columnCharIndex, final int tokenType,
+                        final SeverityLevel severityLevel, final String moduleId, final String key,
+                        final String message, final String sourceName) {
+            this.lineNo = lineNo;
+            this.columnNo = columnNo;
+            this.columnCharIndex = columnCharIndex;
+            this.tokenType = tokenType;
+            this.severityLevel = severityLevel;
+            this.moduleId = moduleId;
+            this.key = key;
+            this.message = message;
+            this.sourceName = sourceName;
+        }
+
+        Violation toViolation(final Class<?> sourceClass) {
+            return new Violation(this.lineNo, this.columnNo, this.columnCharIndex, this.tokenType, null, this.key,
+                                 new Object[] { this.message }, this.severityLevel, this.moduleId, sourceClass,
+                                 CUSTOM_MESSAGE);
+        }
+    }
+
+    /**
+     * Violations found in a file with given contents.
+     */
+    private static final class Entry {
+        private final byte[] hash;
+        private final CachedViolation[] violations;
+
+        Entry(final byte[] hash, final CachedViolation[] violations) {
+            this.hash = hash;
+            this.violations = violations;
+        }
+    }
+
+    private final Path cacheFile;
+    private final String fingerprint;
+    private final ClassLoader classLoader;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> sourceClasses = new ConcurrentHashMap<>();
+    private final List<byte[]> pendingRecords = new ArrayList<>();
+    private int storedRecords;
+    private boolean rewriteRequired;
+
+    private ResultCache(final Path cacheFile, final String fingerprint, final ClassLoader classLoader) {
+        this.cacheFile = cacheFile;
+        this.fingerprint = fingerprint;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Opens the specified cache file. If the file does not exist, was created with a different fingerprint or
+     * cannot be read as a cache, an empty cache is returned and the file is replaced when the cache is closed.
+     *
+     * @param cacheFile  Cache file
+     * @param fingerprint  Fingerprint of the configuration used to audit the files (see
+     *      {@link #createFingerprint(Configuration, Collection, Charset)})
+     * @param classLoader  Class loader used to load the checks that reported the cached violations
+     * @return Cache containing the entries in the file.
+     * @throws IOException if the cache file could not be read
+     */
+    public static ResultCache open(final Path cacheFile, final String fingerprint, final ClassLoader classLoader)
+            throws IOException {
+        final ResultCache cache = new ResultCache(cacheFile, fingerprint, classLoader);
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * Obtains the cached violations of the specified file.
+     *
+     * @param path  Absolute pathname of the file
+     * @param hash  Hash of the contents of the file (see {@link #hash(byte[])})
+     * @return Violations in the file, or {@code null} if the file with the specified contents is not in the
+     *      cache.
+     */
+    public SortedSet<Violation> get(final String path, final byte[] hash) {
+        final Entry entry = this.entries.get(path);
+        if (entry == null || !Arrays.equals(entry.hash, hash)) {
+            return null;
+        }
+
+        final SortedSet<Violation> violations = new TreeSet<>();
+        for (final CachedViolation violation : entry.violations) {
+            final Class<?> sourceClass = getSourceClass(violation.sourceName);
+            if (sourceClass == null) {
+                return null;
+            }
+            violations.add(violation.toViolation(sourceClass));
+        }
+        return violations;
+    }
+
+    /**
+     * Adds the violations of the specified file to the cache. The entry is written to the cache file when the
+     * cache is closed.
+     *
+     * @param path  Absolute pathname of the file
+     * @param hash  Hash of the contents of the file (see {@link #hash(byte[])})
+     * @param violations  Violations found in the file
+     */
+    public void put(final String path, final byte[] hash, final Collection<Violation> violations) {
+        final CachedViolation[] cached = violations.stream().map(CachedViolation::new)
+                                                   .toArray(CachedViolation[]::new);
+        final byte[] record;
+        try {
+            record = encode(path, hash, cached);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+
+        this.entries.put(path, new Entry(hash, cached));
+        synchronized (this.pendingRecords) {
+            this.pendingRecords.add(record);
+        }
+    }
+
+    /**
+     * Obtains the number of files in the cache.
+     *
+     * @return Number of cached files.
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Writes the entries added since the cache was opened to the cache file, compacting the file if most of its
+     * entries have been superseded.
+     *
+     * @throws IOException if the cache file could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        final List<byte[]> records;
+        synchronized (this.pendingRecords) {
+            records = new ArrayList<>(this.pendingRecords);
+            this.pendingRecords.clear();
+        }
+
+        final int totalRecords = this.storedRecords + records.size();
+        if (this.rewriteRequired
+                || (totalRecords >= MIN_COMPACTION_RECORDS && totalRecords > 2 * this.entries.size())) {
+            compact();
+        } else if (!records.isEmpty()) {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(this.cacheFile,
+                                                                                   StandardOpenOption.APPEND))) {
+                for (final byte[] record : records) {
+                    out.write(record);
+                }
+            }
+            this.storedRecords = totalRecords;
+        }
+    }
+
+    /**
+     * Calculates the hash of the contents of a file.
+     *
+     * @param contents  Contents of the file
+     * @return Hash of the contents.
+     */
+    public static byte[] hash(final byte[] contents) {
+        return newDigest().digest(contents);
+    }
+
+    /**
+     * Creates the fingerprint of an audit configuration. The fingerprint includes the versions of Checkstyle and
+     * this library, a hash of the code of the checks, so that a snapshot build with the same version is detected,
+     * the check configuration, the character set of the files and the default locale, which determines the
+     * language of the violation messages.
+     *
+     * @param config  Configuration of the TreeWalker whose checks audit the files
+     * @param checkClasses  Classes of the checks
+     * @param charset  Character set of the files
+     * @return Fingerprint of the configuration.
+     * @throws CheckstyleException if the configuration or the code of the checks could not be read
+     */
+    public static String createFingerprint(final Configuration config, final Collection<Class<?>> checkClasses,
+                                           final Charset charset) throws CheckstyleException {
+        final StringBuilder text = new StringBuilder();
+        text.append("checkstyle=").append(Checker.class.getPackage().getImplementationVersion()).append('\n')
+            .append("checks=").append(ResultCache.class.getPackage().getImplementationVersion()).append('\n')
+            .append("charset=").append(charset.name()).append('\n')
+            .append("locale=").append(Locale.getDefault()).append('\n');
+        appendConfiguration(text, config, 0);
+
+        final MessageDigest digest = newDigest();
+        digest.update(text.toString().getBytes(StandardCharsets.UTF_8));
+        final Set<Path> locations = new TreeSet<>();
+        for (final Class<?> checkClass : checkClasses) {
+            final Path location = getCodeLocation(checkClass);
+            if (location != null) {
+                locations.add(location);
+            }
+        }
+        try {
+            for (final Path location : locations) {
+                digestCode(digest, location);
+            }
+        } catch (final IOException ex) {
+            throw new CheckstyleException("Could not read the code of the checks: " + ex.getMessage(), ex);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void load() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !this.fingerprint.equals(in.readUTF())) {
+                this.rewriteRequired = true;
+                return;
+            }
+
+            final CRC32 crc = new CRC32();
+            while (true) {
+                final int length = readLength(in);
+                if (length < 0) {
+                    return;
+                }
+                final byte[] payload = new byte[length];
+                in.readFully(payload);
+                crc.reset();
+                crc.update(payload);
+                if (in.readInt() != (int)crc.getValue()) {
+                    this.rewriteRequired = true;
+                    return;
+                }
+                decode(payload);
+                this.storedRecords++;
+            }
+        } catch (final NoSuchFileException ex) {
+            this.rewriteRequired = true;
+        } catch (final EOFException | IllegalArgumentException ex) {
+            // Truncated or corrupt cache file
+            this.rewriteRequired = true;
+        }
+    }
+
+    /**
+     * Reads the length of the next record.
+     *
+     * @return Length of the record or -1 if the end of the file has been reached.
+     */
+    private int readLength(final DataInputStream in) throws IOException {
+        final int first = in.read();
+        if (first < 0) {
+            return -1;
+        }
+        final int length = (first << 24) | (in.readUnsignedByte() << 16) | (in.readUnsignedByte() << 8)
+                | in.readUnsignedByte();
+        if (length < 0 || length > MAX_RECORD_LENGTH) {
+            throw new IllegalArgumentException("Invalid record length " + length);
+        }
+        return length;
+    }
+
+    private void decode(final byte[] payload) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        final String path = in.readUTF();
+        final byte[] hash = new byte[in.readUnsignedByte()];
+        in.readFully(hash);
+        final CachedViolation[] violations = new CachedViolation[in.readInt()];
+        for (int i = 0; i < violations.length; i++) {
+            final int lineNo = in.readInt();
+            final int columnNo = in.readInt();
+            final int columnCharIndex = in.readInt();
+            final int tokenType = in.readInt();
+            final SeverityLevel severityLevel = SeverityLevel.getInstance(in.readUTF());
+            final String moduleId = in.readBoolean() ? in.readUTF() : null;
+            final String key = in.readUTF();
+            final String message = in.readUTF();
+            final String sourceName = in.readUTF();
+            violations[i] = new CachedViolation(lineNo, columnNo, columnCharIndex, tokenType, severityLevel,
+                                                moduleId, key, message, sourceName);
+        }
+        this.entries.put(path, new Entry(hash, violations));
+    }
+
+    private static byte[] encode(final String path, final byte[] hash, final CachedViolation[] violations)
+            throws IOException {
+        final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(payload);
+        out.writeUTF(path);
+        out.writeByte(hash.length);
+        out.write(hash);
+        out.writeInt(violations.length);
+        for (final CachedViolation violation : violations) {
+            out.writeInt(violation.lineNo);
+            out.writeInt(violation.columnNo);
+            out.writeInt(violation.columnCharIndex);
+            out.writeInt(violation.tokenType);
+            out.writeUTF(violation.severityLevel.getName());
+            out.writeBoolean(violation.moduleId != null);
+            if (violation.moduleId != null) {
+                out.writeUTF(violation.moduleId);
+            }
+            out.writeUTF(violation.key);
+            out.writeUTF(violation.message);
+            out.writeUTF(violation.sourceName);
+        }
+        out.flush();
+
+        final CRC32 crc = new CRC32();
+        crc.update(payload.toByteArray());
+        final ByteArrayOutputStream record = new ByteArrayOutputStream(payload.size() + 2 * Integer.BYTES);
+        final DataOutputStream recordOut = new DataOutputStream(record);
+        recordOut.writeInt(payload.size());
+        payload.writeTo(recordOut);
+        recordOut.writeInt((int)crc.getValue());
+        recordOut.flush();
+        return record.toByteArray();
+    }
+
+    /**
+     * Rewrites the cache file with the current entry of each file that still exists.
+     */
+    private void compact() throws IOException {
+        this.entries.keySet().removeIf(path -> !Files.exists(Path.of(path)));
+
+        final Path dir = this.cacheFile.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final Path tempFile = Files.createTempFile(dir, this.cacheFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(this.fingerprint);
+                for (final Map.Entry<String, Entry> entry : new TreeMap<>(this.entries).entrySet()) {
+                    out.write(encode(entry.getKey(), entry.getValue().hash, entry.getValue().violations));
+                }
+            }
+            Files.move(tempFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        this.storedRecords = this.entries.size();
+        this.rewriteRequired = false;
+    }
+
+    private Class<?> getSourceClass(final String sourceName) {
+        return this.sourceClasses.computeIfAbsent(sourceName, name -> {
+            try {
+                return Class.forName(name, false, this.classLoader);
+            } catch (final ClassNotFoundException ex) {
+                return null;
+            }
+        });
+    }
+
+    private static void appendConfiguration(final StringBuilder text, final Configuration config, final int depth)
+            throws CheckstyleException {
+        final String indent = "  ".repeat(depth);
+        text.append(indent).append(config.getName()).append('\n');
+        final String[] propertyNames = config.getPropertyNames().clone();
+        Arrays.sort(propertyNames);
+        for (final String name : propertyNames) {
+            text.append(indent).append("  ").append(name).append('=').append(config.getProperty(name)).append('\n');
+        }
+        for (final Map.Entry<String, String> message : new TreeMap<>(config.getMessages()).entrySet()) {
+            text.append(indent).append("  message.").append(message.getKey()).append('=')
+                .append(message.getValue()).append('\n');
+        }
+        for (final Configuration child : config.getChildren()) {
+            appendConfiguration(text, child, depth + 1);
+        }
+    }
+
+    private static Path getCodeLocation(final Class<?> cls) throws CheckstyleException {
+        final CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+        final URL location = (codeSource == null) ? null : codeSource.getLocation();
+        if (location == null || !"file".equals(location.getProtocol())) {
+            return null;
+        }
+        try {
+            return Path.of(location.toURI());
+        } catch (final URISyntaxException ex) {
+            throw new CheckstyleException("Invalid location of " + cls.getName() + ": " + location, ex);
+        }
+    }
+
+    /**
+     * Adds the code at the specified location, which is either a jar file or a directory of class files, to the
+     * digest.
+     */
+    private static void digestCode(final MessageDigest digest, final Path location) throws IOException {
+        digest.update(location.toString().getBytes(StandardCharsets.UTF_8));
+        if (Files.isRegularFile(location)) {
+            digestFile(digest, location);
+        } else if (Files.isDirectory(location)) {
+            final List<Path> classFiles;
+            try (Stream<Path> stream = Files.walk(location)) {
+                classFiles = stream.filter(path -> path.getFileName().toString().endsWith(CLASS_EXTENSION))
+                                   .sorted()
+                                   .toList();
+            }
+            for (final Path classFile : classFiles) {
+                digest.update(location.relativize(classFile).toString().getBytes(StandardCharsets.UTF_8));
+                digestFile(digest, classFile);
+            }
+        }
+    }
+
+    private static void digestFile(final MessageDigest digest, final Path file) throws IOException {
+        final byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+                digest.update(buffer, 0, count);
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException ex) {
+            // Every Java runtime is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+}
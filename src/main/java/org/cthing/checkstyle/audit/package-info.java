@@ -0,0 +1,9 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/**
+ * APIs for running the C Thing checks over large source trees.
+ */
+package org.cthing.checkstyle.audit;
@@ -4,10 +4,7 @@
  */
 package org.cthing.checkstyle.checks;
 
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
@@ -18,62 +15,230 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  */
 public final class ASTUtils {
 
+    private static final AnnotationDescriptor[] NO_ANNOTATIONS = new AnnotationDescriptor[0];
+
     private ASTUtils() {
     }
 
     /**
-     * Obtains the set of modifiers on the specified declaration.
+     * Obtains the set of modifiers on the specified declaration. Annotations are not considered modifiers.
      *
      * @param decl  Declaration whose modifiers are desired
-     * @return The set of modifiers on the specified declaration.
+     * @return Mask of the modifiers on the specified declaration (see {@link ModifierMask}).
      */
-    public static Set<Integer> findDeclModifiers(final DetailAST decl) {
-        final Set<Integer> modifierTypes = new HashSet<>();
-        final DetailAST modifiers = decl.findFirstToken(TokenTypes.MODIFIERS);
+    public static int findDeclModifierMask(final DetailAST decl) {
+        return getModifierMask(decl.findFirstToken(TokenTypes.MODIFIERS));
+    }
+
+    /**
+     * Obtains the set of modifiers in the specified modifiers node. Annotations are not considered modifiers.
+     *
+     * @param modifiers  Node of type {@link TokenTypes#MODIFIERS}. May be {@code null}.
+     * @return Mask of the modifiers (see {@link ModifierMask}).
+     */
+    static int getModifierMask(final DetailAST modifiers) {
+        int mask = ModifierMask.NONE;
         if (modifiers != null) {
             for (DetailAST modifier = modifiers.getFirstChild(); modifier != null; modifier = modifier.getNextSibling()) {
-                if (modifier.getType() != TokenTypes.ANNOTATION) {
-                    modifierTypes.add(modifier.getType());
+                final int type = modifier.getType();
+                if (type != TokenTypes.ANNOTATION) {
+                    mask |= ModifierMask.bit(type);
                 }
             }
         }
-        return modifierTypes;
+        return mask;
     }
 
     /**
-     * Recursively searches for a node of the specified type under the specified node.
+     * Obtains the set of modifiers on the specified declaration. This method allocates a new set on each call.
+     * Use {@link #findDeclModifierMask(DetailAST)} where performance matters.
+     *
+     * @param decl  Declaration whose modifiers are desired
+     * @return The set of modifiers on the specified declaration.
+     */
+    public static Set<Integer> findDeclModifiers(final DetailAST decl) {
+        return ModifierMask.toTokenTypes(findDeclModifierMask(decl));
+    }
+
+    /**
+     * Searches for a node of the specified type under the specified node. The search is performed depth first,
+     * starting with the specified node, and returns the first matching node encountered.
      *
      * @param node  Node under which to search for the specified type
      * @param type  Type of node to find
      * @return Node of the specified type or {@code null} if not found.
      */
     public static DetailAST findType(final DetailAST node, final int type) {
-        if (node.getType() == type) {
-            return node;
+        return findType(node, type, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Searches for a node of the specified type under the specified node, examining at most the specified
+     * number of nodes. The search is performed depth first, starting with the specified node, and returns the
+     * first matching node encountered. The search does not recurse and allocates no memory, so it can be used
+     * on arbitrarily deep trees.
+     *
+     * @param node  Node under which to search for the specified type
+     * @param type  Type of node to find
+     * @param maxNodes  Maximum number of nodes to examine before abandoning the search
+     * @return Node of the specified type or {@code null} if not found within the node budget.
+     */
+    public static DetailAST findType(final DetailAST node, final int type, final int maxNodes) {
+        int budget = maxNodes;
+        for (DetailAST current = node; (current != null) && (budget > 0); current = nextInSubtree(current, node)) {
+            if (current.getType() == type) {
+                return current;
+            }
+            budget--;
         }
-        return Stream.iterate(node.getFirstChild(), Objects::nonNull, DetailAST::getNextSibling)
-                     .map(child -> findType(child, type))
-                     .filter(Objects::nonNull)
-                     .findFirst()
-                     .orElse(null);
+        return null;
     }
 
     /**
-     * Recursively searches for a node containing the specified text. Comparison is case-sensitive.
+     * Searches for a node containing the specified text. Comparison is case-sensitive. The search is performed
+     * depth first, starting with the specified node, and returns the first matching node encountered.
      *
      * @param node  Starting node for the text search
      * @param text  Text to search for
      * @return Node containing the specified text or {@code null} if not found
      */
     public static DetailAST findText(final DetailAST node, final String text) {
-        if (text.equals(node.getText())) {
-            return node;
+        return findText(node, text, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Searches for a node containing the specified text, examining at most the specified number of nodes.
+     * Comparison is case-sensitive. The search is performed depth first, starting with the specified node, and
+     * returns the first matching node encountered. The search does not recurse and allocates no memory, so it
+     * can be used on arbitrarily deep trees.
+     *
+     * @param node  Starting node for the text search
+     * @param text  Text to search for
+     * @param maxNodes  Maximum number of nodes to examine before abandoning the search
+     * @return Node containing the specified text or {@code null} if not found within the node budget
+     */
+    public static DetailAST findText(final DetailAST node, final String text, final int maxNodes) {
+        int budget = maxNodes;
+        for (DetailAST current = node; (current != null) && (budget > 0); current = nextInSubtree(current, node)) {
+            if (text.equals(current.getText())) {
+                return current;
+            }
+            budget--;
+        }
+        return null;
+    }
+
+    /**
+     * Searches the subtree rooted at the specified node for the first node matching each of several targets
+     * in a single pass. A target is either text, compared case-sensitively with the text of each node, or a
+     * token type. The search is performed depth first, starting with the specified node, and stops as soon as
+     * every target has been matched. This is equivalent to, but cheaper than, calling
+     * {@link #findText(DetailAST, String)} and {@link #findType(DetailAST, int)} for each target.
+     *
+     * @param node  Node under which to search for the targets
+     * @param texts  Text targets to search for
+     * @param types  Token type targets to search for
+     * @return First matches for the targets, indexed by the position of each target in its array.
+     */
+    public static SubtreeMatches findFirst(final DetailAST node, final String[] texts, final int[] types) {
+        final SubtreeMatches matches = new SubtreeMatches(texts.length, types.length);
+        for (DetailAST current = node; (current != null) && !matches.isComplete(); current = nextInSubtree(current, node)) {
+            matches.match(current, texts, types);
+        }
+        return matches;
+    }
+
+    /**
+     * Counts the nodes of a tree. The root and each of its siblings, as for the root of a file, are counted along
+     * with their subtrees. The count does not recurse and allocates no memory.
+     *
+     * @param root  First top level node of the tree. May be {@code null}.
+     * @return Number of nodes in the tree.
+     */
+    static int countNodes(final DetailAST root) {
+        int count = 0;
+        for (DetailAST top = root; top != null; top = top.getNextSibling()) {
+            for (DetailAST node = top; node != null; node = nextInSubtree(node, top)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Obtains the node following the specified node in a depth first traversal of the subtree rooted at the
+     * specified root. The traversal follows the parent links in the tree rather than maintaining a stack.
+     *
+     * @param current  Node most recently visited in the traversal
+     * @param root  Root of the subtree being traversed
+     * @return Next node in the traversal or {@code null} if the entire subtree has been visited.
+     */
+    static DetailAST nextInSubtree(final DetailAST current, final DetailAST root) {
+        final DetailAST firstChild = current.getFirstChild();
+        if (firstChild != null) {
+            return firstChild;
+        }
+        for (DetailAST node = current; node != root; node = node.getParent()) {
+            final DetailAST sibling = node.getNextSibling();
+            if (sibling != null) {
+                return sibling;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Matches a qualified name in the source against the end of a name, without building the text of the
+     * qualified name.
+     *
+     * @param node  {@link TokenTypes#IDENT} or {@link TokenTypes#DOT} node of the qualified name
+     * @param name  Name to match
+     * @param end  Index in the name following the characters to be matched by the node
+     * @return Index in the name at which the match starts, or -1 if the node does not match.
+     */
+    static int matchQualifiedName(final DetailAST node, final String name, final int end) {
+        if (node.getType() == TokenTypes.DOT) {
+            final int start = matchQualifiedName(node.getLastChild(), name, end);
+            if (start <= 0 || name.charAt(start - 1) != '.') {
+                return -1;
+            }
+            return matchQualifiedName(node.getFirstChild(), name, start - 1);
+        }
+        final String text = node.getText();
+        final int start = end - text.length();
+        return (start >= 0 && name.regionMatches(start, text, 0, text.length())) ? start : -1;
+    }
+
+    /**
+     * Parses the annotations in the specified modifiers node into descriptors. The descriptors are created on
+     * each call. Checks should use {@link AstIndex#getAnnotations(DetailAST)} to obtain descriptors that are
+     * parsed once per file.
+     *
+     * @param modifiers  Node of type {@link TokenTypes#MODIFIERS}. May be {@code null}.
+     * @return Descriptors of the annotations in the order they appear in the source. Returns an empty array
+     *      if there are no annotations.
+     */
+    public static AnnotationDescriptor[] parseAnnotations(final DetailAST modifiers) {
+        int numAnnotations = 0;
+        if (modifiers != null) {
+            for (DetailAST modifier = modifiers.getFirstChild(); modifier != null; modifier = modifier.getNextSibling()) {
+                if (modifier.getType() == TokenTypes.ANNOTATION) {
+                    numAnnotations++;
+                }
+            }
+        }
+        if (numAnnotations == 0) {
+            return NO_ANNOTATIONS;
+        }
+
+        final AnnotationDescriptor[] annotations = new AnnotationDescriptor[numAnnotations];
+        int index = 0;
+        for (DetailAST modifier = modifiers.getFirstChild(); modifier != null; modifier = modifier.getNextSibling()) {
+            if (modifier.getType() == TokenTypes.ANNOTATION) {
+                annotations[index++] = AnnotationDescriptor.parse(modifier);
+            }
         }
-        return Stream.iterate(node.getFirstChild(), Objects::nonNull, DetailAST::getNextSibling)
-                     .map(child -> findText(child, text))
-                     .filter(Objects::nonNull)
-                     .findFirst()
-                     .orElse(null);
+        return annotations;
     }
 
     /**
@@ -97,9 +262,10 @@ public final class ASTUtils {
      *      class cannot be determined.
      */
     public static DetailAST findEnclosingClass(final DetailAST node) {
-        if ((node == null) || (node.getType() == TokenTypes.CLASS_DEF)) {
-            return node;
+        DetailAST current = node;
+        while ((current != null) && (current.getType() != TokenTypes.CLASS_DEF)) {
+            current = current.getParent();
         }
-        return findEnclosingClass(node.getParent());
+        return current;
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+
+
+/**
+ * Base class for the C Thing checks. Manages the per-file state shared by the checks, such as the
+ * {@link AstIndex}, and records the runtime metrics of the checks when metrics are enabled (see
+ * {@link MetricsRegistry}). Subclasses implement {@link #processToken(DetailAST)} rather than
+ * {@link #visitToken(DetailAST)} and report violations using {@link #report(int, String, Object...)} rather
+ * than {@code log}, so that a check run as a rule of {@link CThingChecksCheck} reports its violations through
+ * the composite check. Subclasses overriding {@link #beginTree(DetailAST)} or {@link #finishTree(DetailAST)}
+ * must call the superclass implementation.
+ */
+public abstract class AbstractCThingCheck extends AbstractCheck {
+
+    private static final String CHECK_SUFFIX = "Check";
+
+    private final DeclarationFacts facts = new DeclarationFacts();
+    private CheckMetrics metrics;
+    private AbstractCThingCheck reporter = this;
+    private AstIndex index;
+    private long fileInvocations;
+    private long fileNanos;
+    private long fileMaxNanos;
+
+    @Override
+    public void beginTree(final DetailAST rootAST) {
+        this.index = AstIndex.acquire(rootAST);
+        if (MetricsRegistry.ENABLED) {
+            this.fileInvocations = 0;
+            this.fileNanos = 0;
+            this.fileMaxNanos = 0;
+        }
+    }
+
+    @Override
+    public void finishTree(final DetailAST rootAST) {
+        if (this.index != null) {
+            if (MetricsRegistry.ENABLED && this.reporter == this) {
+                if (this.metrics == null) {
+                    this.metrics = MetricsRegistry.get(getCheckName());
+                }
+                // The nodes are counted by walking the tree rather than by the index, which is built only when
+                // a check queries it
+                this.metrics.recordFile(getFilePath(), this.fileInvocations, this.fileNanos, this.fileMaxNanos,
+                                        ASTUtils.countNodes(rootAST), getViolations());
+            }
+            this.index.release();
+            this.index = null;
+        }
+    }
+
+    @Override
+    public final void visitToken(final DetailAST ast) {
+        if (MetricsRegistry.ENABLED) {
+            final long start = System.nanoTime();
+            processToken(ast);
+            final long elapsed = System.nanoTime() - start;
+            this.fileInvocations++;
+            this.fileNanos += elapsed;
+            this.fileMaxNanos = Math.max(this.fileMaxNanos, elapsed);
+        } else {
+            processToken(ast);
+        }
+    }
+
+    /**
+     * Called to process a token of one of the types the check is registered for. This method is called by
+     * {@link #visitToken(DetailAST)}, which records the time spent in the method when metrics are enabled.
+     *
+     * @param ast  Token to process
+     */
+    protected abstract void processToken(DetailAST ast);
+
+    /**
+     * Reports a violation. The violation is logged by this check or, if the check is run as a rule of a composite
+     * check, by the composite check.
+     *
+     * @param line  Line number of the violation
+     * @param key  Key of the violation message in the message bundle
+     * @param args  Arguments of the message
+     */
+    protected final void report(final int line, final String key, final Object... args) {
+        this.reporter.log(line, key, args);
+    }
+
+    /**
+     * Sets the check through which the violations of this check are reported.
+     *
+     * @param composite  Composite check running this check as one of its rules
+     */
+    final void setReporter(final AbstractCThingCheck composite) {
+        this.reporter = composite;
+    }
+
+    /**
+     * Extracts the facts of a declaration in the file currently being processed. The returned object is reused
+     * for each declaration.
+     *
+     * @param decl  Class or method declaration
+     * @return Facts of the declaration.
+     */
+    final DeclarationFacts getFacts(final DetailAST decl) {
+        return this.facts.set(decl, this.index);
+    }
+
+    /**
+     * Obtains the index of the file currently being processed. The index is shared with the other C Thing
+     * checks processing the same file.
+     *
+     * @return Index of the current file.
+     */
+    protected final AstIndex getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Obtains the import table of the file currently being processed. The table is shared with the other C Thing
+     * checks processing the same file.
+     *
+     * @return Import table of the current file.
+     */
+    protected final ImportTable getImports() {
+        return this.index.getImports();
+    }
+
+    /**
+     * Obtains the name of the check as used in a Checkstyle configuration (e.g. {@code LogDeclaration}).
+     *
+     * @return Name of the check.
+     */
+    public final String getCheckName() {
+        final String name = getClass().getSimpleName();
+        return name.endsWith(CHECK_SUFFIX) ? name.substring(0, name.length() - CHECK_SUFFIX.length()) : name;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.puppycrawl.tools.checkstyle.AbstractAutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+
+/**
+ * Base class for the filters that restrict an audit to the changes in a unified diff. The diff is read and
+ * indexed (see {@link DiffIndex}) when the filter is configured. The index of a diff file is shared by all filters
+ * configured with the same file, base directory and strip count, such as a {@link ChangedFilesFilter} and a
+ * {@link ChangedLinesFilter} in the same configuration, or the filters of the Checkers of a multi-threaded audit.
+ * The file is read again if it has been modified since it was indexed.
+ */
+public abstract class AbstractDiffFilter extends AbstractAutomaticBean {
+
+    private static final int DEFAULT_STRIP = 1;
+
+    /** Most recently read index of each diff file, keyed by the absolute pathname of the file. */
+    private static final Map<Path, SharedIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * Index of a diff file, together with the parameters and the state of the file from which it was created.
+     *
+     * @param baseDir  Absolute directory against which the pathnames in the diff were resolved
+     * @param strip  Number of leading components removed from the pathnames
+     * @param modified  Last modification time of the file when it was read
+     * @param size  Size of the file when it was read
+     * @param index  Index of the diff
+     */
+    private record SharedIndex(Path baseDir, int strip, FileTime modified, long size, DiffIndex index) {
+
+        boolean isCurrent(final Path dir, final int stripCount, final BasicFileAttributes attributes) {
+            return this.baseDir.equals(dir) && this.strip == stripCount
+                    && this.modified.equals(attributes.lastModifiedTime()) && this.size == attributes.size();
+        }
+    }
+
+    private Path diffFile;
+    private Path baseDir = Path.of("");
+    private int strip = DEFAULT_STRIP;
+    private DiffIndex index;
+
+    /**
+     * Sets the unified diff file (e.g. as written by {@code git diff > changes.diff}). This property is
+     * required.
+     *
+     * @param file  Pathname of the diff file
+     */
+    public void setFile(final String file) {
+        this.diffFile = Path.of(file);
+    }
+
+    /**
+     * Sets the directory against which the pathnames in the diff are resolved. The default is the current
+     * directory, which is the root of the repository when the audit is run from there. Relative file names
+     * reported by the Checker are resolved against the same directory, so if the {@code basedir} property of the
+     * Checker is set, this directory must be the Checker's base directory.
+     *
+     * @param baseDir  Pathname of the directory
+     */
+    public void setBaseDir(final String baseDir) {
+        this.baseDir = Path.of(baseDir);
+    }
+
+    /**
+     * Sets the number of leading components removed from the pathnames in the diff, as for the {@code -p} option
+     * of {@code patch}. The default is 1, which removes the {@code a/} and {@code b/} prefixes of a Git diff.
+     *
+     * @param strip  Number of components to remove
+     */
+    public void setStrip(final int strip) {
+        this.strip = strip;
+    }
+
+    @Override
+    protected void finishLocalSetup() throws CheckstyleException {
+        if (this.diffFile == null) {
+            throw new CheckstyleException("The file property of " + getClass().getSimpleName() + " must be set");
+        }
+        try {
+            this.index = readShared(this.diffFile.toAbsolutePath().normalize(),
+                                    this.baseDir.toAbsolutePath().normalize(), this.strip);
+        } catch (final IOException ex) {
+            throw new CheckstyleException("Could not read diff " + this.diffFile, ex);
+        }
+    }
+
+    /**
+     * Obtains the index of a diff file, reading the file only if it has not already been indexed with the same
+     * parameters or has been modified since.
+     */
+    private static DiffIndex readShared(final Path file, final Path dir, final int stripCount) throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        try {
+            return INDEXES.compute(file, (path, shared) -> {
+                if (shared != null && shared.isCurrent(dir, stripCount, attributes)) {
+                    return shared;
+                }
+                try {
+                    return new SharedIndex(dir, stripCount, attributes.lastModifiedTime(), attributes.size(),
+                                           DiffIndex.read(path, dir, stripCount));
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }).index();
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Obtains the index of the diff.
+     *
+     * @return Index of the changes in the diff.
+     */
+    protected final DiffIndex getIndex() {
+        return this.index;
+    }
+}
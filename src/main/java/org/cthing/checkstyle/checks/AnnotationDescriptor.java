@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FullIdent;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+
+/**
+ * Compact description of an annotation applied to a declaration. The descriptor records the name of the
+ * annotation and the literal value of each of its members, so that questions such as "is the method annotated
+ * {@literal @}Transactional(readOnly = true)" can be answered without walking the annotation subtree. Use
+ * {@link ASTUtils#parseAnnotations(DetailAST)} to create descriptors, or {@link AstIndex#getAnnotations(DetailAST)}
+ * to obtain cached descriptors for the file being checked.
+ */
+public final class AnnotationDescriptor {
+
+    /** Name of the member whose value is specified by a single element annotation (e.g. {@code @Foo("bar")}). */
+    public static final String VALUE_MEMBER = "value";
+
+    private static final String[] NO_MEMBERS = new String[0];
+
+    private final DetailAST node;
+    private final String simpleName;
+    private final String qualifiedName;
+    private final String[] memberNames;
+    private final String[] memberValues;
+
+    private AnnotationDescriptor(final DetailAST node, final String simpleName, final String qualifiedName,
+                                 final String[] memberNames, final String[] memberValues) {
+        this.node = node;
+        this.simpleName = simpleName;
+        this.qualifiedName = qualifiedName;
+        this.memberNames = memberNames;
+        this.memberValues = memberValues;
+    }
+
+    /**
+     * Creates a descriptor for the specified annotation node.
+     *
+     * @param annotation  Node of type {@link TokenTypes#ANNOTATION}
+     * @return Descriptor for the annotation.
+     */
+    static AnnotationDescriptor parse(final DetailAST annotation) {
+        String simpleName = "";
+        String qualifiedName = "";
+        int numMembers = 0;
+
+        for (DetailAST child = annotation.getFirstChild(); child != null; child = child.getNextSibling()) {
+            final int type = child.getType();
+            if (type == TokenTypes.IDENT) {
+                simpleName = child.getText();
+                qualifiedName = simpleName;
+            } else if (type == TokenTypes.DOT) {
+                qualifiedName = FullIdent.createFullIdent(child).getText();
+                simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+            } else if (isMember(child)) {
+                numMembers++;
+            }
+        }
+
+        String[] names = NO_MEMBERS;
+        String[] values = NO_MEMBERS;
+        if (numMembers > 0) {
+            names = new String[numMembers];
+            values = new String[numMembers];
+            int index = 0;
+            for (DetailAST child = annotation.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child.getType() == TokenTypes.ANNOTATION_MEMBER_VALUE_PAIR) {
+                    names[index] = ASTUtils.getIdent(child);
+                    values[index] = findLiteral(child);
+                    index++;
+                } else if (isMember(child)) {
+                    names[index] = VALUE_MEMBER;
+                    values[index] = findLiteral(child);
+                    index++;
+                }
+            }
+        }
+
+        return new AnnotationDescriptor(annotation, simpleName, qualifiedName, names, values);
+    }
+
+    /**
+     * Obtains the annotation node described by this descriptor.
+     *
+     * @return Annotation node.
+     */
+    public DetailAST getNode() {
+        return this.node;
+    }
+
+    /**
+     * Obtains the simple name of the annotation (e.g. {@code Transactional}).
+     *
+     * @return Simple name of the annotation.
+     */
+    public String getSimpleName() {
+        return this.simpleName;
+    }
+
+    /**
+     * Obtains the name of the annotation as written in the source. If the annotation is written using its
+     * fully qualified name (e.g. {@code org.springframework.transaction.annotation.Transactional}), that name is
+     * returned. Otherwise, the simple name is returned.
+     *
+     * @return Name of the annotation as written in the source.
+     */
+    public String getQualifiedName() {
+        return this.qualifiedName;
+    }
+
+    /**
+     * Indicates whether this annotation has the specified name.
+     *
+     * @param name  Simple or qualified name of an annotation
+     * @return {@code true} if the specified name matches either the simple or qualified name of this annotation.
+     */
+    public boolean hasName(final String name) {
+        return this.simpleName.equals(name) || this.qualifiedName.equals(name);
+    }
+
+    /**
+     * Indicates whether the annotation specifies the named member.
+     *
+     * @param name  Name of the annotation member
+     * @return {@code true} if the member is specified on the annotation.
+     */
+    public boolean hasMember(final String name) {
+        return indexOfMember(name) >= 0;
+    }
+
+    /**
+     * Obtains the literal value of the specified annotation member. The value is the text of the first literal
+     * in the member value expression (e.g. {@code true} for {@code readOnly = true}). String and character
+     * literals include their quotes.
+     *
+     * @param name  Name of the annotation member
+     * @return Literal value of the member or {@code null} if the member is not specified or its value does not
+     *      contain a literal.
+     */
+    public String getMemberValue(final String name) {
+        final int index = indexOfMember(name);
+        return (index < 0) ? null : this.memberValues[index];
+    }
+
+    /**
+     * Locates the annotation with the specified name.
+     *
+     * @param annotations  Annotations to search
+     * @param name  Simple or qualified name of the annotation to find
+     * @return Descriptor of the first annotation with the specified name or {@code null} if there is no such
+     *      annotation.
+     */
+    public static AnnotationDescriptor find(final AnnotationDescriptor[] annotations, final String name) {
+        for (final AnnotationDescriptor annotation : annotations) {
+            if (annotation.hasName(name)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private int indexOfMember(final String name) {
+        for (int i = 0; i < this.memberNames.length; i++) {
+            if (this.memberNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isMember(final DetailAST child) {
+        final int type = child.getType();
+        return (type == TokenTypes.ANNOTATION_MEMBER_VALUE_PAIR)
+                || (type == TokenTypes.EXPR)
+                || (type == TokenTypes.ANNOTATION_ARRAY_INIT)
+                || (type == TokenTypes.ANNOTATION);
+    }
+
+    private static String findLiteral(final DetailAST member) {
+        for (DetailAST node = member; node != null; node = ASTUtils.nextInSubtree(node, member)) {
+            switch (node.getType()) {
+                case TokenTypes.LITERAL_TRUE:
+                case TokenTypes.LITERAL_FALSE:
+                case TokenTypes.LITERAL_NULL:
+                case TokenTypes.STRING_LITERAL:
+                case TokenTypes.CHAR_LITERAL:
+                case TokenTypes.NUM_INT:
+                case TokenTypes.NUM_LONG:
+                case TokenTypes.NUM_FLOAT:
+                case TokenTypes.NUM_DOUBLE:
+                case TokenTypes.TEXT_BLOCK_CONTENT:
+                    return node.getText();
+                default:
+                    break;
+            }
+        }
+        return null;
+    }
+}
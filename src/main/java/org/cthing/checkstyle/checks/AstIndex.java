@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+
+/**
+ * Per-file index of the AST by token type and by identifier. The index allows a check to find, for example,
+ * all variable declarations or all occurrences of an identifier in time proportional to the number of
+ * results rather than the size of the tree. Both are built together, in a single traversal of the tree, the first
+ * time either is queried. The index also caches other information derived from the tree, such as the parsed
+ * annotations of each declaration and the imports of the file, each of which is derived the first time it is
+ * requested.
+ *
+ * <p>
+ * Checks obtain the index for the file being processed by calling {@link #acquire(DetailAST)} from their
+ * {@code beginTree} method and must call {@link #release()} from their {@code finishTree} method. All checks
+ * processing the same tree on the same thread share a single index, whose contents are discarded when the last
+ * check releases it. Checks are expected to extend {@link AbstractCThingCheck}, which manages the index.
+ * </p>
+ *
+ * <p>
+ * The arrays returned by the query methods are owned by the index and must not be modified.
+ * </p>
+ */
+public final class AstIndex {
+
+    private static final ThreadLocal<AstIndex> CURRENT = new ThreadLocal<>();
+
+    private static final DetailAST[] NO_NODES = new DetailAST[0];
+
+    private static final int INITIAL_TYPE_CAPACITY = 256;
+
+    private static final int INITIAL_NODE_CAPACITY = 8;
+
+    private static final Comparator<DetailAST> BY_TEXT = Comparator.comparing(DetailAST::getText);
+
+    private final DetailAST root;
+    private int users;
+    private DetailAST[][] nodesByType;
+    private Map<String, DetailAST[]> nodesByIdent;
+    private Map<DetailAST, AnnotationDescriptor[]> annotationsByModifiers;
+    private ImportTable imports;
+
+    private AstIndex(final DetailAST root) {
+        this.root = root;
+    }
+
+    /**
+     * Obtains the index for the specified tree, creating it if the tree is not the one currently indexed on
+     * this thread. Each call must be balanced by a call to {@link #release()}.
+     *
+     * @param root  Root of the tree being processed. May be {@code null} for a file with no content.
+     * @return Index for the specified tree. Nothing is derived from the tree until the index is first queried.
+     */
+    public static AstIndex acquire(final DetailAST root) {
+        AstIndex index = CURRENT.get();
+        if ((index == null) || (index.root != root)) {
+            index = new AstIndex(root);
+            CURRENT.set(index);
+        }
+        index.users++;
+        return index;
+    }
+
+    /**
+     * Releases this index. When the last user of the index has released it, the index contents are discarded
+     * so that memory use does not grow with the number of files processed.
+     */
+    public void release() {
+        this.users--;
+        if (this.users <= 0) {
+            this.nodesByType = null;
+            this.nodesByIdent = null;
+            this.annotationsByModifiers = null;
+            this.imports = null;
+            if (CURRENT.get() == this) {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Obtains all nodes of the specified token type in document order.
+     *
+     * @param type  Token type of the nodes to obtain
+     * @return Nodes of the specified type. Returns an empty array if there are no nodes of the specified type.
+     */
+    public DetailAST[] getTokens(final int type) {
+        build();
+        return ((type >= 0) && (type < this.nodesByType.length)) ? this.nodesByType[type] : NO_NODES;
+    }
+
+    /**
+     * Obtains all identifier nodes with the specified text in document order.
+     *
+     * @param name  Identifier text
+     * @return Identifier nodes with the specified text. Returns an empty array if the identifier does not
+     *      appear in the tree.
+     */
+    public DetailAST[] getIdents(final String name) {
+        build();
+        return this.nodesByIdent.getOrDefault(name, NO_NODES);
+    }
+
+    /**
+     * Indicates whether the specified identifier appears anywhere in the tree.
+     *
+     * @param name  Identifier text
+     * @return {@code true} if the tree contains an identifier with the specified text.
+     */
+    public boolean hasIdent(final String name) {
+        return getIdents(name).length > 0;
+    }
+
+    /**
+     * Obtains descriptors of the annotations in the specified modifiers node. The annotations are parsed the
+     * first time they are requested and cached, by node identity, until the index is released.
+     *
+     * @param modifiers  Node of type {@link TokenTypes#MODIFIERS}. May be {@code null}.
+     * @return Descriptors of the annotations in the order they appear in the source. Returns an empty array
+     *      if there are no annotations.
+     */
+    public AnnotationDescriptor[] getAnnotations(final DetailAST modifiers) {
+        if (modifiers == null) {
+            return ASTUtils.parseAnnotations(null);
+        }
+        if (this.annotationsByModifiers == null) {
+            this.annotationsByModifiers = new IdentityHashMap<>();
+        }
+        return this.annotationsByModifiers.computeIfAbsent(modifiers, ASTUtils::parseAnnotations);
+    }
+
+    /**
+     * Obtains the import table of the file. The table is built the first time it is requested.
+     *
+     * @return Import table of the file.
+     */
+    public ImportTable getImports() {
+        if (this.imports == null) {
+            this.imports = ImportTable.build(this.root);
+        }
+        return this.imports;
+    }
+
+    /**
+     * Indexes the tree by token type and by identifier, if it has not already been indexed. The tree is traversed
+     * once, appending each node to the array for its type. The arrays are then trimmed to size and the identifier
+     * nodes are grouped by their text.
+     */
+    private void build() {
+        if (this.nodesByType != null) {
+            return;
+        }
+
+        DetailAST[][] byType = new DetailAST[INITIAL_TYPE_CAPACITY][];
+        int[] counts = new int[INITIAL_TYPE_CAPACITY];
+        for (DetailAST top = this.root; top != null; top = top.getNextSibling()) {
+            for (DetailAST node = top; node != null; node = ASTUtils.nextInSubtree(node, top)) {
+                final int type = node.getType();
+                if (type >= byType.length) {
+                    final int capacity = Math.max(type + 1, byType.length * 2);
+                    byType = Arrays.copyOf(byType, capacity);
+                    counts = Arrays.copyOf(counts, capacity);
+                }
+                DetailAST[] nodes = byType[type];
+                if (nodes == null) {
+                    nodes = new DetailAST[INITIAL_NODE_CAPACITY];
+                    byType[type] = nodes;
+                } else if (counts[type] == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodes.length * 2);
+                    byType[type] = nodes;
+                }
+                nodes[counts[type]++] = node;
+            }
+        }
+
+        for (int type = 0; type < byType.length; type++) {
+            final DetailAST[] nodes = byType[type];
+            if (nodes == null) {
+                byType[type] = NO_NODES;
+            } else if (counts[type] < nodes.length) {
+                byType[type] = Arrays.copyOf(nodes, counts[type]);
+            }
+        }
+
+        this.nodesByType = byType;
+        this.nodesByIdent = buildIdentIndex(byType[TokenTypes.IDENT]);
+    }
+
+    /**
+     * Groups identifier nodes by their text. The nodes are stably sorted by text, so that the nodes with the same
+     * text are adjacent and remain in document order, and each run of nodes is copied into the array for its text.
+     *
+     * @param idents  Identifier nodes in document order
+     * @return Identifier nodes, in document order, keyed by their text.
+     */
+    private static Map<String, DetailAST[]> buildIdentIndex(final DetailAST[] idents) {
+        final DetailAST[] sorted = idents.clone();
+        Arrays.sort(sorted, BY_TEXT);
+
+        final Map<String, DetailAST[]> byIdent = new HashMap<>();
+        int start = 0;
+        for (int i = 1; i <= sorted.length; i++) {
+            if ((i == sorted.length) || !sorted[i].getText().equals(sorted[start].getText())) {
+                byIdent.put(sorted[start].getText(), Arrays.copyOfRange(sorted, start, i));
+                start = i;
+            }
+        }
+        return byIdent;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+
+/**
+ * Runs the C Thing checks as the rules of a single check. When the checks are configured separately, the
+ * TreeWalker dispatches each class and method declaration to each of them, and each extracts the modifiers, name
+ * and annotations of the declaration. This check is dispatched each declaration once, extracts its facts once
+ * (see {@link DeclarationFacts}) and evaluates all the enabled rules using those facts.
+ *
+ * <p>
+ * The rules are {@link LogDeclarationCheck}, {@link SpringDaoAnnotationCheck} and
+ * {@link TestMethodDeclarationCheck}. Each rule is enabled by default and can be disabled using the property
+ * named after the rule (e.g. {@code springDaoAnnotation}). The properties of a rule are set using the names of
+ * the properties of its check, prefixed by the name of the rule (e.g. {@code springDaoAnnotationIncludePattern}).
+ * Violations are reported using the message keys of the rule's check, so a configuration can switch between the
+ * separate checks and this check without changing the messages reported, though the violations are reported by
+ * this check.
+ * </p>
+ */
+public class CThingChecksCheck extends AbstractCThingCheck {
+
+    private final LogDeclarationCheck logDeclaration = new LogDeclarationCheck();
+    private final SpringDaoAnnotationCheck springDaoAnnotation = new SpringDaoAnnotationCheck();
+    private final TestMethodDeclarationCheck testMethodDeclaration = new TestMethodDeclarationCheck();
+
+    private boolean logDeclarationEnabled = true;
+    private boolean springDaoAnnotationEnabled = true;
+    private boolean testMethodDeclarationEnabled = true;
+
+
+    /**
+     * Constructs the check with all rules enabled and configured with their default properties.
+     */
+    public CThingChecksCheck() {
+        this.logDeclaration.setReporter(this);
+        this.springDaoAnnotation.setReporter(this);
+        this.testMethodDeclaration.setReporter(this);
+    }
+
+    /**
+     * Enables or disables the logger declaration rule (see {@link LogDeclarationCheck}).
+     *
+     * @param enabled  {@code true} to check logger declarations
+     */
+    public void setLogDeclaration(final boolean enabled) {
+        this.logDeclarationEnabled = enabled;
+    }
+
+    /**
+     * Logging frameworks whose logger declarations are checked (see {@link LogDeclarationCheck#setFrameworks}).
+     *
+     * @param frameworks  Names of the frameworks
+     */
+    public void setLogDeclarationFrameworks(final String... frameworks) {
+        this.logDeclaration.setFrameworks(frameworks);
+    }
+
+    /**
+     * Custom logger declaration rules (see {@link LogDeclarationCheck#setRules}).
+     *
+     * @param rules  Rule specifications
+     */
+    public void setLogDeclarationRules(final String... rules) {
+        this.logDeclaration.setRules(rules);
+    }
+
+    /**
+     * Enables or disables the Spring DAO annotation rule (see {@link SpringDaoAnnotationCheck}).
+     *
+     * @param enabled  {@code true} to check the annotations of DAO implementation classes
+     */
+    public void setSpringDaoAnnotation(final boolean enabled) {
+        this.springDaoAnnotationEnabled = enabled;
+    }
+
+    /**
+     * Regular expression for the DAO class names to check (see
+     * {@link SpringDaoAnnotationCheck#setIncludePattern}).
+     *
+     * @param incPattern  Regular expression for the inclusion
+     */
+    public void setSpringDaoAnnotationIncludePattern(final String incPattern) {
+        this.springDaoAnnotation.setIncludePattern(incPattern);
+    }
+
+    /**
+     * Regular expression for the DAO class names to exclude from checking (see
+     * {@link SpringDaoAnnotationCheck#setExcludePattern}).
+     *
+     * @param exclPattern  Regular expression for the exclusion
+     */
+    public void setSpringDaoAnnotationExcludePattern(final String exclPattern) {
+        this.springDaoAnnotation.setExcludePattern(exclPattern);
+    }
+
+    /**
+     * Prefixes of the names of the DAO methods that write to the database (see
+     * {@link SpringDaoAnnotationCheck#setWriteMethodPrefixes}).
+     *
+     * @param prefixes  Method name prefixes
+     */
+    public void setSpringDaoAnnotationWriteMethodPrefixes(final String... prefixes) {
+        this.springDaoAnnotation.setWriteMethodPrefixes(prefixes);
+    }
+
+    /**
+     * Prefixes of the names of the DAO methods that only read from the database (see
+     * {@link SpringDaoAnnotationCheck#setReadMethodPrefixes}).
+     *
+     * @param prefixes  Method name prefixes
+     */
+    public void setSpringDaoAnnotationReadMethodPrefixes(final String... prefixes) {
+        this.springDaoAnnotation.setReadMethodPrefixes(prefixes);
+    }
+
+    /**
+     * Enables or disables the test method declaration rule (see {@link TestMethodDeclarationCheck}).
+     *
+     * @param enabled  {@code true} to check test method declarations
+     */
+    public void setTestMethodDeclaration(final boolean enabled) {
+        this.testMethodDeclarationEnabled = enabled;
+    }
+
+    /**
+     * Names of the annotations identifying test methods (see
+     * {@link TestMethodDeclarationCheck#setTestAnnotations}).
+     *
+     * @param annotations  Annotation names
+     */
+    public void setTestMethodDeclarationTestAnnotations(final String... annotations) {
+        this.testMethodDeclaration.setTestAnnotations(annotations);
+    }
+
+    @Override
+    public int[] getDefaultTokens() {
+        return new int[] { TokenTypes.CLASS_DEF, TokenTypes.METHOD_DEF };
+    }
+
+    @Override
+    public int[] getAcceptableTokens() {
+        return getDefaultTokens();
+    }
+
+    @Override
+    public int[] getRequiredTokens() {
+        return getDefaultTokens();
+    }
+
+    @Override
+    public void beginTree(final DetailAST rootAST) {
+        super.beginTree(rootAST);
+        if (this.logDeclarationEnabled) {
+            this.logDeclaration.beginTree(rootAST);
+        }
+        if (this.springDaoAnnotationEnabled) {
+            this.springDaoAnnotation.beginTree(rootAST);
+        }
+        if (this.testMethodDeclarationEnabled) {
+            this.testMethodDeclaration.beginTree(rootAST);
+        }
+    }
+
+    @Override
+    protected void processToken(final DetailAST ast) {
+        final DeclarationFacts decl = getFacts(ast);
+        if (ast.getType() == TokenTypes.CLASS_DEF) {
+            if (this.logDeclarationEnabled) {
+                this.logDeclaration.processDeclaration(decl);
+            }
+            if (this.springDaoAnnotationEnabled) {
+                this.springDaoAnnotation.processDeclaration(decl);
+            }
+        } else {
+            if (this.springDaoAnnotationEnabled) {
+                this.springDaoAnnotation.processDeclaration(decl);
+            }
+            if (this.testMethodDeclarationEnabled) {
+                this.testMethodDeclaration.processDeclaration(decl);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("MethodDoesntCallSuperMethod")
+    public void leaveToken(final DetailAST ast) {
+        if (this.springDaoAnnotationEnabled) {
+            this.springDaoAnnotation.leaveToken(ast);
+        }
+    }
+
+    @Override
+    public void finishTree(final DetailAST rootAST) {
+        if (this.logDeclarationEnabled) {
+            this.logDeclaration.finishTree(rootAST);
+        }
+        if (this.springDaoAnnotationEnabled) {
+            this.springDaoAnnotation.finishTree(rootAST);
+        }
+        if (this.testMethodDeclarationEnabled) {
+            this.testMethodDeclaration.finishTree(rootAST);
+        }
+        super.finishTree(rootAST);
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import com.puppycrawl.tools.checkstyle.api.BeforeExecutionFileFilter;
+
+
+/**
+ * Filter that skips the files not touched by a unified diff, before they are read or parsed. On a large source
+ * tree, only the few files changed by a pull request are then checked. The filter is configured as a child of the
+ * Checker module, usually together with {@link ChangedLinesFilter}, which drops the violations on the lines of
+ * the changed files that were not touched.
+ */
+public class ChangedFilesFilter extends AbstractDiffFilter implements BeforeExecutionFileFilter {
+
+    @Override
+    public boolean accept(final String uri) {
+        return getIndex().containsFile(uri);
+    }
+}
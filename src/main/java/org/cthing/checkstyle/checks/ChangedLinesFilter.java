@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Filter;
+
+
+/**
+ * Filter that drops the violations reported on lines that were not added or changed by a unified diff, so that
+ * the audit of a pull request reports only the violations on the lines its author touched. Violations that are
+ * not reported on a line (e.g. a violation of a whole file) are kept if the file was changed. The filter is
+ * configured as a child of the Checker module, usually together with {@link ChangedFilesFilter}, which skips the
+ * files not touched by the diff without checking them.
+ */
+public class ChangedLinesFilter extends AbstractDiffFilter implements Filter {
+
+    @Override
+    public boolean accept(final AuditEvent event) {
+        if (event.getViolation() == null) {
+            return true;
+        }
+        final String fileName = event.getFileName();
+        final int line = event.getLine();
+        return (line > 0) ? getIndex().containsLine(fileName, line) : getIndex().containsFile(fileName);
+    }
+}
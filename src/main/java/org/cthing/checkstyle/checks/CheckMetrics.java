@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+
+/**
+ * Runtime metrics of a single check, accumulated over all the files the check has processed. Metrics are
+ * recorded once per file, so the cost of recording is independent of the number of tokens visited. The metrics
+ * may be recorded and read concurrently by multiple threads. Obtain instances from {@link MetricsRegistry}.
+ */
+public final class CheckMetrics implements CheckMetricsMXBean {
+
+    /**
+     * Time spent by the check on a single file.
+     */
+    private static final class FileTime {
+        private final String fileName;
+        private final long nanos;
+
+        FileTime(final String fileName, final long nanos) {
+            this.fileName = fileName;
+            this.nanos = nanos;
+        }
+    }
+
+    private static final Comparator<FileTime> BY_TIME = Comparator.comparingLong(fileTime -> fileTime.nanos);
+
+    private final String checkName;
+    private final int maxSlowestFiles;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder files = new LongAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final Map<String, LongAdder> violations = new ConcurrentHashMap<>();
+    private final PriorityQueue<FileTime> slowestFiles = new PriorityQueue<>(BY_TIME);
+
+    /**
+     * Creates the metrics for a check.
+     *
+     * @param checkName  Name of the check
+     * @param maxSlowestFiles  Number of slowest files to retain
+     */
+    CheckMetrics(final String checkName, final int maxSlowestFiles) {
+        this.checkName = checkName;
+        this.maxSlowestFiles = maxSlowestFiles;
+    }
+
+    /**
+     * Records the processing of a file by the check.
+     *
+     * @param fileName  Name of the file
+     * @param fileInvocations  Number of tokens visited in the file
+     * @param fileNanos  Total time spent visiting the tokens in the file, in nanoseconds
+     * @param fileMaxNanos  Longest time spent visiting a single token in the file, in nanoseconds
+     * @param fileNodes  Number of AST nodes in the file
+     * @param fileViolations  Violations reported by the check in the file
+     */
+    void recordFile(final String fileName, final long fileInvocations, final long fileNanos,
+                    final long fileMaxNanos, final long fileNodes, final Collection<Violation> fileViolations) {
+        this.files.increment();
+        this.invocations.add(fileInvocations);
+        this.totalNanos.add(fileNanos);
+        this.maxNanos.accumulateAndGet(fileMaxNanos, Math::max);
+        this.nodes.add(fileNodes);
+
+        for (final Violation violation : fileViolations) {
+            this.violations.computeIfAbsent(violation.getKey(), key -> new LongAdder()).increment();
+        }
+
+        if (this.maxSlowestFiles > 0) {
+            synchronized (this.slowestFiles) {
+                if (this.slowestFiles.size() < this.maxSlowestFiles) {
+                    this.slowestFiles.add(new FileTime(fileName, fileNanos));
+                } else if (this.slowestFiles.peek().nanos < fileNanos) {
+                    this.slowestFiles.poll();
+                    this.slowestFiles.add(new FileTime(fileName, fileNanos));
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getCheckName() {
+        return this.checkName;
+    }
+
+    @Override
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    @Override
+    public long getFiles() {
+        return this.files.sum();
+    }
+
+    @Override
+    public long getFileNodes() {
+        return this.nodes.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Number of violations keyed by message key, in message key order.
+     */
+    @Override
+    public Map<String, Long> getViolations() {
+        final Map<String, Long> counts = new TreeMap<>();
+        this.violations.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return Total token visit time, in nanoseconds, of the slowest files keyed by file name, ordered from the
+     *      slowest file.
+     */
+    @Override
+    public Map<String, Long> getSlowestFiles() {
+        final List<FileTime> fileTimes;
+        synchronized (this.slowestFiles) {
+            fileTimes = new ArrayList<>(this.slowestFiles);
+        }
+        fileTimes.sort(BY_TIME.reversed());
+
+        final Map<String, Long> slowest = new LinkedHashMap<>();
+        for (final FileTime fileTime : fileTimes) {
+            slowest.put(fileTime.fileName, fileTime.nanos);
+        }
+        return slowest;
+    }
+
+    @Override
+    public void reset() {
+        this.invocations.reset();
+        this.totalNanos.reset();
+        this.maxNanos.set(0);
+        this.files.reset();
+        this.nodes.reset();
+        this.violations.clear();
+        synchronized (this.slowestFiles) {
+            this.slowestFiles.clear();
+        }
+    }
+}
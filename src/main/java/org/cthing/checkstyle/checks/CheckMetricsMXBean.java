@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.Map;
+
+
+/**
+ * Management interface for the runtime metrics of a C Thing check. An MBean implementing this interface is
+ * registered with the platform MBean server, under the name
+ * {@code org.cthing.checkstyle:type=CheckMetrics,name=<check>}, for each check that runs while metrics are
+ * enabled (see {@link MetricsRegistry}).
+ */
+public interface CheckMetricsMXBean {
+
+    /**
+     * Obtains the name of the check (e.g. {@code LogDeclaration}).
+     *
+     * @return Name of the check.
+     */
+    String getCheckName();
+
+    /**
+     * Obtains the number of times the check has visited a token.
+     *
+     * @return Number of token visits.
+     */
+    long getInvocations();
+
+    /**
+     * Obtains the total time spent visiting tokens.
+     *
+     * @return Cumulative token visit time in nanoseconds.
+     */
+    long getTotalNanos();
+
+    /**
+     * Obtains the longest time spent visiting a single token.
+     *
+     * @return Maximum token visit time in nanoseconds.
+     */
+    long getMaxNanos();
+
+    /**
+     * Obtains the number of files processed by the check.
+     *
+     * @return Number of files.
+     */
+    long getFiles();
+
+    /**
+     * Obtains the number of AST nodes in the files processed by the check. This is the size of the files, not the
+     * number of nodes the check examined; see {@link #getInvocations()} for the number of tokens visited.
+     *
+     * @return Number of nodes in the files.
+     */
+    long getFileNodes();
+
+    /**
+     * Obtains the number of violations reported by the check for each message key.
+     *
+     * @return Number of violations keyed by message key.
+     */
+    Map<String, Long> getViolations();
+
+    /**
+     * Obtains the files on which the check spent the most time.
+     *
+     * @return Total token visit time, in nanoseconds, of the slowest files keyed by file name.
+     */
+    Map<String, Long> getSlowestFiles();
+
+    /**
+     * Discards all metrics recorded for the check.
+     */
+    void reset();
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+
+/**
+ * Facts about a class or method declaration that are used by several checks: its modifiers node, the mask of its
+ * modifiers, its name and its annotations. The facts are extracted once when the declaration is visited, so that
+ * the rules evaluated by {@link CThingChecksCheck} on the same declaration share them rather than each
+ * extracting them again. The annotations are obtained from the {@link AstIndex} of the file the first time they
+ * are requested.
+ *
+ * <p>
+ * An instance is reused for each declaration visited by a check, so the facts of a declaration are only valid
+ * until the next declaration is visited. Instances are not thread safe.
+ * </p>
+ */
+final class DeclarationFacts {
+
+    private AstIndex index;
+    private DetailAST declaration;
+    private DetailAST modifiers;
+    private int modifierMask;
+    private String name;
+    private AnnotationDescriptor[] annotations;
+
+    /**
+     * Extracts the facts of the specified declaration, replacing those of the previous declaration.
+     *
+     * @param decl  Class or method declaration
+     * @param astIndex  Index of the file containing the declaration
+     * @return This object.
+     */
+    DeclarationFacts set(final DetailAST decl, final AstIndex astIndex) {
+        this.index = astIndex;
+        this.declaration = decl;
+        this.modifiers = decl.findFirstToken(TokenTypes.MODIFIERS);
+        this.modifierMask = ASTUtils.getModifierMask(this.modifiers);
+        this.name = ASTUtils.getIdent(decl);
+        this.annotations = null;
+        return this;
+    }
+
+    DetailAST getDeclaration() {
+        return this.declaration;
+    }
+
+    /**
+     * Obtains the modifiers node of the declaration.
+     *
+     * @return Node of type {@link TokenTypes#MODIFIERS} or {@code null} if the declaration has none.
+     */
+    DetailAST getModifiers() {
+        return this.modifiers;
+    }
+
+    /**
+     * Obtains the modifiers of the declaration. Annotations are not considered modifiers.
+     *
+     * @return Mask of the modifiers (see {@link ModifierMask}).
+     */
+    int getModifierMask() {
+        return this.modifierMask;
+    }
+
+    /**
+     * Obtains the name of the declared class or method.
+     *
+     * @return Name of the declaration or the empty string if the name could not be found.
+     */
+    String getName() {
+        return this.name;
+    }
+
+    /**
+     * Obtains the annotations of the declaration.
+     *
+     * @return Descriptors of the annotations in the order they appear in the source.
+     */
+    AnnotationDescriptor[] getAnnotations() {
+        if (this.annotations == null) {
+            this.annotations = this.index.getAnnotations(this.modifiers);
+        }
+        return this.annotations;
+    }
+}
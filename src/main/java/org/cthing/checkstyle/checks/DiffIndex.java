@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * Index of the lines added or changed by a unified diff (e.g. as produced by {@code git diff}), used to restrict
+ * an audit to the lines touched by a change. The index maps the absolute, normalized pathname of each file in the
+ * new version of the diff to the ranges of its lines that were added or changed. The ranges of a file are merged
+ * and sorted, so whether a line was touched is determined by a binary search.
+ *
+ * <p>
+ * Only the lines of the new version of each file are indexed. Removed lines do not exist in the new version and
+ * cannot be the subject of a violation. Deleted files are not indexed. A file whose diff contains no added lines,
+ * such as a file that was only renamed or only had lines removed, is indexed without any touched lines.
+ * </p>
+ */
+public final class DiffIndex {
+
+    private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -\\d+(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@.*");
+    private static final String NEW_FILE_PREFIX = "+++ ";
+    private static final String DEV_NULL = "/dev/null";
+    private static final int NEW_START_GROUP = 2;
+    private static final int NEW_COUNT_GROUP = 3;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int OCTAL_RADIX = 8;
+    private static final int MAX_OCTAL_DIGITS = 3;
+    private static final int BELL = 0x07;
+    private static final int VERTICAL_TAB = 0x0B;
+
+    /**
+     * Sorted, non-overlapping ranges of lines. Range {@code i} spans the lines from {@code starts[i]} to
+     * {@code ends[i]} inclusive.
+     */
+    private static final class LineRanges {
+        private int[] starts = new int[INITIAL_CAPACITY];
+        private int[] ends = new int[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Adds a line. Lines are added in increasing order within a hunk, and hunks are in increasing order within
+         * a file, so a line is either adjacent to the last range or starts a new range.
+         */
+        void add(final int line) {
+            if (this.size > 0 && line <= this.ends[this.size - 1] + 1) {
+                this.ends[this.size - 1] = Math.max(this.ends[this.size - 1], line);
+                return;
+            }
+            if (this.size == this.starts.length) {
+                this.starts = Arrays.copyOf(this.starts, this.size * 2);
+                this.ends = Arrays.copyOf(this.ends, this.size * 2);
+            }
+            this.starts[this.size] = line;
+            this.ends[this.size] = line;
+            this.size++;
+        }
+
+        boolean contains(final int line) {
+            final int index = Arrays.binarySearch(this.starts, 0, this.size, line);
+            if (index >= 0) {
+                return true;
+            }
+            final int preceding = -index - 2;
+            return preceding >= 0 && line <= this.ends[preceding];
+        }
+    }
+
+    private final Path baseDir;
+    private final Map<String, LineRanges> filesByPath;
+
+    private DiffIndex(final Path baseDir, final Map<String, LineRanges> filesByPath) {
+        this.baseDir = baseDir;
+        this.filesByPath = filesByPath;
+    }
+
+    /**
+     * Reads and indexes a unified diff file.
+     *
+     * @param diffFile  Unified diff file, encoded in UTF-8
+     * @param baseDir  Directory against which the pathnames in the diff are resolved
+     * @param strip  Number of leading components to remove from the pathnames in the diff (e.g. 1 to remove the
+     *      {@code b/} prefix of a Git diff), as for the {@code -p} option of {@code patch}
+     * @return Index of the diff.
+     * @throws IOException if the diff could not be read
+     */
+    public static DiffIndex read(final Path diffFile, final Path baseDir, final int strip) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(diffFile, StandardCharsets.UTF_8)) {
+            return parse(reader, baseDir, strip);
+        }
+    }
+
+    /**
+     * Parses and indexes a unified diff.
+     *
+     * @param diff  Unified diff
+     * @param baseDir  Directory against which the pathnames in the diff are resolved
+     * @param strip  Number of leading components to remove from the pathnames in the diff
+     * @return Index of the diff.
+     * @throws IOException if the diff could not be read or is malformed
+     */
+    public static DiffIndex parse(final Reader diff, final Path baseDir, final int strip) throws IOException {
+        final BufferedReader reader = (diff instanceof BufferedReader bufferedReader)
+                                      ? bufferedReader : new BufferedReader(diff);
+        final Path base = baseDir.toAbsolutePath().normalize();
+        final Map<String, LineRanges> filesByPath = new HashMap<>();
+        LineRanges current = null;
+
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (line.startsWith(NEW_FILE_PREFIX)) {
+                final String name = parseFileName(line.substring(NEW_FILE_PREFIX.length()));
+                final String path = DEV_NULL.equals(name) ? null : resolve(base, name, strip);
+                current = (path == null) ? null : filesByPath.computeIfAbsent(path, key -> new LineRanges());
+            } else if (line.startsWith("@@")) {
+                final Matcher matcher = HUNK_HEADER.matcher(line);
+                if (!matcher.matches()) {
+                    throw new IOException("Malformed hunk header: " + line);
+                }
+                final int newStart = Integer.parseInt(matcher.group(NEW_START_GROUP));
+                final int oldCount = parseCount(matcher.group(1));
+                final int newCount = parseCount(matcher.group(NEW_COUNT_GROUP));
+                readHunk(reader, current, oldCount, newStart, newCount);
+            }
+        }
+
+        return new DiffIndex(base, filesByPath);
+    }
+
+    /**
+     * Indicates whether the diff contains the specified file.
+     *
+     * @param fileName  Pathname of a file. Relative pathnames are resolved against the base directory of the diff.
+     * @return {@code true} if the file exists in the new version of the diff.
+     */
+    public boolean containsFile(final String fileName) {
+        return this.filesByPath.containsKey(normalize(fileName));
+    }
+
+    /**
+     * Indicates whether the specified line was added or changed by the diff.
+     *
+     * @param fileName  Pathname of a file. Relative pathnames are resolved against the base directory of the diff.
+     * @param line  Line number in the new version of the file
+     * @return {@code true} if the line was added or changed.
+     */
+    public boolean containsLine(final String fileName, final int line) {
+        final LineRanges ranges = this.filesByPath.get(normalize(fileName));
+        return ranges != null && ranges.contains(line);
+    }
+
+    /**
+     * Obtains the number of files in the new version of the diff.
+     *
+     * @return Number of files indexed.
+     */
+    public int getNumFiles() {
+        return this.filesByPath.size();
+    }
+
+    /**
+     * Reads the body of a hunk, recording the added lines. The body is delimited by the line counts of the hunk
+     * header rather than by its content, since a removed line may itself look like a file header.
+     */
+    private static void readHunk(final BufferedReader reader, final LineRanges ranges, final int oldCount,
+                                 final int newStart, final int newCount) throws IOException {
+        int oldRemaining = oldCount;
+        int newRemaining = newCount;
+        int newLine = newStart;
+        while (oldRemaining > 0 || newRemaining > 0) {
+            final String line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Diff ends within a hunk");
+            }
+            final char kind = line.isEmpty() ? ' ' : line.charAt(0);
+            switch (kind) {
+                case '+' -> {
+                    if (ranges != null) {
+                        ranges.add(newLine);
+                    }
+                    newLine++;
+                    newRemaining--;
+                }
+                case '-' -> oldRemaining--;
+                case '\\' -> {
+                    // "\ No newline at end of file"
+                }
+                default -> {
+                    newLine++;
+                    newRemaining--;
+                    oldRemaining--;
+                }
+            }
+        }
+    }
+
+    private static int parseCount(final String count) {
+        return (count == null) ? 1 : Integer.parseInt(count);
+    }
+
+    /**
+     * Obtains the pathname from a file header, which may be followed by a tab and a timestamp. Git quotes a
+     * pathname containing special or non-ASCII characters, and escapes those characters as in a C string.
+     *
+     * @param header  File header following the {@code +++} marker
+     * @return Pathname of the file.
+     */
+    static String parseFileName(final String header) {
+        final int tab = header.indexOf('\t');
+        final String name = (tab < 0) ? header : header.substring(0, tab);
+        if (name.length() > 1 && name.startsWith("\"") && name.endsWith("\"")) {
+            return unquote(name);
+        }
+        return name;
+    }
+
+    /**
+     * Removes the quotes and escapes from a pathname quoted by Git. An octal escape (e.g. {@code \303\257}) is a
+     * byte of the UTF-8 encoding of the pathname.
+     */
+    private static String unquote(final String quoted) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(quoted.length());
+        final int end = quoted.length() - 1;
+        int i = 1;
+        while (i < end) {
+            final char c = quoted.charAt(i);
+            if (c != '\\' || i + 1 == end) {
+                final int codePoint = quoted.codePointAt(i);
+                bytes.writeBytes(Character.toString(codePoint).getBytes(StandardCharsets.UTF_8));
+                i += Character.charCount(codePoint);
+                continue;
+            }
+
+            final char escape = quoted.charAt(i + 1);
+            if (Character.digit(escape, OCTAL_RADIX) >= 0) {
+                int value = 0;
+                int j = i + 1;
+                while (j < end && j <= i + MAX_OCTAL_DIGITS && Character.digit(quoted.charAt(j), OCTAL_RADIX) >= 0) {
+                    value = value * OCTAL_RADIX + Character.digit(quoted.charAt(j), OCTAL_RADIX);
+                    j++;
+                }
+                bytes.write(value);
+                i = j;
+                continue;
+            }
+
+            switch (escape) {
+                case 'a' -> bytes.write(BELL);
+                case 'b' -> bytes.write('\b');
+                case 't' -> bytes.write('\t');
+                case 'n' -> bytes.write('\n');
+                case 'v' -> bytes.write(VERTICAL_TAB);
+                case 'f' -> bytes.write('\f');
+                case 'r' -> bytes.write('\r');
+                case '"', '\\' -> bytes.write(escape);
+                default -> {
+                    // Not an escape, so the backslash is taken literally
+                    bytes.write('\\');
+                    i++;
+                    continue;
+                }
+            }
+            i += 2;
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Resolves a pathname of the diff against the base directory. A pathname that cannot be represented on this
+     * platform (e.g. a non-ASCII name when the platform encoding is ASCII) cannot name a file being audited, so it
+     * is not indexed.
+     */
+    private static String resolve(final Path base, final String name, final int strip) {
+        Path path;
+        try {
+            path = Path.of(name);
+        } catch (final InvalidPathException ex) {
+            return null;
+        }
+        if (strip > 0 && !path.isAbsolute()) {
+            path = (path.getNameCount() > strip) ? path.subpath(strip, path.getNameCount()) : path.getFileName();
+        }
+        return base.resolve(path).normalize().toString();
+    }
+
+    private String normalize(final String fileName) {
+        return this.baseDir.resolve(fileName).normalize().toString();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FullIdent;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+
+/**
+ * Table of the imports of a file, used to resolve the simple names used in the file to qualified names. The table
+ * is built from the package declaration and the {@link TokenTypes#IMPORT} and {@link TokenTypes#STATIC_IMPORT}
+ * nodes at the top of the file, so building it does not walk the rest of the tree. Single type imports are held in
+ * a hash map, so resolving a simple name takes constant time and does not allocate memory. Use
+ * {@link AstIndex#getImports()} to obtain the table for the file being checked.
+ *
+ * <p>
+ * Only the source of the file is considered. A simple name that is not imported by a single type import may refer
+ * to a type in the package of the file, in {@code java.lang} or in any package imported on demand. Such a name
+ * cannot be resolved, but {@link #refersTo(String, String)} can determine whether the name may refer to a given
+ * type.
+ * </p>
+ */
+public final class ImportTable {
+
+    private static final String JAVA_LANG = "java.lang";
+    private static final String ON_DEMAND_SUFFIX = ".*";
+
+    private final String packageName;
+    private final Map<String, String> typeImports;
+    private final Map<String, String> staticImports;
+    private final String[] onDemandPackages;
+
+    private ImportTable(final String packageName, final Map<String, String> typeImports,
+                        final Map<String, String> staticImports, final String[] onDemandPackages) {
+        this.packageName = packageName;
+        this.typeImports = typeImports;
+        this.staticImports = staticImports;
+        this.onDemandPackages = onDemandPackages;
+    }
+
+    /**
+     * Builds the import table of a file.
+     *
+     * @param root  Root of the tree of the file. May be {@code null} for a file with no content.
+     * @return Import table of the file.
+     */
+    static ImportTable build(final DetailAST root) {
+        String packageName = "";
+        final Map<String, String> typeImports = new HashMap<>();
+        final Map<String, String> staticImports = new HashMap<>();
+        final List<String> onDemand = new ArrayList<>();
+
+        // The package declaration and imports precede the type declarations of the file
+        final DetailAST first = (root != null && root.getType() == TokenTypes.COMPILATION_UNIT)
+                ? root.getFirstChild() : root;
+        for (DetailAST node = first; node != null; node = node.getNextSibling()) {
+            final int type = node.getType();
+            if (type == TokenTypes.PACKAGE_DEF) {
+                packageName = FullIdent.createFullIdent(node.getLastChild().getPreviousSibling()).getText();
+            } else if (type == TokenTypes.IMPORT) {
+                final String name = FullIdent.createFullIdentBelow(node).getText();
+                if (name.endsWith(ON_DEMAND_SUFFIX)) {
+                    onDemand.add(name.substring(0, name.length() - ON_DEMAND_SUFFIX.length()));
+                } else {
+                    typeImports.put(simpleName(name), name);
+                }
+            } else if (type == TokenTypes.STATIC_IMPORT) {
+                final String name = FullIdent.createFullIdent(node.getFirstChild().getNextSibling()).getText();
+                if (!name.endsWith(ON_DEMAND_SUFFIX)) {
+                    staticImports.put(simpleName(name), name);
+                }
+            } else if (type != TokenTypes.SEMI) {
+                break;
+            }
+        }
+
+        return new ImportTable(packageName, typeImports, staticImports, onDemand.toArray(new String[0]));
+    }
+
+    /**
+     * Obtains the package declared by the file.
+     *
+     * @return Name of the package or the empty string if the file is in the default package.
+     */
+    public String getPackageName() {
+        return this.packageName;
+    }
+
+    /**
+     * Resolves a simple type name using the single type imports of the file.
+     *
+     * @param simpleName  Simple name of a type
+     * @return Qualified name of the imported type or {@code null} if no type with the simple name is imported by a
+     *      single type import.
+     */
+    public String resolve(final String simpleName) {
+        return this.typeImports.get(simpleName);
+    }
+
+    /**
+     * Resolves the simple name of a statically imported member using the single static imports of the file.
+     *
+     * @param memberName  Name of a static member (e.g. {@code assertEquals})
+     * @return Qualified name of the member (e.g. {@code org.junit.jupiter.api.Assertions.assertEquals}) or
+     *      {@code null} if the member is not imported by a single static import.
+     */
+    public String resolveStatic(final String memberName) {
+        return this.staticImports.get(memberName);
+    }
+
+    /**
+     * Indicates whether a simple type name used in the file may refer to the specified type. The name refers to
+     * the type if it is imported by a single type import. Otherwise, the name may refer to the type if the type is
+     * in the package of the file, in {@code java.lang} or in a package imported on demand.
+     *
+     * @param simpleName  Simple type name as used in the file
+     * @param qualifiedName  Qualified name of a type
+     * @return {@code true} if the simple name may refer to the type.
+     */
+    public boolean refersTo(final String simpleName, final String qualifiedName) {
+        final int packageLength = qualifiedName.length() - simpleName.length() - 1;
+        if (packageLength < 0) {
+            return qualifiedName.equals(simpleName);
+        }
+        if (!qualifiedName.endsWith(simpleName) || qualifiedName.charAt(packageLength) != '.') {
+            return false;
+        }
+
+        final String imported = this.typeImports.get(simpleName);
+        if (imported != null) {
+            return imported.equals(qualifiedName);
+        }
+        return isVisiblePackage(qualifiedName, packageLength);
+    }
+
+    /**
+     * Indicates whether the specified type can be referred to by its simple name in the file. That is, the type
+     * is imported by a single type import, or is in the package of the file, in {@code java.lang} or in a package
+     * imported on demand.
+     *
+     * @param qualifiedName  Qualified name of a type
+     * @return {@code true} if the type can be referred to by its simple name.
+     */
+    public boolean isImported(final String qualifiedName) {
+        final int dot = qualifiedName.lastIndexOf('.');
+        if (dot < 0) {
+            return this.packageName.isEmpty();
+        }
+        return qualifiedName.equals(this.typeImports.get(qualifiedName.substring(dot + 1)))
+                || isVisiblePackage(qualifiedName, dot);
+    }
+
+    /**
+     * Indicates whether the package formed by the specified number of leading characters of a qualified type name
+     * is visible in the file without a single type import.
+     */
+    private boolean isVisiblePackage(final String qualifiedName, final int packageLength) {
+        if (isPackage(qualifiedName, packageLength, this.packageName)
+                || isPackage(qualifiedName, packageLength, JAVA_LANG)) {
+            return true;
+        }
+        for (final String onDemandPackage : this.onDemandPackages) {
+            if (isPackage(qualifiedName, packageLength, onDemandPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPackage(final String qualifiedName, final int packageLength, final String packageName) {
+        return packageName.length() == packageLength && qualifiedName.startsWith(packageName);
+    }
+
+    private static String simpleName(final String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+}
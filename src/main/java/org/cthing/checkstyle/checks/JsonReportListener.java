@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.AbstractAutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+
+/**
+ * Audit listener that writes each violation to a file as it is reported, in either the
+ * <a href="https://github.com/ndjson/ndjson-spec">NDJSON</a> format (a JSON object per line) or the
+ * <a href="https://sarifweb.azurewebsites.net/">SARIF</a> 2.1.0 format. The violations are written through fixed
+ * size buffers to a file channel, so the memory used by the listener does not depend on the number of
+ * violations. The listener is configured as a child of the Checker module.
+ *
+ * <p>
+ * The names, descriptions and messages of the C Thing checks are taken from the metadata of the checks and are
+ * written as the rules of the SARIF report. Violations reported by other checks are identified by the name of the
+ * check's module.
+ * </p>
+ */
+public class JsonReportListener extends AbstractAutomaticBean implements AuditListener {
+
+    /** Formats in which the violations can be written. */
+    enum Format {
+        /** A JSON object per violation, one per line. */
+        NDJSON,
+
+        /** A SARIF 2.1.0 log containing a single run. */
+        SARIF
+    }
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    private static final String TOOL_NAME = "checkstyle-checks";
+    private static final String TOOL_URI = "https://github.com/cthing/checkstyle-checks";
+    private static final String CHECK_SUFFIX = "Check";
+
+    private Path file;
+    private String formatName = Format.SARIF.name();
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private Format format;
+    private List<RuleMetadata> rules;
+    private Map<String, Integer> ruleIndexes;
+    private final Map<String, String> ruleIds = new HashMap<>();
+    private final List<String> exceptions = new ArrayList<>();
+    private JsonStreamWriter out;
+    private int numResults;
+    private String lastFileName;
+    private String lastFileUri;
+
+    /**
+     * Sets the file to which the violations are written. Any existing file is replaced. This property is
+     * required.
+     *
+     * @param file  Pathname of the report file
+     */
+    public void setFile(final String file) {
+        this.file = Path.of(file);
+    }
+
+    /**
+     * Sets the format of the report, either {@code sarif} or {@code ndjson}. The default is {@code sarif}.
+     *
+     * @param format  Name of the format
+     */
+    public void setFormat(final String format) {
+        this.formatName = format;
+    }
+
+    /**
+     * Sets the size, in bytes, of the buffers through which the report is written. The default is 64 KiB and the
+     * minimum is 2.
+     *
+     * @param bufferSize  Size of the buffers
+     */
+    public void setBufferSize(final int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    protected void finishLocalSetup() throws CheckstyleException {
+        if (this.file == null) {
+            throw new CheckstyleException("The file property of " + getClass().getSimpleName() + " must be set");
+        }
+        try {
+            this.format = Format.valueOf(this.formatName.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException ex) {
+            throw new CheckstyleException("Unknown report format: " + this.formatName, ex);
+        }
+        if (this.bufferSize < JsonStreamWriter.MIN_BUFFER_SIZE) {
+            throw new CheckstyleException("The buffer size must be at least " + JsonStreamWriter.MIN_BUFFER_SIZE
+                                                  + ": " + this.bufferSize);
+        }
+
+        try {
+            this.rules = RuleMetadata.load();
+        } catch (final IOException ex) {
+            throw new CheckstyleException("Could not load the metadata of the checks", ex);
+        }
+        this.ruleIndexes = new HashMap<>();
+        for (int i = 0; i < this.rules.size(); i++) {
+            final RuleMetadata rule = this.rules.get(i);
+            if (rule.getClassName() != null) {
+                this.ruleIndexes.put(rule.getClassName(), i);
+            }
+        }
+    }
+
+    @Override
+    public void auditStarted(final AuditEvent event) {
+        try {
+            final Path dir = this.file.toAbsolutePath().getParent();
+            if (dir != null) {
+                Files.createDirectories(dir);
+            }
+            final FileChannel channel = FileChannel.open(this.file, StandardOpenOption.CREATE,
+                                                         StandardOpenOption.TRUNCATE_EXISTING,
+                                                         StandardOpenOption.WRITE);
+            this.out = new JsonStreamWriter(channel, this.bufferSize);
+            this.numResults = 0;
+            this.exceptions.clear();
+            this.lastFileName = null;
+            this.lastFileUri = null;
+
+            if (this.format == Format.SARIF) {
+                writeSarifHeader();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not write report to " + this.file, ex);
+        }
+    }
+
+    @Override
+    public void auditFinished(final AuditEvent event) {
+        try {
+            if (this.format == Format.SARIF) {
+                writeSarifFooter();
+            }
+            this.out.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not write report to " + this.file, ex);
+        } finally {
+            this.out = null;
+        }
+    }
+
+    @Override
+    public void fileStarted(final AuditEvent event) {
+    }
+
+    @Override
+    public void fileFinished(final AuditEvent event) {
+    }
+
+    @Override
+    public void addError(final AuditEvent event) {
+        final Violation violation = event.getViolation();
+        if (violation.getSeverityLevel() == SeverityLevel.IGNORE) {
+            return;
+        }
+
+        try {
+            if (this.format == Format.SARIF) {
+                writeSarifResult(event);
+            } else {
+                writeNdjsonRecord(event);
+            }
+            this.numResults++;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not write report to " + this.file, ex);
+        }
+    }
+
+    @Override
+    public void addException(final AuditEvent event, final Throwable throwable) {
+        final String message = event.getFileName() + ": " + throwable;
+        if (this.format == Format.SARIF) {
+            // Written as notifications of the invocation at the end of the run
+            this.exceptions.add(message);
+            return;
+        }
+
+        try {
+            this.out.write('{').name("file").string(event.getFileName())
+                    .write(',').name("severity").string(SeverityLevel.ERROR.getName())
+                    .write(',').name("exception").string(throwable.toString())
+                    .write('}').write('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not write report to " + this.file, ex);
+        }
+    }
+
+    private void writeNdjsonRecord(final AuditEvent event) throws IOException {
+        final Violation violation = event.getViolation();
+        this.out.write('{').name("file").string(event.getFileName())
+                .write(',').name("line").number(event.getLine())
+                .write(',').name("column").number(event.getColumn())
+                .write(',').name("severity").string(violation.getSeverityLevel().getName())
+                .write(',').name("rule").string(getRuleId(violation));
+        final int ruleIndex = getRuleIndex(violation);
+        if (ruleIndex >= 0) {
+            this.out.write(',').name("ruleName").string(this.rules.get(ruleIndex).getName());
+        }
+        this.out.write(',').name("key").string(violation.getKey())
+                .write(',').name("message").string(event.getMessage())
+                .write('}').write('\n');
+    }
+
+    private void writeSarifHeader() throws IOException {
+        this.out.write('{').name("$schema").string(SARIF_SCHEMA)
+                .write(',').name("version").string("2.1.0")
+                .write(',').name("runs").write("[{")
+                .name("tool").write('{').name("driver").write('{')
+                .name("name").string(TOOL_NAME)
+                .write(',').name("informationUri").string(TOOL_URI)
+                .write(',').name("rules").write('[');
+
+        for (int i = 0; i < this.rules.size(); i++) {
+            final RuleMetadata rule = this.rules.get(i);
+            if (i > 0) {
+                this.out.write(',');
+            }
+            this.out.write("\n{").name("id").string(rule.getId())
+                    .write(',').name("name").string(rule.getName())
+                    .write(',').name("shortDescription").write('{').name("text").string(rule.getDescription())
+                    .write('}')
+                    .write(',').name("messageStrings").write('{');
+            boolean first = true;
+            for (final Map.Entry<String, String> message : rule.getMessages().entrySet()) {
+                if (!first) {
+                    this.out.write(',');
+                }
+                first = false;
+                // SARIF message strings use the placeholders of MessageFormat but not its quoting
+                this.out.name(message.getKey()).write('{')
+                        .name("text").string(message.getValue().replace("''", "'"))
+                        .write('}');
+            }
+            this.out.write("}}");
+        }
+
+        this.out.write("]}}").write(',').name("results").write('[');
+    }
+
+    private void writeSarifResult(final AuditEvent event) throws IOException {
+        final Violation violation = event.getViolation();
+        if (this.numResults > 0) {
+            this.out.write(',');
+        }
+
+        this.out.write("\n{").name("ruleId").string(getRuleId(violation));
+        final int ruleIndex = getRuleIndex(violation);
+        if (ruleIndex >= 0) {
+            this.out.write(',').name("ruleIndex").number(ruleIndex);
+        }
+        this.out.write(',').name("level").string(getSarifLevel(violation.getSeverityLevel()))
+                .write(',').name("message").write('{');
+        if (ruleIndex >= 0 && this.rules.get(ruleIndex).getMessages().containsKey(violation.getKey())) {
+            this.out.name("id").string(violation.getKey()).write(',');
+        }
+        this.out.name("text").string(event.getMessage()).write('}')
+                .write(',').name("locations").write("[{")
+                .name("physicalLocation").write('{')
+                .name("artifactLocation").write('{').name("uri").string(getFileUri(event.getFileName())).write('}');
+        if (event.getLine() > 0) {
+            this.out.write(',').name("region").write('{').name("startLine").number(event.getLine());
+            if (event.getColumn() > 0) {
+                this.out.write(',').name("startColumn").number(event.getColumn());
+            }
+            this.out.write('}');
+        }
+        this.out.write("}}]}");
+    }
+
+    private void writeSarifFooter() throws IOException {
+        this.out.write("\n]").write(',').name("invocations").write("[{")
+                .name("executionSuccessful").write(Boolean.toString(this.exceptions.isEmpty()))
+                .write(',').name("toolExecutionNotifications").write('[');
+        for (int i = 0; i < this.exceptions.size(); i++) {
+            if (i > 0) {
+                this.out.write(',');
+            }
+            this.out.write('{').name("level").string("error")
+                    .write(',').name("message").write('{').name("text").string(this.exceptions.get(i)).write('}')
+                    .write('}');
+        }
+        this.out.write("]}]}]}\n");
+    }
+
+    /**
+     * Obtains the identifier of the rule violated, which is the name of the check's module. The name of a check
+     * without metadata is its class name without the {@code Check} suffix, as used for module names by Checkstyle.
+     */
+    private String getRuleId(final Violation violation) {
+        final int ruleIndex = getRuleIndex(violation);
+        if (ruleIndex >= 0) {
+            return this.rules.get(ruleIndex).getId();
+        }
+        return this.ruleIds.computeIfAbsent(violation.getSourceName(), sourceName -> {
+            final String simpleName = sourceName.substring(sourceName.lastIndexOf('.') + 1);
+            return (simpleName.endsWith(CHECK_SUFFIX) && simpleName.length() > CHECK_SUFFIX.length())
+                   ? simpleName.substring(0, simpleName.length() - CHECK_SUFFIX.length()) : simpleName;
+        });
+    }
+
+    private int getRuleIndex(final Violation violation) {
+        final Integer ruleIndex = this.ruleIndexes.get(violation.getSourceName());
+        return (ruleIndex == null) ? -1 : ruleIndex;
+    }
+
+    /**
+     * Obtains the URI of a file. Violations are reported file by file, so the URI of the last file is reused.
+     */
+    private String getFileUri(final String fileName) {
+        if (!fileName.equals(this.lastFileName)) {
+            this.lastFileName = fileName;
+            this.lastFileUri = Path.of(fileName).toUri().toString();
+        }
+        return this.lastFileUri;
+    }
+
+    private static String getSarifLevel(final SeverityLevel severity) {
+        return switch (severity) {
+            case ERROR -> "error";
+            case WARNING -> "warning";
+            case INFO -> "note";
+            case IGNORE -> "none";
+        };
+    }
+}
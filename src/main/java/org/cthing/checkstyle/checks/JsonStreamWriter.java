@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writes JSON text to a channel in UTF-8 through fixed size buffers, so that the memory used is independent of the
+ * amount of text written. Characters are accumulated in a character buffer, encoded into a byte buffer when the
+ * character buffer is full, and written to the channel when the byte buffer is full. The writer does not track the
+ * structure of the text; callers write the punctuation separating values.
+ */
+final class JsonStreamWriter implements Closeable {
+
+    /**
+     * Smallest size of the buffers. The character buffer must hold a surrogate pair, since the high surrogate of a
+     * pair split across the end of the buffer remains in the buffer until the low surrogate is written.
+     */
+    static final int MIN_BUFFER_SIZE = 2;
+
+    private static final int CONTROL_LIMIT = 0x20;
+    private static final int MAX_SEQUENCE_LENGTH = 4;
+
+    private final WritableByteChannel channel;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private final CharsetEncoder encoder;
+
+    /**
+     * Constructs a writer.
+     *
+     * @param channel  Channel to which the text is written. The channel is closed when the writer is closed.
+     * @param bufferSize  Size of the character and byte buffers, at least {@link #MIN_BUFFER_SIZE}. The byte buffer
+     *      is at least large enough for the longest UTF-8 sequence.
+     * @throws IllegalArgumentException if the buffer size is less than {@link #MIN_BUFFER_SIZE}
+     */
+    JsonStreamWriter(final WritableByteChannel channel, final int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("The buffer size must be at least " + MIN_BUFFER_SIZE + ": "
+                                                       + bufferSize);
+        }
+        this.channel = channel;
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.bytes = ByteBuffer.allocateDirect(Math.max(bufferSize, MAX_SEQUENCE_LENGTH));
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+                                             .onMalformedInput(CodingErrorAction.REPLACE)
+                                             .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Writes a character verbatim.
+     *
+     * @param c  Character to write
+     * @return This writer.
+     * @throws IOException if the text could not be written
+     */
+    JsonStreamWriter write(final char c) throws IOException {
+        if (!this.chars.hasRemaining()) {
+            encode(false);
+        }
+        this.chars.put(c);
+        return this;
+    }
+
+    /**
+     * Writes text verbatim, such as the punctuation of the JSON structure.
+     *
+     * @param text  Text to write
+     * @return This writer.
+     * @throws IOException if the text could not be written
+     */
+    JsonStreamWriter write(final String text) throws IOException {
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            write(text.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a JSON string, quoting and escaping the specified text.
+     *
+     * @param text  Text of the string
+     * @return This writer.
+     * @throws IOException if the text could not be written
+     */
+    JsonStreamWriter string(final String text) throws IOException {
+        write('"');
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '"' -> write('\\').write('"');
+                case '\\' -> write('\\').write('\\');
+                case '\n' -> write('\\').write('n');
+                case '\r' -> write('\\').write('r');
+                case '\t' -> write('\\').write('t');
+                case '\b' -> write('\\').write('b');
+                case '\f' -> write('\\').write('f');
+                default -> {
+                    if (c < CONTROL_LIMIT) {
+                        write(String.format("\\u%04x", (int)c));
+                    } else {
+                        write(c);
+                    }
+                }
+            }
+        }
+        return write('"');
+    }
+
+    /**
+     * Writes the name of an object member, followed by the colon separating it from its value.
+     *
+     * @param name  Name of the member
+     * @return This writer.
+     * @throws IOException if the text could not be written
+     */
+    JsonStreamWriter name(final String name) throws IOException {
+        return string(name).write(':');
+    }
+
+    /**
+     * Writes a JSON number.
+     *
+     * @param number  Number to write
+     * @return This writer.
+     * @throws IOException if the text could not be written
+     */
+    JsonStreamWriter number(final long number) throws IOException {
+        return write(Long.toString(number));
+    }
+
+    /**
+     * Writes the buffered text to the channel.
+     *
+     * @throws IOException if the text could not be written
+     */
+    void flush() throws IOException {
+        encode(false);
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            encode(true);
+            CoderResult result = this.encoder.flush(this.bytes);
+            while (result.isOverflow()) {
+                drain();
+                result = this.encoder.flush(this.bytes);
+            }
+            drain();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Encodes the buffered characters into the byte buffer, writing the byte buffer to the channel whenever it
+     * fills. A surrogate pair split across the end of the character buffer remains in the buffer until the rest
+     * of the pair is written.
+     */
+    private void encode(final boolean endOfInput) throws IOException {
+        this.chars.flip();
+        CoderResult result = this.encoder.encode(this.chars, this.bytes, endOfInput);
+        while (result.isOverflow()) {
+            drain();
+            result = this.encoder.encode(this.chars, this.bytes, endOfInput);
+        }
+        this.chars.compact();
+    }
+
+    private void drain() throws IOException {
+        this.bytes.flip();
+        while (this.bytes.hasRemaining()) {
+            this.channel.write(this.bytes);
+        }
+        this.bytes.clear();
+    }
+}
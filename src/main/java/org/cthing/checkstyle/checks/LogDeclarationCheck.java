@@ -4,18 +4,19 @@
  */
 package org.cthing.checkstyle.checks;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 
 /**
- * Checks that the declaration of an SLF4J log object conforms to a standard format.
- * The declaration must have the format:
+ * Checks that the declaration of a log object conforms to a standard format. By default, SLF4J loggers are
+ * checked and the declaration must have the format:
  * <pre>
  *      private static final Logger LOG = LoggerFactory.getLogger(MyClass.class);
  * </pre>
@@ -24,12 +25,105 @@ import com.puppycrawl.tools.checkstyle.api.TokenTypes;
  * Where "MyClass" must be replaced with the class enclosing the declaration. Annotations
  * are allowed on the declaration and will be ignored by this check.
  * </p>
+ *
+ * <p>
+ * The loggers of other frameworks are checked by specifying the frameworks using the {@code frameworks} property
+ * (see {@link LoggerRule#FRAMEWORKS}) or by specifying custom rules using the {@code rules} property (see
+ * {@link LoggerRule#parse(String)}). The rules are compiled into a table keyed by the simple name of the logger
+ * type, so the logger declaration of a class is found in a single scan of its members regardless of the number
+ * of rules. Where several rules apply to the same type, the rule whose factory call appears in the initializer
+ * of the declaration is used to check it.
+ * </p>
+ *
+ * <p>
+ * A rule whose type is qualified does not apply to a declaration whose type is written with a different qualified
+ * name, or whose simple type name is imported from a different package by a single type import. Files in which no
+ * rule can apply are skipped without examining their classes.
+ * </p>
  */
-public class LogDeclarationCheck extends AbstractCheck {
+public class LogDeclarationCheck extends AbstractCThingCheck {
+
+    private static final int[] INITIALIZER_TYPES = { TokenTypes.LITERAL_CLASS };
+    private static final int CLASS_LITERAL_INDEX = 0;
+
+    /**
+     * Rules for a logger type. The texts searched for in the initializer of a declaration are the factory classes
+     * and methods of all the rules, so that the rule of the declaration can be identified in a single pass over
+     * the initializer.
+     */
+    private static final class TypeRules {
+        private final LoggerRule[] rules;
+        private final String[] texts;
+        private final int[] factoryIndexes;
+        private final int[] methodIndexes;
+        private final String[] qualifiedRoots;
+
+        TypeRules(final List<LoggerRule> ruleList) {
+            this.rules = ruleList.toArray(new LoggerRule[0]);
+            final List<String> textList = new ArrayList<>();
+            this.factoryIndexes = new int[this.rules.length];
+            this.methodIndexes = new int[this.rules.length];
+            this.qualifiedRoots = new String[this.rules.length];
+            for (int i = 0; i < this.rules.length; i++) {
+                this.factoryIndexes[i] = indexOf(textList, this.rules[i].getFactoryClass());
+                this.methodIndexes[i] = indexOf(textList, this.rules[i].getFactoryMethod());
+                final String qualifiedName = this.rules[i].getQualifiedTypeName();
+                if (qualifiedName != null) {
+                    this.qualifiedRoots[i] = qualifiedName.substring(0, qualifiedName.indexOf('.'));
+                }
+            }
+            this.texts = textList.toArray(new String[0]);
+        }
+
+        private static int indexOf(final List<String> textList, final String text) {
+            int index = textList.indexOf(text);
+            if (index < 0) {
+                index = textList.size();
+                textList.add(text);
+            }
+            return index;
+        }
+    }
+
+    private List<LoggerRule> frameworkRules = List.of(LoggerRule.SLF4J);
+    private List<LoggerRule> customRules = List.of();
+    private Map<String, TypeRules> rulesByType = compileRules(this.frameworkRules, this.customRules);
+
+    /**
+     * Whether no rule can apply to a declaration in the current file.
+     */
+    private boolean skipFile;
+
+    /**
+     * Sets the logging frameworks whose logger declarations are checked. The default is {@code slf4j}.
+     *
+     * @param frameworks  Names of the frameworks (i.e. slf4j, log4j2, jul, system and lombok)
+     */
+    public void setFrameworks(final String... frameworks) {
+        final List<LoggerRule> rules = new ArrayList<>();
+        for (final String framework : frameworks) {
+            if (!framework.isBlank()) {
+                rules.add(LoggerRule.forFramework(framework));
+            }
+        }
+        this.frameworkRules = rules;
+        this.rulesByType = compileRules(this.frameworkRules, this.customRules);
+    }
 
-    private static final Set<Integer> EXPECTED_MODIFIERS = new HashSet<>();
-    static {
-        Collections.addAll(EXPECTED_MODIFIERS, TokenTypes.LITERAL_PRIVATE, TokenTypes.LITERAL_STATIC, TokenTypes.FINAL);
+    /**
+     * Sets custom logger declaration rules, which are checked in addition to the rules of the frameworks.
+     *
+     * @param rules  Rule specifications of the form {@code Type:FactoryClass.factoryMethod:modifiers:name}
+     */
+    public void setRules(final String... rules) {
+        final List<LoggerRule> parsed = new ArrayList<>();
+        for (final String rule : rules) {
+            if (!rule.isBlank()) {
+                parsed.add(LoggerRule.parse(rule));
+            }
+        }
+        this.customRules = parsed;
+        this.rulesByType = compileRules(this.frameworkRules, this.customRules);
     }
 
     @Override
@@ -48,78 +142,253 @@ public class LogDeclarationCheck extends AbstractCheck {
     }
 
     @Override
-    @SuppressWarnings("MethodDoesntCallSuperMethod")
-    public void visitToken(final DetailAST ast) {
-        final DetailAST classIdent = ast.findFirstToken(TokenTypes.IDENT);
-        if (classIdent != null) {
-            final DetailAST classBlock = ast.findFirstToken(TokenTypes.OBJBLOCK);
-            final DetailAST logDecl = findLogDecl(classBlock);
-            if (logDecl != null) {
-                final int lineNo = logDecl.getLineNo();
-
-                final DetailAST logIdent = logDecl.findFirstToken(TokenTypes.IDENT);
-                if (logIdent != null) {
-                    if (!"LOG".equals(logIdent.getText())) {
-                        log(lineNo, "logdeclaration.badname");
+    public void beginTree(final DetailAST rootAST) {
+        super.beginTree(rootAST);
+        this.skipFile = true;
+        for (final Map.Entry<String, TypeRules> entry : this.rulesByType.entrySet()) {
+            if (mayContainType(entry.getKey(), entry.getValue())) {
+                this.skipFile = false;
+                break;
+            }
+        }
+    }
+
+    @Override
+    protected void processToken(final DetailAST ast) {
+        processDeclaration(getFacts(ast));
+    }
+
+    /**
+     * Checks the logger declaration of a class.
+     *
+     * @param classDecl  Facts of the class declaration
+     */
+    void processDeclaration(final DeclarationFacts classDecl) {
+        final String className = classDecl.getName();
+        if (!this.skipFile && !className.isEmpty()) {
+            final DetailAST classBlock = classDecl.getDeclaration().findFirstToken(TokenTypes.OBJBLOCK);
+            for (DetailAST member = classBlock.getFirstChild(); member != null; member = member.getNextSibling()) {
+                if (member.getType() == TokenTypes.VARIABLE_DEF) {
+                    final DetailAST typeNode = getTypeNode(member);
+                    final TypeRules typeRules = (typeNode == null) ? null : this.rulesByType.get(getTypeName(typeNode));
+                    if (typeRules != null && isApplicable(typeRules, typeNode)) {
+                        checkLogDecl(member, typeNode, typeRules, className);
+                        break;
                     }
                 }
+            }
+        }
+    }
 
-                final Set<Integer> modifiers = ASTUtils.findDeclModifiers(logDecl);
-                if (!modifiers.equals(EXPECTED_MODIFIERS)) {
-                    log(lineNo, "logdeclaration.badmodifier");
-                }
+    /**
+     * Determines whether the current file may contain a declaration of the specified logger type. The simple name
+     * of the type must appear in the file and either a rule for the type must not be excluded by the imports of
+     * the file or the first component of the package of a rule's type must appear, as it would in a qualified
+     * type name. The names are looked up in the identifier index of the {@link AstIndex}, so testing every rule
+     * does not traverse the tree again.
+     */
+    private boolean mayContainType(final String typeName, final TypeRules typeRules) {
+        final AstIndex index = getIndex();
+        if (!index.hasIdent(typeName)) {
+            return false;
+        }
+        final String imported = getImports().resolve(typeName);
+        for (int i = 0; i < typeRules.rules.length; i++) {
+            final String qualifiedName = typeRules.rules[i].getQualifiedTypeName();
+            if (imported == null || qualifiedName == null || imported.equals(qualifiedName)
+                    || index.hasIdent(typeRules.qualifiedRoots[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-                final DetailAST assign = logDecl.findFirstToken(TokenTypes.ASSIGN);
-                if (assign == null) {
-                    log(lineNo, "logdeclaration.assignment");
-                } else {
-                    final DetailAST factory = ASTUtils.findText(assign, "LoggerFactory");
-                    if (factory == null) {
-                        log(lineNo, "logdeclaration.badtype");
-                    }
+    /**
+     * Determines whether any of the rules for a type apply to a declaration of the type.
+     */
+    private boolean isApplicable(final TypeRules typeRules, final DetailAST typeNode) {
+        for (final LoggerRule rule : typeRules.rules) {
+            if (!isExcluded(rule, typeNode)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-                    final DetailAST method = ASTUtils.findText(assign, "getLogger");
-                    if (method == null) {
-                        log(lineNo, "logdeclaration.missingcall");
-                    }
+    /**
+     * Determines whether a rule is excluded from applying to a declaration by the qualified name of its type. A
+     * qualified type name in the declaration must be a suffix of the qualified type name of the rule (e.g.
+     * {@code System.Logger} for {@code java.lang.System.Logger}). A simple type name in the declaration must not
+     * be imported from another package.
+     *
+     * @param rule  Rule to test
+     * @param typeNode  Type name of the declaration
+     * @return {@code true} if the rule does not apply to the declaration.
+     */
+    private boolean isExcluded(final LoggerRule rule, final DetailAST typeNode) {
+        final String qualifiedName = rule.getQualifiedTypeName();
+        if (qualifiedName == null) {
+            return false;
+        }
+        if (typeNode.getType() == TokenTypes.DOT) {
+            final int start = ASTUtils.matchQualifiedName(typeNode, qualifiedName, qualifiedName.length());
+            return start < 0 || (start > 0 && qualifiedName.charAt(start - 1) != '.');
+        }
+        final String imported = getImports().resolve(typeNode.getText());
+        return imported != null && !imported.equals(qualifiedName);
+    }
 
-                    final DetailAST extIdent = ASTUtils.findType(assign, TokenTypes.LITERAL_CLASS);
-                    if (extIdent == null) {
-                        log(lineNo, "logdeclaration.missingclass");
-                    } else {
-                        final DetailAST nameIdent = extIdent.getPreviousSibling();
-                        if (nameIdent == null) {
-                            log(lineNo, "logdeclaration.missingclassname");
-                        } else {
-                            final String className = classIdent.getText();
-                            if (!className.equals(nameIdent.getText())) {
-                                log(lineNo, "logdeclaration.mismatchedclass");
-                            }
-                        }
-                    }
-                }
+    /**
+     * Checks a log declaration against the rule of its framework.
+     *
+     * @param logDecl  Log declaration
+     * @param typeNode  Type name of the declaration
+     * @param typeRules  Rules for the type of the declaration, at least one of which applies to the declaration
+     * @param className  Name of the class enclosing the declaration
+     */
+    private void checkLogDecl(final DetailAST logDecl, final DetailAST typeNode, final TypeRules typeRules,
+                              final String className) {
+        final int lineNo = logDecl.getLineNo();
+        final DetailAST assign = logDecl.findFirstToken(TokenTypes.ASSIGN);
+        final SubtreeMatches matches = (assign == null)
+                                       ? null : ASTUtils.findFirst(assign, typeRules.texts, INITIALIZER_TYPES);
+        final DetailAST logIdent = logDecl.findFirstToken(TokenTypes.IDENT);
+        final int ruleIndex = selectRule(typeRules, typeNode, matches, (logIdent == null) ? null : logIdent.getText());
+        final LoggerRule rule = typeRules.rules[ruleIndex];
+
+        if ((logIdent != null) && !rule.getFieldName().equals(logIdent.getText())) {
+            if (LoggerRule.SLF4J.getFieldName().equals(rule.getFieldName())) {
+                report(lineNo, "logdeclaration.badname");
+            } else {
+                report(lineNo, "logdeclaration.expectedname", rule.getFieldName());
+            }
+        }
+
+        if (ASTUtils.findDeclModifierMask(logDecl) != rule.getModifierMask()) {
+            if (LoggerRule.SLF4J.getModifierMask() == rule.getModifierMask()) {
+                report(lineNo, "logdeclaration.badmodifier");
+            } else {
+                report(lineNo, "logdeclaration.expectedmodifiers", rule.getModifiers());
+            }
+        }
+
+        if (matches == null) {
+            report(lineNo, "logdeclaration.assignment");
+            return;
+        }
+
+        final boolean slf4jFactory = LoggerRule.SLF4J.getFactoryClass().equals(rule.getFactoryClass())
+                && LoggerRule.SLF4J.getFactoryMethod().equals(rule.getFactoryMethod());
+        if (matches.getTextMatch(typeRules.factoryIndexes[ruleIndex]) == null) {
+            if (slf4jFactory) {
+                report(lineNo, "logdeclaration.badtype");
+            } else {
+                report(lineNo, "logdeclaration.expectedfactory", rule.getFactoryClass());
+            }
+        }
+
+        if (matches.getTextMatch(typeRules.methodIndexes[ruleIndex]) == null) {
+            if (slf4jFactory) {
+                report(lineNo, "logdeclaration.missingcall");
+            } else {
+                report(lineNo, "logdeclaration.expectedcall", rule.getFactoryMethod());
+            }
+        }
+
+        final DetailAST extIdent = matches.getTypeMatch(CLASS_LITERAL_INDEX);
+        if (extIdent == null) {
+            if (rule.isClassRequired()) {
+                report(lineNo, "logdeclaration.missingclass");
+            }
+        } else {
+            final DetailAST nameIdent = extIdent.getPreviousSibling();
+            if (nameIdent == null) {
+                report(lineNo, "logdeclaration.missingclassname");
+            } else if (!className.equals(nameIdent.getText())) {
+                report(lineNo, "logdeclaration.mismatchedclass");
             }
         }
     }
 
     /**
-     * Locate a log declaration, if any, amidst the class member variables.
+     * Selects the rule used to check a declaration from the rules that apply to it. The first rule whose factory
+     * class and method both appear in the initializer and whose variable name matches is preferred, followed by the
+     * first rule whose factory class and method appear in the initializer, followed by the first rule whose factory
+     * class appears. If no factory class appears, the first rule that applies to the declaration is used.
      *
-     * @param block  Code block containing all class level constructs
-     * @return Log declaration node or {@code null} if a log declaration is not present.
+     * @param typeRules  Rules for the type of the declaration
+     * @param typeNode  Type name of the declaration
+     * @param matches  Matches of the factory texts in the initializer or {@code null} if there is no initializer
+     * @param fieldName  Name of the declared variable or {@code null} if not known
+     * @return Index of the selected rule.
      */
-    private DetailAST findLogDecl(final DetailAST block) {
-        for (DetailAST child = block.getFirstChild(); child != null; child = child.getNextSibling()) {
-            if (child.getType() == TokenTypes.VARIABLE_DEF) {
-                final DetailAST type = child.findFirstToken(TokenTypes.TYPE);
-                if (type != null) {
-                    final DetailAST typeIdent = type.findFirstToken(TokenTypes.IDENT);
-                    if ((typeIdent != null) && "Logger".equals(typeIdent.getText())) {
-                        return child;
+    private int selectRule(final TypeRules typeRules, final DetailAST typeNode, final SubtreeMatches matches,
+                           final String fieldName) {
+        int best = -1;
+        int bestScore = -1;
+        for (int i = 0; i < typeRules.rules.length; i++) {
+            if (isExcluded(typeRules.rules[i], typeNode)) {
+                continue;
+            }
+            int score = 0;
+            if (matches != null && matches.getTextMatch(typeRules.factoryIndexes[i]) != null) {
+                score++;
+                if (matches.getTextMatch(typeRules.methodIndexes[i]) != null) {
+                    score++;
+                    if (typeRules.rules[i].getFieldName().equals(fieldName)) {
+                        score++;
                     }
                 }
             }
+            if (score > bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Obtains the name of the type of a variable declaration.
+     *
+     * @param decl  Variable declaration
+     * @return {@link TokenTypes#IDENT} or {@link TokenTypes#DOT} node of the type name or {@code null} if the type
+     *      is not a class or interface type.
+     */
+    private static DetailAST getTypeNode(final DetailAST decl) {
+        final DetailAST type = decl.findFirstToken(TokenTypes.TYPE);
+        final DetailAST name = (type == null) ? null : type.getFirstChild();
+        return (name != null && (name.getType() == TokenTypes.IDENT || name.getType() == TokenTypes.DOT))
+               ? name : null;
+    }
+
+    /**
+     * Obtains the simple name of a type (e.g. {@code Logger} for {@code System.Logger}).
+     *
+     * @param typeNode  {@link TokenTypes#IDENT} or {@link TokenTypes#DOT} node of the type name
+     * @return Simple name of the type.
+     */
+    private static String getTypeName(final DetailAST typeNode) {
+        return (typeNode.getType() == TokenTypes.DOT) ? typeNode.getLastChild().getText() : typeNode.getText();
+    }
+
+    /**
+     * Compiles the rules into a table keyed by the simple name of the logger type.
+     *
+     * @param frameworkRules  Rules of the checked frameworks
+     * @param customRules  Custom rules
+     * @return Rules for each logger type.
+     */
+    private static Map<String, TypeRules> compileRules(final List<LoggerRule> frameworkRules,
+                                                       final List<LoggerRule> customRules) {
+        final Map<String, List<LoggerRule>> grouped = new LinkedHashMap<>();
+        for (final List<LoggerRule> rules : List.of(frameworkRules, customRules)) {
+            for (final LoggerRule rule : rules) {
+                grouped.computeIfAbsent(rule.getTypeName(), name -> new ArrayList<>()).add(rule);
+            }
         }
-        return null;
+        final Map<String, TypeRules> compiled = new HashMap<>();
+        grouped.forEach((typeName, rules) -> compiled.put(typeName, new TypeRules(rules)));
+        return compiled;
     }
 }
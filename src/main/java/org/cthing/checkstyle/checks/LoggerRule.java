@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+
+/**
+ * Rule for the declaration of a logger by a logging framework. A rule specifies the name of the logger
+ * type, the class and method of the factory call that creates the logger, and the modifiers and name of the
+ * variable holding the logger. Rules are either built in, for the commonly used frameworks, or parsed from a
+ * specification of the form:
+ * <pre>
+ *      Type:FactoryClass.factoryMethod:modifiers:name
+ * </pre>
+ * For example, {@code org.apache.commons.logging.Log:LogFactory.getLog:private static final:LOG} specifies a
+ * Commons Logging logger. If the type is qualified, as it is for the built in rules, declarations whose type is
+ * imported from another package (e.g. a {@code Logger} that is not an SLF4J logger) are not subject to the rule.
+ */
+final class LoggerRule {
+
+    /** SLF4J logger, which is the default rule. */
+    static final LoggerRule SLF4J = new LoggerRule("org.slf4j.Logger", "LoggerFactory", "getLogger",
+                                                   "private static final", "LOG", true);
+
+    /**
+     * Built in rules by framework name.
+     */
+    static final Map<String, LoggerRule> FRAMEWORKS = Map.of(
+            "slf4j", SLF4J,
+            "log4j2", new LoggerRule("org.apache.logging.log4j.Logger", "LogManager", "getLogger",
+                                     "private static final", "LOG", false),
+            "jul", new LoggerRule("java.util.logging.Logger", "Logger", "getLogger", "private static final", "LOG",
+                                  true),
+            "system", new LoggerRule("java.lang.System.Logger", "System", "getLogger", "private static final", "LOG",
+                                     true),
+            "lombok", new LoggerRule("org.slf4j.Logger", "LoggerFactory", "getLogger", "private static final", "log",
+                                     true));
+
+    private static final int NUM_SPEC_FIELDS = 4;
+
+    private final String typeName;
+    private final String qualifiedTypeName;
+    private final String factoryClass;
+    private final String factoryMethod;
+    private final String modifiers;
+    private final int modifierMask;
+    private final String fieldName;
+    private final boolean classRequired;
+
+    private LoggerRule(final String type, final String factoryClass, final String factoryMethod,
+                       final String modifiers, final String fieldName, final boolean classRequired) {
+        final int dot = type.lastIndexOf('.');
+        this.typeName = type.substring(dot + 1);
+        this.qualifiedTypeName = (dot < 0) ? null : type;
+        this.factoryClass = factoryClass;
+        this.factoryMethod = factoryMethod;
+        this.modifiers = modifiers;
+        this.modifierMask = parseModifiers(modifiers);
+        this.fieldName = fieldName;
+        this.classRequired = classRequired;
+    }
+
+    /**
+     * Obtains the built in rule for the specified framework.
+     *
+     * @param framework  Name of the framework (i.e. slf4j, log4j2, jul, system or lombok). Case is ignored.
+     * @return Rule for the framework.
+     * @throws IllegalArgumentException if the framework is not recognized
+     */
+    static LoggerRule forFramework(final String framework) {
+        final LoggerRule rule = FRAMEWORKS.get(framework.trim().toLowerCase(Locale.ROOT));
+        if (rule == null) {
+            throw new IllegalArgumentException("Unknown logging framework '" + framework + "'. Supported frameworks are "
+                                                       + List.copyOf(FRAMEWORKS.keySet()));
+        }
+        return rule;
+    }
+
+    /**
+     * Parses a rule specification. The logger of a rule created from a specification must be obtained by passing
+     * the class literal of the enclosing class to the factory method.
+     *
+     * @param spec  Rule specification of the form {@code Type:FactoryClass.factoryMethod:modifiers:name}, where
+     *      the type may be simple or qualified
+     * @return Rule described by the specification.
+     * @throws IllegalArgumentException if the specification is not valid
+     */
+    static LoggerRule parse(final String spec) {
+        final String[] fields = spec.split(":", -1);
+        if (fields.length != NUM_SPEC_FIELDS) {
+            throw new IllegalArgumentException("Logger rule '" + spec
+                                                       + "' must have the form Type:FactoryClass.factoryMethod:modifiers:name");
+        }
+        final String factory = fields[1].trim();
+        final int dot = factory.lastIndexOf('.');
+        if (dot <= 0 || dot == factory.length() - 1) {
+            throw new IllegalArgumentException("Factory of logger rule '" + spec
+                                                       + "' must have the form FactoryClass.factoryMethod");
+        }
+        final String typeName = fields[0].trim();
+        final String fieldName = fields[NUM_SPEC_FIELDS - 1].trim();
+        if (typeName.isEmpty() || typeName.endsWith(".") || fieldName.isEmpty()) {
+            throw new IllegalArgumentException("Logger rule '" + spec + "' must specify the type and variable name");
+        }
+        return new LoggerRule(typeName, factory.substring(0, dot), factory.substring(dot + 1),
+                              fields[2].trim().replaceAll("\\s+", " "), fieldName, true);
+    }
+
+    /**
+     * Obtains the simple name of the logger type.
+     *
+     * @return Simple name of the logger type (e.g. {@code Logger}).
+     */
+    String getTypeName() {
+        return this.typeName;
+    }
+
+    /**
+     * Obtains the qualified name of the logger type.
+     *
+     * @return Qualified name of the logger type or {@code null} if the rule specifies only its simple name.
+     */
+    String getQualifiedTypeName() {
+        return this.qualifiedTypeName;
+    }
+
+    String getFactoryClass() {
+        return this.factoryClass;
+    }
+
+    String getFactoryMethod() {
+        return this.factoryMethod;
+    }
+
+    /**
+     * Obtains the modifiers the variable must be declared with, in the order they were specified.
+     *
+     * @return Modifiers separated by a space.
+     */
+    String getModifiers() {
+        return this.modifiers;
+    }
+
+    /**
+     * Obtains the modifiers the variable must be declared with.
+     *
+     * @return Mask of the modifiers (see {@link ModifierMask}).
+     */
+    int getModifierMask() {
+        return this.modifierMask;
+    }
+
+    String getFieldName() {
+        return this.fieldName;
+    }
+
+    /**
+     * Indicates whether the class literal of the enclosing class must be passed to the factory method.
+     *
+     * @return {@code true} if the factory call must contain a class literal.
+     */
+    boolean isClassRequired() {
+        return this.classRequired;
+    }
+
+    private static int parseModifiers(final String modifiers) {
+        int mask = ModifierMask.NONE;
+        for (final String modifier : modifiers.split(" ")) {
+            if (!modifier.isEmpty()) {
+                final int bit = switch (modifier) {
+                    case "public" -> ModifierMask.bit(TokenTypes.LITERAL_PUBLIC);
+                    case "protected" -> ModifierMask.bit(TokenTypes.LITERAL_PROTECTED);
+                    case "private" -> ModifierMask.bit(TokenTypes.LITERAL_PRIVATE);
+                    case "static" -> ModifierMask.bit(TokenTypes.LITERAL_STATIC);
+                    case "final" -> ModifierMask.bit(TokenTypes.FINAL);
+                    case "transient" -> ModifierMask.bit(TokenTypes.LITERAL_TRANSIENT);
+                    case "volatile" -> ModifierMask.bit(TokenTypes.LITERAL_VOLATILE);
+                    default -> throw new IllegalArgumentException("Invalid logger variable modifier '" + modifier
+                                                                          + "'");
+                };
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+}
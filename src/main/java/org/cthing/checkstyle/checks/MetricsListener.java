@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.puppycrawl.tools.checkstyle.AbstractAutomaticBean;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+
+
+/**
+ * Audit listener that writes the runtime metrics of the C Thing checks to a file, in the OpenMetrics text
+ * format, when the audit finishes. The listener is configured as a child of the Checker module. Nothing is
+ * written unless metrics are enabled (see {@link MetricsRegistry}).
+ */
+public class MetricsListener extends AbstractAutomaticBean implements AuditListener {
+
+    private Path file;
+
+    /**
+     * Sets the file to which the metrics are written. Any existing file is replaced.
+     *
+     * @param file  Pathname of the metrics file
+     */
+    public void setFile(final String file) {
+        this.file = Path.of(file);
+    }
+
+    @Override
+    protected void finishLocalSetup() {
+    }
+
+    @Override
+    public void auditStarted(final AuditEvent event) {
+    }
+
+    @Override
+    public void auditFinished(final AuditEvent event) {
+        if (!MetricsRegistry.ENABLED || (this.file == null)) {
+            return;
+        }
+
+        try {
+            final Path dir = this.file.toAbsolutePath().getParent();
+            if (dir != null) {
+                Files.createDirectories(dir);
+            }
+            try (Writer out = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8)) {
+                MetricsRegistry.writeOpenMetrics(out, MetricsRegistry.getAll());
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not write metrics to " + this.file, ex);
+        }
+    }
+
+    @Override
+    public void fileStarted(final AuditEvent event) {
+    }
+
+    @Override
+    public void fileFinished(final AuditEvent event) {
+    }
+
+    @Override
+    public void addError(final AuditEvent event) {
+    }
+
+    @Override
+    public void addException(final AuditEvent event, final Throwable throwable) {
+    }
+}
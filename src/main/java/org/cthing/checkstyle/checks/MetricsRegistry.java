@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+
+/**
+ * Registry of the runtime metrics of the C Thing checks. Metrics are disabled by default and are enabled by
+ * setting the {@value #ENABLED_PROPERTY} system property or the {@value #ENABLED_ENV} environment variable to
+ * {@code true}. Whether metrics are enabled is determined once, when this class is loaded, so that the cost of
+ * the instrumentation when disabled is a single branch on a constant.
+ *
+ * <p>
+ * When enabled, the metrics of each check are exposed as a {@link CheckMetricsMXBean} and can be written in the
+ * OpenMetrics text format using {@link #writeOpenMetrics(Writer, Collection)}, or at the end of an audit using
+ * {@link MetricsListener}. The number of slowest files retained for each check is specified by the
+ * {@value #TOP_FILES_PROPERTY} system property and defaults to 10.
+ * </p>
+ */
+public final class MetricsRegistry {
+
+    /** System property that enables the metrics. */
+    public static final String ENABLED_PROPERTY = "org.cthing.checkstyle.metrics";
+
+    /** Environment variable that enables the metrics. */
+    public static final String ENABLED_ENV = "CTHING_CHECKSTYLE_METRICS";
+
+    /** System property specifying the number of slowest files retained for each check. */
+    public static final String TOP_FILES_PROPERTY = "org.cthing.checkstyle.metrics.topFiles";
+
+    /** Indicates whether metrics are recorded. */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY)
+            || Boolean.parseBoolean(System.getenv(ENABLED_ENV));
+
+    /** JMX domain under which the metrics MBeans are registered. */
+    public static final String JMX_DOMAIN = "org.cthing.checkstyle";
+
+    private static final int DEFAULT_TOP_FILES = 10;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static final Map<String, CheckMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Obtains the metrics for the specified check, creating them and registering their MBean if necessary.
+     *
+     * @param checkName  Name of the check (e.g. {@code LogDeclaration})
+     * @return Metrics for the check.
+     */
+    public static CheckMetrics get(final String checkName) {
+        return METRICS.computeIfAbsent(checkName, MetricsRegistry::create);
+    }
+
+    /**
+     * Obtains the metrics of all checks that have run.
+     *
+     * @return Metrics of the checks in order of check name.
+     */
+    public static List<CheckMetrics> getAll() {
+        final List<CheckMetrics> all = new ArrayList<>(METRICS.values());
+        all.sort(Comparator.comparing(CheckMetrics::getCheckName));
+        return all;
+    }
+
+    /**
+     * Discards the metrics recorded for all checks.
+     */
+    public static void reset() {
+        METRICS.values().forEach(CheckMetrics::reset);
+    }
+
+    /**
+     * Writes the specified metrics in the OpenMetrics text format. Times are written in seconds.
+     *
+     * @param out  Writer to which the metrics are written. The writer is not closed.
+     * @param metrics  Metrics to write
+     * @throws IOException if the metrics could not be written
+     */
+    public static void writeOpenMetrics(final Writer out, final Collection<CheckMetrics> metrics)
+            throws IOException {
+        family(out, "cthing_check_invocations", "counter", null, "Number of tokens visited by the check.");
+        for (final CheckMetrics check : metrics) {
+            sample(out, "cthing_check_invocations_total", check, null, null, Long.toString(check.getInvocations()));
+        }
+
+        family(out, "cthing_check_visit_seconds", "counter", "seconds", "Total time spent visiting tokens.");
+        for (final CheckMetrics check : metrics) {
+            sample(out, "cthing_check_visit_seconds_total", check, null, null, seconds(check.getTotalNanos()));
+        }
+
+        family(out, "cthing_check_visit_max_seconds", "gauge", "seconds",
+               "Longest time spent visiting a single token.");
+        for (final CheckMetrics check : metrics) {
+            sample(out, "cthing_check_visit_max_seconds", check, null, null, seconds(check.getMaxNanos()));
+        }
+
+        family(out, "cthing_check_files", "counter", null, "Number of files processed by the check.");
+        for (final CheckMetrics check : metrics) {
+            sample(out, "cthing_check_files_total", check, null, null, Long.toString(check.getFiles()));
+        }
+
+        family(out, "cthing_check_file_nodes", "counter", null,
+               "Number of AST nodes in the files processed by the check.");
+        for (final CheckMetrics check : metrics) {
+            sample(out, "cthing_check_file_nodes_total", check, null, null, Long.toString(check.getFileNodes()));
+        }
+
+        family(out, "cthing_check_violations", "counter", null, "Number of violations reported by the check.");
+        for (final CheckMetrics check : metrics) {
+            for (final Map.Entry<String, Long> entry : check.getViolations().entrySet()) {
+                sample(out, "cthing_check_violations_total", check, "key", entry.getKey(),
+                       Long.toString(entry.getValue()));
+            }
+        }
+
+        family(out, "cthing_check_file_seconds", "gauge", "seconds",
+               "Time spent visiting the tokens of the slowest files.");
+        for (final CheckMetrics check : metrics) {
+            for (final Map.Entry<String, Long> entry : check.getSlowestFiles().entrySet()) {
+                sample(out, "cthing_check_file_seconds", check, "file", entry.getKey(), seconds(entry.getValue()));
+            }
+        }
+
+        out.write("# EOF\n");
+    }
+
+    /**
+     * Obtains the name of the JMX object under which the metrics of the specified check are registered.
+     *
+     * @param checkName  Name of the check
+     * @return Name of the MBean.
+     * @throws JMException if the name is not valid
+     */
+    public static ObjectName getObjectName(final String checkName) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=CheckMetrics,name=" + checkName);
+    }
+
+    private static CheckMetrics create(final String checkName) {
+        final CheckMetrics metrics = new CheckMetrics(checkName, Integer.getInteger(TOP_FILES_PROPERTY,
+                                                                                    DEFAULT_TOP_FILES));
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = getObjectName(checkName);
+            try {
+                server.registerMBean(metrics, name);
+            } catch (final InstanceAlreadyExistsException ex) {
+                // Registered by a copy of this library loaded in another class loader (e.g. by an earlier
+                // build in the same Gradle daemon). Replace it so that the current metrics are visible.
+                server.unregisterMBean(name);
+                server.registerMBean(metrics, name);
+            }
+        } catch (final JMException ex) {
+            throw new IllegalStateException("Could not register metrics for " + checkName, ex);
+        }
+        return metrics;
+    }
+
+    private static void family(final Writer out, final String name, final String type, final String unit,
+                               final String help) throws IOException {
+        out.write("# TYPE " + name + ' ' + type + '\n');
+        if (unit != null) {
+            out.write("# UNIT " + name + ' ' + unit + '\n');
+        }
+        out.write("# HELP " + name + ' ' + help + '\n');
+    }
+
+    private static void sample(final Writer out, final String name, final CheckMetrics check, final String label,
+                               final String labelValue, final String value) throws IOException {
+        out.write(name);
+        out.write("{check=\"");
+        out.write(escape(check.getCheckName()));
+        if (label != null) {
+            out.write("\",");
+            out.write(label);
+            out.write("=\"");
+            out.write(escape(labelValue));
+        }
+        out.write("\"} ");
+        out.write(value);
+        out.write('\n');
+    }
+
+    private static String seconds(final long nanos) {
+        return Double.toString(nanos / NANOS_PER_SECOND);
+    }
+
+    private static String escape(final String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
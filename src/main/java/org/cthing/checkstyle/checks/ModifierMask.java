@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+
+/**
+ * Allocation free representation of a set of declaration modifiers. A modifier set is represented as an
+ * {@code int} bitmask with one bit per modifier token type. Using a primitive rather than a
+ * {@code Set<Integer>} avoids allocating a collection and boxing each modifier token for every declaration
+ * examined by a check.
+ *
+ * <p>
+ * Modifier token types that are not known to this class (e.g. modifiers added by a future version of Java)
+ * are all represented by the {@link #OTHER} bit so that they are never silently ignored by comparisons.
+ * </p>
+ */
+public final class ModifierMask {
+
+    /** Mask representing no modifiers. */
+    public static final int NONE = 0;
+
+    /** Bit for the {@code public} modifier. */
+    public static final int PUBLIC = 1;
+
+    /** Bit for the {@code private} modifier. */
+    public static final int PRIVATE = 1 << 1;
+
+    /** Bit for the {@code protected} modifier. */
+    public static final int PROTECTED = 1 << 2;
+
+    /** Bit for the {@code static} modifier. */
+    public static final int STATIC = 1 << 3;
+
+    /** Bit for the {@code final} modifier. */
+    public static final int FINAL = 1 << 4;
+
+    /** Bit for the {@code abstract} modifier. */
+    public static final int ABSTRACT = 1 << 5;
+
+    /** Bit for the {@code transient} modifier. */
+    public static final int TRANSIENT = 1 << 6;
+
+    /** Bit for the {@code volatile} modifier. */
+    public static final int VOLATILE = 1 << 7;
+
+    /** Bit for the {@code synchronized} modifier. */
+    public static final int SYNCHRONIZED = 1 << 8;
+
+    /** Bit for the {@code native} modifier. */
+    public static final int NATIVE = 1 << 9;
+
+    /** Bit for the {@code strictfp} modifier. */
+    public static final int STRICTFP = 1 << 10;
+
+    /** Bit for the {@code default} modifier on interface methods. */
+    public static final int DEFAULT = 1 << 11;
+
+    /** Bit for the {@code sealed} modifier. */
+    public static final int SEALED = 1 << 12;
+
+    /** Bit for the {@code non-sealed} modifier. */
+    public static final int NON_SEALED = 1 << 13;
+
+    /** Bit for any modifier token type not otherwise represented. */
+    public static final int OTHER = 1 << 14;
+
+    private ModifierMask() {
+    }
+
+    /**
+     * Obtains the bit corresponding to the specified modifier token type.
+     *
+     * @param tokenType  Modifier token type (e.g. {@link TokenTypes#LITERAL_PUBLIC})
+     * @return Bit representing the modifier. Token types that are not recognized as modifiers are
+     *      represented by {@link #OTHER}.
+     */
+    public static int bit(final int tokenType) {
+        return switch (tokenType) {
+            case TokenTypes.LITERAL_PUBLIC -> PUBLIC;
+            case TokenTypes.LITERAL_PRIVATE -> PRIVATE;
+            case TokenTypes.LITERAL_PROTECTED -> PROTECTED;
+            case TokenTypes.LITERAL_STATIC -> STATIC;
+            case TokenTypes.FINAL -> FINAL;
+            case TokenTypes.ABSTRACT -> ABSTRACT;
+            case TokenTypes.LITERAL_TRANSIENT -> TRANSIENT;
+            case TokenTypes.LITERAL_VOLATILE -> VOLATILE;
+            case TokenTypes.LITERAL_SYNCHRONIZED -> SYNCHRONIZED;
+            case TokenTypes.LITERAL_NATIVE -> NATIVE;
+            case TokenTypes.STRICTFP -> STRICTFP;
+            case TokenTypes.LITERAL_DEFAULT -> DEFAULT;
+            case TokenTypes.LITERAL_SEALED -> SEALED;
+            case TokenTypes.LITERAL_NON_SEALED -> NON_SEALED;
+            default -> OTHER;
+        };
+    }
+
+    /**
+     * Creates a mask containing the specified modifier token types. Intended for building constant masks.
+     *
+     * @param tokenTypes  Modifier token types to include in the mask
+     * @return Mask containing the specified modifiers.
+     */
+    public static int of(final int... tokenTypes) {
+        int mask = NONE;
+        for (final int tokenType : tokenTypes) {
+            mask |= bit(tokenType);
+        }
+        return mask;
+    }
+
+    /**
+     * Indicates whether the specified mask contains the specified modifier.
+     *
+     * @param mask  Modifier mask to test
+     * @param tokenType  Modifier token type to look for
+     * @return {@code true} if the mask contains the modifier.
+     */
+    public static boolean contains(final int mask, final int tokenType) {
+        return (mask & bit(tokenType)) != 0;
+    }
+
+    /**
+     * Indicates whether the specified mask contains all the modifiers in another mask.
+     *
+     * @param mask  Modifier mask to test
+     * @param required  Mask of modifiers that must all be present
+     * @return {@code true} if every modifier in {@code required} is present in {@code mask}.
+     */
+    public static boolean containsAll(final int mask, final int required) {
+        return (mask & required) == required;
+    }
+
+    /**
+     * Indicates whether the specified mask contains no modifiers other than those in another mask.
+     *
+     * @param mask  Modifier mask to test
+     * @param allowed  Mask of the modifiers that are allowed
+     * @return {@code true} if {@code mask} is a subset of {@code allowed}.
+     */
+    public static boolean containsOnly(final int mask, final int allowed) {
+        return (mask & ~allowed) == 0;
+    }
+
+    /**
+     * Converts the specified mask to a set of modifier token types. This method exists for compatibility with
+     * code that works with modifier sets and allocates a new set on every call.
+     *
+     * @param mask  Modifier mask to convert
+     * @return Set of the token types of the modifiers in the mask. The {@link #OTHER} bit has no corresponding
+     *      token type and is not represented in the set.
+     */
+    public static Set<Integer> toTokenTypes(final int mask) {
+        final Set<Integer> tokenTypes = new HashSet<>();
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_PUBLIC);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_PRIVATE);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_PROTECTED);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_STATIC);
+        addIfPresent(tokenTypes, mask, TokenTypes.FINAL);
+        addIfPresent(tokenTypes, mask, TokenTypes.ABSTRACT);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_TRANSIENT);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_VOLATILE);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_SYNCHRONIZED);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_NATIVE);
+        addIfPresent(tokenTypes, mask, TokenTypes.STRICTFP);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_DEFAULT);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_SEALED);
+        addIfPresent(tokenTypes, mask, TokenTypes.LITERAL_NON_SEALED);
+        return tokenTypes;
+    }
+
+    private static void addIfPresent(final Set<Integer> tokenTypes, final int mask, final int tokenType) {
+        if (contains(mask, tokenType)) {
+            tokenTypes.add(tokenType);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.regex.Pattern;
+
+
+/**
+ * Matches names against a regular expression. Patterns commonly used to select names, such as {@code ^.*DaoImpl$}
+ * or {@code ^Abstract.+$}, test for a literal prefix, suffix or substring. Such patterns are matched using string
+ * operations, which are much faster than a regular expression match. Any other pattern is matched using the regular
+ * expression. As with {@link java.util.regex.Matcher#matches()}, the pattern must match the entire name. Names are
+ * assumed to be identifiers, which cannot contain the line terminators not matched by the {@code .} wildcard.
+ */
+final class NameMatcher {
+
+    /**
+     * Kind of test performed by the matcher.
+     */
+    enum Kind {
+        /** The name must equal the literal. */
+        EQUALS,
+        /** The name must start with the literal. */
+        PREFIX,
+        /** The name must end with the literal. */
+        SUFFIX,
+        /** The name must contain the literal. */
+        CONTAINS,
+        /** The name must match the regular expression. */
+        REGEX
+    }
+
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String ANY = ".*";
+    private static final String AT_LEAST_ONE = ".+";
+
+    private final Pattern pattern;
+    private final Kind kind;
+    private final String literal;
+    private final int minBefore;
+    private final int minAfter;
+
+    private NameMatcher(final Pattern pattern, final Kind kind, final String literal, final int minBefore,
+                        final int minAfter) {
+        this.pattern = pattern;
+        this.kind = kind;
+        this.literal = literal;
+        this.minBefore = minBefore;
+        this.minAfter = minAfter;
+    }
+
+    /**
+     * Creates a matcher for the specified pattern.
+     *
+     * @param pattern  Regular expression the names must match
+     * @return Matcher for the pattern.
+     */
+    static NameMatcher of(final Pattern pattern) {
+        if (pattern.flags() == 0) {
+            String regex = pattern.pattern();
+            if (regex.startsWith("^")) {
+                regex = regex.substring(1);
+            }
+            if (regex.endsWith("$") && !regex.endsWith("\\$")) {
+                regex = regex.substring(0, regex.length() - 1);
+            }
+
+            final String leading = wildcardPrefix(regex);
+            final String rest = regex.substring(leading.length());
+            final String trailing = wildcardSuffix(rest);
+            final String literal = rest.substring(0, rest.length() - trailing.length());
+            if (isLiteral(literal)) {
+                final Kind kind;
+                if (leading.isEmpty()) {
+                    kind = trailing.isEmpty() ? Kind.EQUALS : Kind.PREFIX;
+                } else if (trailing.isEmpty()) {
+                    kind = Kind.SUFFIX;
+                } else {
+                    kind = literal.isEmpty() ? Kind.REGEX : Kind.CONTAINS;
+                }
+                if (kind != Kind.REGEX) {
+                    return new NameMatcher(pattern, kind, literal, minLength(leading), minLength(trailing));
+                }
+            }
+        }
+        return new NameMatcher(pattern, Kind.REGEX, null, 0, 0);
+    }
+
+    /**
+     * Obtains the regular expression matched by this matcher.
+     *
+     * @return Regular expression.
+     */
+    Pattern getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Obtains the kind of test performed by this matcher.
+     *
+     * @return Kind of test.
+     */
+    Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Indicates whether the specified name matches the pattern.
+     *
+     * @param name  Name to test
+     * @return {@code true} if the entire name matches the pattern.
+     */
+    boolean matches(final String name) {
+        return switch (this.kind) {
+            case EQUALS -> this.literal.equals(name);
+            case PREFIX -> name.length() >= this.literal.length() + this.minAfter && name.startsWith(this.literal);
+            case SUFFIX -> name.length() >= this.minBefore + this.literal.length() && name.endsWith(this.literal);
+            case CONTAINS -> containsWithin(name);
+            case REGEX -> this.pattern.matcher(name).matches();
+        };
+    }
+
+    /**
+     * Tests whether the literal occurs in the name leaving room for the characters required by the leading and
+     * trailing wildcards (e.g. {@code .+Dao.+} requires at least one character before and after {@code Dao}).
+     */
+    private boolean containsWithin(final String name) {
+        final int index = name.indexOf(this.literal, this.minBefore);
+        return index >= 0 && index + this.literal.length() + this.minAfter <= name.length();
+    }
+
+    private static String wildcardPrefix(final String regex) {
+        if (regex.startsWith(ANY) || regex.startsWith(AT_LEAST_ONE)) {
+            return regex.substring(0, 2);
+        }
+        return "";
+    }
+
+    private static String wildcardSuffix(final String regex) {
+        // An escaped wildcard leaves a backslash in the literal, which is then not treated as a literal
+        if (regex.endsWith(ANY) || regex.endsWith(AT_LEAST_ONE)) {
+            return regex.substring(regex.length() - 2);
+        }
+        return "";
+    }
+
+    /**
+     * Obtains the minimum number of characters matched by a wildcard.
+     */
+    private static int minLength(final String wildcard) {
+        return AT_LEAST_ONE.equals(wildcard) ? 1 : 0;
+    }
+
+    private static boolean isLiteral(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(text.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
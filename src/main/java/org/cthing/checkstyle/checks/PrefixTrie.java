@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.Arrays;
+
+
+/**
+ * Classifies names by prefix. Each prefix is associated with a non-zero value and the value of the longest prefix
+ * of a name is returned. The prefixes are stored in a trie whose root dispatches on the first character of the
+ * name, so classifying a name examines at most as many characters as the longest prefix, regardless of the number
+ * of prefixes. Classifying a name does not allocate memory.
+ */
+final class PrefixTrie {
+
+    /** Value returned for a name that does not start with any prefix. */
+    static final int NO_MATCH = 0;
+
+    private static final int ROOT_DISPATCH_SIZE = 128;
+
+    /**
+     * Node of the trie. The children are sorted by character so they can be found by binary search.
+     */
+    private static final class Node {
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
+        private int value = NO_MATCH;
+
+        Node find(final char ch) {
+            final int index = Arrays.binarySearch(this.chars, ch);
+            return (index >= 0) ? this.children[index] : null;
+        }
+
+        Node findOrAdd(final char ch) {
+            int index = Arrays.binarySearch(this.chars, ch);
+            if (index < 0) {
+                index = -index - 1;
+                final char[] newChars = new char[this.chars.length + 1];
+                final Node[] newChildren = new Node[this.children.length + 1];
+                System.arraycopy(this.chars, 0, newChars, 0, index);
+                System.arraycopy(this.children, 0, newChildren, 0, index);
+                newChars[index] = ch;
+                newChildren[index] = new Node();
+                System.arraycopy(this.chars, index, newChars, index + 1, this.chars.length - index);
+                System.arraycopy(this.children, index, newChildren, index + 1, this.children.length - index);
+                this.chars = newChars;
+                this.children = newChildren;
+            }
+            return this.children[index];
+        }
+    }
+
+    private final Node root = new Node();
+    private final Node[] rootDispatch = new Node[ROOT_DISPATCH_SIZE];
+
+    /**
+     * Associates the specified prefixes with a value. A prefix already in the trie is reassigned the new value.
+     * Blank prefixes are ignored.
+     *
+     * @param value  Value to associate with the prefixes. Must not be {@link #NO_MATCH}.
+     * @param prefixes  Prefixes to add
+     */
+    void add(final int value, final String... prefixes) {
+        if (value == NO_MATCH) {
+            throw new IllegalArgumentException("Value must not be " + NO_MATCH);
+        }
+        for (final String prefix : prefixes) {
+            final String trimmed = prefix.trim();
+            if (!trimmed.isEmpty()) {
+                Node node = this.root;
+                for (int i = 0; i < trimmed.length(); i++) {
+                    node = node.findOrAdd(trimmed.charAt(i));
+                }
+                node.value = value;
+            }
+        }
+        Arrays.fill(this.rootDispatch, null);
+        for (int i = 0; i < this.root.chars.length; i++) {
+            if (this.root.chars[i] < ROOT_DISPATCH_SIZE) {
+                this.rootDispatch[this.root.chars[i]] = this.root.children[i];
+            }
+        }
+    }
+
+    /**
+     * Removes all prefixes associated with the specified value.
+     *
+     * @param value  Value whose prefixes are to be removed
+     */
+    void remove(final int value) {
+        remove(this.root, value);
+    }
+
+    /**
+     * Obtains the value of the longest prefix of the specified name.
+     *
+     * @param name  Name to classify
+     * @return Value associated with the longest prefix of the name or {@link #NO_MATCH} if the name does not start
+     *      with any prefix.
+     */
+    int classify(final String name) {
+        if (name.isEmpty()) {
+            return NO_MATCH;
+        }
+        final char first = name.charAt(0);
+        Node node = (first < ROOT_DISPATCH_SIZE) ? this.rootDispatch[first] : this.root.find(first);
+        int value = NO_MATCH;
+        for (int i = 1; node != null; i++) {
+            if (node.value != NO_MATCH) {
+                value = node.value;
+            }
+            node = (i < name.length()) ? node.find(name.charAt(i)) : null;
+        }
+        return value;
+    }
+
+    private static void remove(final Node node, final int value) {
+        if (node.value == value) {
+            node.value = NO_MATCH;
+        }
+        for (final Node child : node.children) {
+            remove(child, value);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+
+/**
+ * Describes a check as a rule of a report, using the metadata of the check in {@code checkstyle-metadata.xml},
+ * the names and descriptions in {@code checkstyle-metadata.properties}, and the violation messages in
+ * {@code messages.properties}.
+ */
+final class RuleMetadata {
+
+    private static final String METADATA_RESOURCE = "checkstyle-metadata.xml";
+    private static final String METADATA_PROPERTIES_RESOURCE = "checkstyle-metadata.properties";
+    private static final String MESSAGES_RESOURCE = "messages.properties";
+    private static final String LOAD_EXTERNAL_DTD = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+
+    private final String id;
+    private final String className;
+    private final String name;
+    private final String description;
+    private final Map<String, String> messages;
+
+    private RuleMetadata(final String id, final String className, final String name, final String description,
+                         final Map<String, String> messages) {
+        this.id = id;
+        this.className = className;
+        this.name = name;
+        this.description = description;
+        this.messages = Collections.unmodifiableMap(messages);
+    }
+
+    /**
+     * Loads the metadata of the checks in this library.
+     *
+     * @return Metadata of each check, in the order in which the checks appear in the metadata file.
+     * @throws IOException if the metadata could not be read
+     */
+    static List<RuleMetadata> load() throws IOException {
+        final Properties names = loadProperties(METADATA_PROPERTIES_RESOURCE);
+        final Properties messages = loadProperties(MESSAGES_RESOURCE);
+        final Document document = parse();
+
+        final List<RuleMetadata> rules = new ArrayList<>();
+        final NodeList ruleElements = document.getElementsByTagName("rule-metadata");
+        for (int i = 0; i < ruleElements.getLength(); i++) {
+            final Element ruleElement = (Element)ruleElements.item(i);
+
+            String className = null;
+            final NodeList alternatives = ruleElement.getElementsByTagName("alternative-name");
+            if (alternatives.getLength() > 0) {
+                className = ((Element)alternatives.item(0)).getAttribute("internal-name");
+            }
+
+            String description = "";
+            final NodeList descriptions = ruleElement.getElementsByTagName("description");
+            for (int j = 0; j < descriptions.getLength(); j++) {
+                // Property descriptions are nested in property-metadata elements
+                if (descriptions.item(j).getParentNode() == ruleElement) {
+                    description = resolve(descriptions.item(j).getTextContent().trim(), names);
+                }
+            }
+
+            final Map<String, String> ruleMessages = new LinkedHashMap<>();
+            final NodeList keys = ruleElement.getElementsByTagName("message-key");
+            for (int j = 0; j < keys.getLength(); j++) {
+                final String key = ((Element)keys.item(j)).getAttribute("key");
+                final String message = messages.getProperty(key);
+                if (message != null) {
+                    ruleMessages.put(key, message);
+                }
+            }
+
+            rules.add(new RuleMetadata(ruleElement.getAttribute("internal-name"), className,
+                                       resolve(ruleElement.getAttribute("name"), names), description,
+                                       ruleMessages));
+        }
+        return rules;
+    }
+
+    /**
+     * Obtains the identifier of the rule, which is the name of the check's module (e.g. {@code LogDeclaration}).
+     *
+     * @return Identifier of the rule.
+     */
+    String getId() {
+        return this.id;
+    }
+
+    /**
+     * Obtains the fully qualified name of the class implementing the check.
+     *
+     * @return Name of the check's class, or {@code null} if the metadata does not specify the class.
+     */
+    String getClassName() {
+        return this.className;
+    }
+
+    /**
+     * Obtains the human readable name of the rule.
+     *
+     * @return Name of the rule.
+     */
+    String getName() {
+        return this.name;
+    }
+
+    /**
+     * Obtains the description of the rule.
+     *
+     * @return Description of the rule.
+     */
+    String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * Obtains the messages the check reports, in the {@link java.text.MessageFormat} syntax.
+     *
+     * @return Map of message key to message pattern, in the order in which the keys appear in the metadata.
+     */
+    Map<String, String> getMessages() {
+        return this.messages;
+    }
+
+    private static Document parse() throws IOException {
+        try (InputStream in = RuleMetadata.class.getResourceAsStream(METADATA_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Could not find " + METADATA_RESOURCE);
+            }
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature(LOAD_EXTERNAL_DTD, false);
+            factory.setExpandEntityReferences(false);
+            final DocumentBuilder builder = factory.newDocumentBuilder();
+            return builder.parse(in);
+        } catch (final ParserConfigurationException | SAXException ex) {
+            throw new IOException("Could not parse " + METADATA_RESOURCE, ex);
+        }
+    }
+
+    private static Properties loadProperties(final String resource) throws IOException {
+        final Properties properties = new Properties();
+        try (InputStream in = RuleMetadata.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Could not find " + resource);
+            }
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    /**
+     * Resolves a value of the metadata file, which is either literal text or, if it starts with {@code %}, the key
+     * of a property.
+     */
+    private static String resolve(final String value, final Properties names) {
+        return value.startsWith("%") ? names.getProperty(value.substring(1), value) : value;
+    }
+}
@@ -4,12 +4,12 @@
  */
 package org.cthing.checkstyle.checks;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
-import org.apache.commons.beanutils.ConversionException;
-
-import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
@@ -26,60 +26,118 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
  *      <li>All public {@code update*} methods must be marked {@literal @}Transactional(readOnly = false)</li>
  *      <li>All public {@code delete*} methods must be marked {@literal @}Transactional(readOnly = false)</li>
  * </ul>
+ * The prefixes of the methods that write to the database can be changed using the {@code writeMethodPrefixes}
+ * property. Optionally, the prefixes of methods that only read from the database can be specified using the
+ * {@code readMethodPrefixes} property. Public methods with these prefixes must either not be annotated with
+ * {@literal @}Transactional, and so inherit the read only transaction of the class, or be marked
+ * {@literal @}Transactional(readOnly = true). If a method name starts with several prefixes, the longest prefix
+ * determines the kind of the method.
+ *
+ * <p>The {@literal @}Repository and {@literal @}Transactional annotations must be the Spring annotations. An
+ * annotation with the same simple name that is written with, or imported under, another qualified name (e.g.
+ * {@code jakarta.transaction.Transactional}) is not recognized.</p>
  */
-public class SpringDaoAnnotationCheck extends AbstractCheck {
+public class SpringDaoAnnotationCheck extends AbstractCThingCheck {
+
+    private static final String REPOSITORY = "Repository";
+    private static final String REPOSITORY_TYPE = "org.springframework.stereotype.Repository";
+    private static final String TRANSACTIONAL = "Transactional";
+    private static final String TRANSACTIONAL_TYPE = "org.springframework.transaction.annotation.Transactional";
+    private static final String READ_ONLY = "readOnly";
+    private static final int WRITE_METHOD = 1;
+    private static final int READ_METHOD = 2;
+
+    private NameMatcher includeMatcher = NameMatcher.of(Pattern.compile("^.*DaoImpl$"));
+
+    private NameMatcher excludeMatcher = NameMatcher.of(Pattern.compile("^Abstract.+$"));
+
+    /**
+     * Whether each class name seen in the current file is included by the include and exclude patterns.
+     */
+    private final Map<String, Boolean> includedNames = new HashMap<>();
+
+    /**
+     * Classifies method names as {@link #WRITE_METHOD} or {@link #READ_METHOD} by prefix.
+     */
+    private final PrefixTrie methodPrefixes = new PrefixTrie();
 
-    private Pattern includePattern = Pattern.compile("^.*DaoImpl$");
+    /**
+     * Verdicts for the classes enclosing the current node, innermost last. A verdict is {@code true} if the
+     * class is a DAO class to be checked (i.e. the class is public, matches the include pattern and does not
+     * match the exclude pattern).
+     */
+    private final Deque<Boolean> classVerdicts = new ArrayDeque<>();
 
-    private Pattern excludePattern = Pattern.compile("^Abstract.+$");
 
+    /**
+     * Constructs the check with the default write method prefixes.
+     */
+    public SpringDaoAnnotationCheck() {
+        this.methodPrefixes.add(WRITE_METHOD, "insert", "update", "delete");
+    }
 
     /**
      * Regular expression for the DAO class names to check. Class names included by this pattern
-     * can be filtered by the {@link #excludePattern}.
+     * can be filtered by the {@code excludePattern}.
      *
      * @return Regular expression for the inclusion
      */
-    public Pattern getIncludePattern() {
-        return this.includePattern;
+    public String getIncludePattern() {
+        return this.includeMatcher.getPattern().pattern();
     }
 
     /**
      * Regular expression for the DAO class names to check. Class names included by this pattern
-     * can be filtered by the {@link #excludePattern}.
+     * can be filtered by the {@code excludePattern}. Patterns that test for a literal prefix, suffix or
+     * substring are matched without using the regular expression engine.
      *
      * @param incPattern  Regular expression for the inclusion
      */
     public void setIncludePattern(final String incPattern) {
-        try {
-            this.includePattern = CommonUtil.createPattern(incPattern);
-        } catch (final PatternSyntaxException ex) {
-            throw new ConversionException("unable to parse " + incPattern, ex);
-        }
+        this.includeMatcher = NameMatcher.of(CommonUtil.createPattern(incPattern));
     }
 
     /**
      * Regular expression for the DAO class names to exclude from checking. This pattern is applied
-     * to the classes included by the {@link #includePattern}.
+     * to the classes included by the {@code includePattern}.
      *
      * @return Regular expression for the exclusion
      */
-    public Pattern getExcludePattern() {
-        return this.excludePattern;
+    public String getExcludePattern() {
+        return this.excludeMatcher.getPattern().pattern();
     }
 
     /**
      * Regular expression for the DAO class names to exclude from checking. This pattern is applied
-     * to the classes included by the {@link #includePattern}.
+     * to the classes included by the {@code includePattern}. Patterns that test for a literal prefix,
+     * suffix or substring are matched without using the regular expression engine.
      *
      * @param exclPattern  Regular expression for the exclusion.
      */
     public void setExcludePattern(final String exclPattern) {
-        try {
-            this.excludePattern = CommonUtil.createPattern(exclPattern);
-        } catch (final PatternSyntaxException ex) {
-            throw new ConversionException("unable to parse " + exclPattern, ex);
-        }
+        this.excludeMatcher = NameMatcher.of(CommonUtil.createPattern(exclPattern));
+    }
+
+    /**
+     * Prefixes of the names of the methods that write to the database. The default prefixes are {@code insert},
+     * {@code update} and {@code delete}.
+     *
+     * @param prefixes  Method name prefixes
+     */
+    public void setWriteMethodPrefixes(final String... prefixes) {
+        this.methodPrefixes.remove(WRITE_METHOD);
+        this.methodPrefixes.add(WRITE_METHOD, prefixes);
+    }
+
+    /**
+     * Prefixes of the names of the methods that only read from the database. By default, read methods are not
+     * checked.
+     *
+     * @param prefixes  Method name prefixes
+     */
+    public void setReadMethodPrefixes(final String... prefixes) {
+        this.methodPrefixes.remove(READ_METHOD);
+        this.methodPrefixes.add(READ_METHOD, prefixes);
     }
 
     @Override
@@ -98,97 +156,129 @@ public class SpringDaoAnnotationCheck extends AbstractCheck {
     }
 
     @Override
-    @SuppressWarnings("MethodDoesntCallSuperMethod")
-    public void visitToken(final DetailAST ast) {
-        if (ast.getType() == TokenTypes.CLASS_DEF) {
-            checkClass(ast);
+    public void beginTree(final DetailAST rootAST) {
+        super.beginTree(rootAST);
+        this.classVerdicts.clear();
+        this.includedNames.clear();
+    }
+
+    @Override
+    protected void processToken(final DetailAST ast) {
+        processDeclaration(getFacts(ast));
+    }
+
+    /**
+     * Checks a class or method declaration.
+     *
+     * @param decl  Facts of the declaration
+     */
+    void processDeclaration(final DeclarationFacts decl) {
+        if (decl.getDeclaration().getType() == TokenTypes.CLASS_DEF) {
+            final boolean isDao = isPublic(decl) && !isNotIncluded(decl.getName());
+            this.classVerdicts.push(isDao);
+            if (isDao) {
+                checkClass(decl);
+            }
         } else {
-            checkMethod(ast);
+            checkMethod(decl);
         }
     }
 
-    private void checkClass(final DetailAST ast) {
-        if (isNotPublic(ast) || isNotIncluded(ASTUtils.getIdent(ast))) {
-            return;
+    @Override
+    @SuppressWarnings("MethodDoesntCallSuperMethod")
+    public void leaveToken(final DetailAST ast) {
+        if (ast.getType() == TokenTypes.CLASS_DEF) {
+            this.classVerdicts.pop();
         }
+    }
 
-        boolean isTransactional = false;
-        boolean isRepository = false;
-
-        final DetailAST modifiers = ast.findFirstToken(TokenTypes.MODIFIERS);
-        if (modifiers != null) {
-            for (DetailAST modifier = modifiers.getFirstChild(); modifier != null; modifier = modifier.getNextSibling()) {
-                if (modifier.getType() == TokenTypes.ANNOTATION) {
-                    final String annotName = ASTUtils.getIdent(modifier);
-                    if ("Repository".equals(annotName)) {
-                        isRepository = true;
-                    } else if ("Transactional".equals(annotName)) {
-                        for (DetailAST annotMember = modifier.getFirstChild(); annotMember != null; annotMember = annotMember.getNextSibling()) {
-                            if (annotMember.getType() == TokenTypes.ANNOTATION_MEMBER_VALUE_PAIR) {
-                                if ("readOnly".equals(ASTUtils.getIdent(annotMember))) {
-                                    isTransactional = (ASTUtils.findType(annotMember, TokenTypes.LITERAL_TRUE) != null);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
+    private void checkClass(final DeclarationFacts decl) {
+        final DetailAST ast = decl.getDeclaration();
+        final AnnotationDescriptor[] annotations = decl.getAnnotations();
+        final boolean isRepository = findSpringAnnotation(annotations, REPOSITORY, REPOSITORY_TYPE) != null;
+        final boolean isTransactional = isTransactional(annotations, "true");
 
         if (!isRepository) {
-            log(ast.getLineNo(), "springdaoannotation.missingclassrepository");
+            report(ast.getLineNo(), "springdaoannotation.missingclassrepository");
         }
         if (!isTransactional) {
-            log(ast.getLineNo(), "springdaoannotation.missingclasstransactional");
+            report(ast.getLineNo(), "springdaoannotation.missingclasstransactional");
         }
     }
 
-    private void checkMethod(final DetailAST ast) {
-        if (isNotPublic(ast)) {
+    private void checkMethod(final DeclarationFacts decl) {
+        // The innermost enclosing class declaration determines whether the method is checked. Methods of
+        // anonymous classes, enums and interfaces are therefore attributed to the enclosing class, if any.
+        final Boolean isDao = this.classVerdicts.peek();
+        if ((isDao == null) || !isDao || !isPublic(decl)) {
             return;
         }
 
-        final DetailAST classDef = ASTUtils.findEnclosingClass(ast);
-        if ((classDef == null) || isNotPublic(classDef) || isNotIncluded(ASTUtils.getIdent(classDef))) {
+        final int methodKind = this.methodPrefixes.classify(decl.getName());
+        if (methodKind == PrefixTrie.NO_MATCH) {
             return;
         }
 
-        final String methodName = ASTUtils.getIdent(ast);
-        if (!methodName.startsWith("insert") && !methodName.startsWith("update") && !methodName.startsWith("delete")) {
-            return;
+        final DetailAST ast = decl.getDeclaration();
+        final AnnotationDescriptor[] annotations = decl.getAnnotations();
+        if (methodKind == WRITE_METHOD) {
+            if (!isTransactional(annotations, "false")) {
+                report(ast.getLineNo(), "springdaoannotation.missingmethodtransactional");
+            }
+        } else {
+            final AnnotationDescriptor transactional = findSpringAnnotation(annotations, TRANSACTIONAL,
+                                                                            TRANSACTIONAL_TYPE);
+            if ((transactional != null) && !"true".equals(transactional.getMemberValue(READ_ONLY))) {
+                report(ast.getLineNo(), "springdaoannotation.readmethodtransactional");
+            }
         }
+    }
+
+    private boolean isTransactional(final AnnotationDescriptor[] annotations, final String readOnly) {
+        final AnnotationDescriptor transactional = findSpringAnnotation(annotations, TRANSACTIONAL,
+                                                                        TRANSACTIONAL_TYPE);
+        return (transactional != null) && readOnly.equals(transactional.getMemberValue(READ_ONLY));
+    }
 
-        boolean isTransactional = false;
-
-        final DetailAST modifiers = ast.findFirstToken(TokenTypes.MODIFIERS);
-        if (modifiers != null) {
-            for (DetailAST modifier = modifiers.getFirstChild(); modifier != null; modifier = modifier.getNextSibling()) {
-                if (modifier.getType() == TokenTypes.ANNOTATION) {
-                    final String annotName = ASTUtils.getIdent(modifier);
-                    if ("Transactional".equals(annotName)) {
-                        for (DetailAST annotMember = modifier.getFirstChild(); annotMember != null; annotMember = annotMember.getNextSibling()) {
-                            if (annotMember.getType() == TokenTypes.ANNOTATION_MEMBER_VALUE_PAIR) {
-                                if ("readOnly".equals(ASTUtils.getIdent(annotMember))) {
-                                    isTransactional = (ASTUtils.findType(annotMember, TokenTypes.LITERAL_FALSE) != null);
-                                }
-                            }
-                        }
+    /**
+     * Finds a Spring annotation. An annotation written with its simple name is accepted unless the file imports
+     * the simple name from another package.
+     *
+     * @param annotations  Annotations to search
+     * @param simpleName  Simple name of the Spring annotation
+     * @param qualifiedName  Qualified name of the Spring annotation
+     * @return Descriptor of the annotation or {@code null} if the annotation is not found.
+     */
+    private AnnotationDescriptor findSpringAnnotation(final AnnotationDescriptor[] annotations,
+                                                      final String simpleName, final String qualifiedName) {
+        for (final AnnotationDescriptor annotation : annotations) {
+            if (simpleName.equals(annotation.getSimpleName())) {
+                final String name = annotation.getQualifiedName();
+                if (name.length() > simpleName.length()) {
+                    if (qualifiedName.equals(name)) {
+                        return annotation;
+                    }
+                } else {
+                    final String imported = getImports().resolve(simpleName);
+                    if (imported == null || imported.equals(qualifiedName)) {
+                        return annotation;
                     }
                 }
             }
         }
-
-        if (!isTransactional) {
-            log(ast.getLineNo(), "springdaoannotation.missingmethodtransactional");
-        }
+        return null;
     }
 
-    private boolean isNotPublic(final DetailAST decl) {
-        return !ASTUtils.findDeclModifiers(decl).contains(TokenTypes.LITERAL_PUBLIC);
+    private static boolean isPublic(final DeclarationFacts decl) {
+        return ModifierMask.contains(decl.getModifierMask(), TokenTypes.LITERAL_PUBLIC);
     }
 
     private boolean isNotIncluded(final String className) {
-        return (this.includePattern != null) && !this.includePattern.matcher(className).matches()
-                || (this.excludePattern != null) && this.excludePattern.matcher(className).matches();
+        Boolean included = this.includedNames.get(className);
+        if (included == null) {
+            included = this.includeMatcher.matches(className) && !this.excludeMatcher.matches(className);
+            this.includedNames.put(className, included);
+        }
+        return !included;
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+
+
+/**
+ * Results of a single pass search of a subtree for several text and token type targets
+ * (see {@link ASTUtils#findFirst(DetailAST, String[], int[])}). The first node matching each target is
+ * indexed by the position of the target in the array of targets passed to the search.
+ */
+public final class SubtreeMatches {
+
+    private final DetailAST[] textMatches;
+    private final DetailAST[] typeMatches;
+    private int remaining;
+
+    SubtreeMatches(final int numTexts, final int numTypes) {
+        this.textMatches = new DetailAST[numTexts];
+        this.typeMatches = new DetailAST[numTypes];
+        this.remaining = numTexts + numTypes;
+    }
+
+    /**
+     * Obtains the first node whose text matched the specified text target.
+     *
+     * @param index  Index of the target in the array of text targets
+     * @return First node containing the target text or {@code null} if no node matched.
+     */
+    public DetailAST getTextMatch(final int index) {
+        return this.textMatches[index];
+    }
+
+    /**
+     * Obtains the first node whose type matched the specified token type target.
+     *
+     * @param index  Index of the target in the array of token type targets
+     * @return First node of the target type or {@code null} if no node matched.
+     */
+    public DetailAST getTypeMatch(final int index) {
+        return this.typeMatches[index];
+    }
+
+    /**
+     * Indicates whether a match has been found for every target.
+     *
+     * @return {@code true} if all targets have been matched.
+     */
+    public boolean isComplete() {
+        return this.remaining == 0;
+    }
+
+    /**
+     * Records the specified node against any targets it matches that have not already been matched.
+     *
+     * @param node  Node to test against the targets
+     * @param texts  Text targets
+     * @param types  Token type targets
+     */
+    void match(final DetailAST node, final String[] texts, final int[] types) {
+        final int type = node.getType();
+        for (int i = 0; i < types.length; i++) {
+            if ((this.typeMatches[i] == null) && (types[i] == type)) {
+                this.typeMatches[i] = node;
+                this.remaining--;
+            }
+        }
+
+        if (texts.length > 0) {
+            final String text = node.getText();
+            for (int i = 0; i < texts.length; i++) {
+                if ((this.textMatches[i] == null) && texts[i].equals(text)) {
+                    this.textMatches[i] = node;
+                    this.remaining--;
+                }
+            }
+        }
+    }
+}
@@ -4,19 +4,107 @@
  */
 package org.cthing.checkstyle.checks;
 
-import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
-import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 
 
 /**
- * Checks the declaration of a unit test method annotated with {@literal @}Test.
- * The method must be declared {@code public} and have a {@code void} return type.
+ * Checks the declaration of a unit test method. A test method is a method annotated with one of the JUnit 5
+ * test annotations ({@literal @}Test, {@literal @}ParameterizedTest, {@literal @}RepeatedTest,
+ * {@literal @}TestFactory or {@literal @}TestTemplate). The method must be declared {@code public} and have a
+ * {@code void} return type.
+ *
+ * <p>The annotations identifying test methods can be changed using the {@code testAnnotations} property. An
+ * annotation name without a package (e.g. {@code Test}) matches any annotation with that simple name. A qualified
+ * name (e.g. {@code org.junit.jupiter.api.Test}) matches the annotation written with that qualified name, or
+ * written with its simple name where the imports of the file allow the simple name to refer to the annotation.
+ * Qualified names therefore distinguish, for example, the JUnit 5 and TestNG {@literal @}Test annotations, and
+ * files that cannot refer to any of the annotations are skipped.</p>
  */
-public class TestMethodDeclarationCheck extends AbstractCheck {
+public class TestMethodDeclarationCheck extends AbstractCThingCheck {
+
+    private static final String[] DEFAULT_ANNOTATIONS = {
+            "Test", "ParameterizedTest", "RepeatedTest", "TestFactory", "TestTemplate",
+    };
+
+    /**
+     * Simple names of all test annotations. An annotation whose simple name is not in this set is not a test
+     * annotation.
+     */
+    private final Set<String> simpleNames = new HashSet<>();
+
+    /**
+     * Test annotation names specified without a package, which match regardless of qualification.
+     */
+    private final Set<String> unqualifiedNames = new HashSet<>();
+
+    /**
+     * Test annotation names specified with a package.
+     */
+    private String[] qualifiedNames = new String[0];
+
+    /**
+     * Simple names of the annotations in {@link #qualifiedNames}.
+     */
+    private String[] qualifiedSimpleNames = new String[0];
+
+    /**
+     * First package name component of the annotations in {@link #qualifiedNames} (e.g. {@code org}).
+     */
+    private String[] qualifiedRoots = new String[0];
+
+    /**
+     * Whether the current file cannot contain a test annotation.
+     */
+    private boolean skipFile;
+
+
+    /**
+     * Constructs the check with the default JUnit 5 test annotations.
+     */
+    public TestMethodDeclarationCheck() {
+        setTestAnnotations(DEFAULT_ANNOTATIONS);
+    }
+
+    /**
+     * Names of the annotations identifying test methods. Names can be simple or qualified. The default
+     * annotations are {@code Test}, {@code ParameterizedTest}, {@code RepeatedTest}, {@code TestFactory} and
+     * {@code TestTemplate}.
+     *
+     * @param annotations  Annotation names
+     */
+    public void setTestAnnotations(final String... annotations) {
+        this.simpleNames.clear();
+        this.unqualifiedNames.clear();
+        final List<String> qualified = new ArrayList<>();
+
+        for (final String annotation : annotations) {
+            final String name = annotation.trim();
+            if (!name.isEmpty()) {
+                final int dot = name.lastIndexOf('.');
+                if (dot < 0) {
+                    this.unqualifiedNames.add(name);
+                } else {
+                    qualified.add(name);
+                }
+                this.simpleNames.add(name.substring(dot + 1));
+            }
+        }
+
+        this.qualifiedNames = qualified.toArray(new String[0]);
+        this.qualifiedSimpleNames = new String[this.qualifiedNames.length];
+        this.qualifiedRoots = new String[this.qualifiedNames.length];
+        for (int i = 0; i < this.qualifiedNames.length; i++) {
+            final String name = this.qualifiedNames[i];
+            this.qualifiedSimpleNames[i] = name.substring(name.lastIndexOf('.') + 1);
+            this.qualifiedRoots[i] = name.substring(0, name.indexOf('.'));
+        }
+    }
 
     @Override
     public int[] getDefaultTokens() {
@@ -34,45 +122,114 @@ public class TestMethodDeclarationCheck extends AbstractCheck {
     }
 
     @Override
-    @SuppressWarnings("MethodDoesntCallSuperMethod")
-    public void visitToken(final DetailAST methodDef) {
-        final DetailAST modifiers = methodDef.findFirstToken(TokenTypes.MODIFIERS);
+    public void beginTree(final DetailAST rootAST) {
+        super.beginTree(rootAST);
+        this.skipFile = !mayContainTestAnnotation();
+    }
+
+    @Override
+    protected void processToken(final DetailAST methodDef) {
+        processDeclaration(getFacts(methodDef));
+    }
 
-        if (hasTestAnnotation(modifiers)) {
+    /**
+     * Checks a method declaration.
+     *
+     * @param method  Facts of the method declaration
+     */
+    void processDeclaration(final DeclarationFacts method) {
+        // Most files, including all production code, never mention a test annotation
+        if (this.skipFile) {
+            return;
+        }
+
+        if (hasTestAnnotation(method.getModifiers())) {
+            final DetailAST methodDef = method.getDeclaration();
             final int lineNo = methodDef.getLineNo();
 
             final DetailAST returnType = methodDef.findFirstToken(TokenTypes.TYPE);
             if ((returnType != null) && (returnType.findFirstToken(TokenTypes.LITERAL_VOID) == null)) {
-                log(lineNo, "testmethoddeclaration.badreturn");
+                report(lineNo, "testmethoddeclaration.badreturn");
             }
 
-            if (!isPurePublic(modifiers)) {
-                log(lineNo, "testmethoddeclaration.badscope");
+            if (method.getModifierMask() != ModifierMask.PUBLIC) {
+                report(lineNo, "testmethoddeclaration.badscope");
             }
         }
     }
 
-    private boolean hasTestAnnotation(final DetailAST modifiers) {
-        if (modifiers != null) {
-            return Stream.iterate(modifiers.getFirstChild(), Objects::nonNull, DetailAST::getNextSibling)
-                         .filter(modifier -> modifier.getType() == TokenTypes.ANNOTATION)
-                         .map(modifier -> modifier.findFirstToken(TokenTypes.IDENT))
-                         .anyMatch(annotIdent -> (annotIdent != null) && "Test".equals(annotIdent.getText()));
+    /**
+     * Determines whether the current file may contain a test annotation. The file may contain an annotation
+     * specified without a package if its simple name appears in the file. The file may contain an annotation
+     * specified with a package if its simple name appears and either the file can refer to it by its simple name
+     * or the first component of its package appears. Each name is looked up in the identifier index of the
+     * {@link AstIndex}, which is built once for the file however many names are looked up.
+     */
+    private boolean mayContainTestAnnotation() {
+        final AstIndex index = getIndex();
+        for (final String name : this.unqualifiedNames) {
+            if (index.hasIdent(name)) {
+                return true;
+            }
+        }
+        for (int i = 0; i < this.qualifiedNames.length; i++) {
+            if (index.hasIdent(this.qualifiedSimpleNames[i])
+                    && (getImports().isImported(this.qualifiedNames[i]) || index.hasIdent(this.qualifiedRoots[i]))) {
+                return true;
+            }
         }
         return false;
     }
 
-    private boolean isPurePublic(final DetailAST modifiers) {
-        boolean havePublic = false;
-
+    /**
+     * Determines whether the modifiers contain a test annotation. Only the name of each annotation is examined,
+     * so the test neither parses the annotations nor allocates memory.
+     */
+    private boolean hasTestAnnotation(final DetailAST modifiers) {
+        if (modifiers == null) {
+            return false;
+        }
         for (DetailAST modifier = modifiers.getFirstChild(); modifier != null; modifier = modifier.getNextSibling()) {
-            final int type = modifier.getType();
-            if (type == TokenTypes.LITERAL_PUBLIC) {
-                havePublic = true;
-            } else if (type != TokenTypes.ANNOTATION) {
+            if (modifier.getType() == TokenTypes.ANNOTATION && isTestAnnotation(modifier)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isTestAnnotation(final DetailAST annotation) {
+        for (DetailAST child = annotation.getFirstChild(); child != null; child = child.getNextSibling()) {
+            final int type = child.getType();
+            if (type == TokenTypes.IDENT) {
+                final String simpleName = child.getText();
+                if (this.unqualifiedNames.contains(simpleName)) {
+                    return true;
+                }
+                if (this.simpleNames.contains(simpleName)) {
+                    final ImportTable imports = getImports();
+                    for (final String qualifiedName : this.qualifiedNames) {
+                        if (imports.refersTo(simpleName, qualifiedName)) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+            if (type == TokenTypes.DOT) {
+                final String simpleName = child.getLastChild().getText();
+                if (this.unqualifiedNames.contains(simpleName)) {
+                    return true;
+                }
+                if (this.simpleNames.contains(simpleName)) {
+                    for (final String qualifiedName : this.qualifiedNames) {
+                        if (ASTUtils.matchQualifiedName(child, qualifiedName, qualifiedName.length()) == 0) {
+                            return true;
+                        }
+                    }
+                }
                 return false;
             }
         }
-        return havePublic;
+        return false;
     }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cthing.checkstyle.checks.SyntheticCorpus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests the {@link CThingAudit} class.
+ */
+public class CThingAuditTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testMatchesSerialChecker() throws Exception {
+        final List<File> files = createCorpus();
+
+        final List<String> serial = format(runChecker(files, CThingAudit.createConfiguration()));
+        assertThat(serial).isNotEmpty();
+
+        assertThat(format(CThingAudit.run(List.of(this.tempDir), 1))).isEqualTo(serial);
+        assertThat(format(CThingAudit.run(List.of(this.tempDir), 4))).isEqualTo(serial);
+        assertThat(format(CThingAudit.run(List.of(this.tempDir), 0))).isEqualTo(serial);
+    }
+
+    @Test
+    public void testBasedir() throws Exception {
+        final List<File> files = createCorpus();
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addProperty("basedir", this.tempDir.toString());
+
+        final List<AuditEvent> serial = runChecker(files, config);
+        assertThat(serial).isNotEmpty()
+                          .allSatisfy(event -> assertThat(event.getFileName()).doesNotStartWith(this.tempDir.toString()));
+
+        assertThat(format(CThingAudit.run(List.of(this.tempDir), config, 1))).isEqualTo(format(serial));
+        assertThat(format(CThingAudit.run(List.of(this.tempDir), config, 4))).isEqualTo(format(serial));
+    }
+
+    @Test
+    public void testOneAuditPerThread() throws Exception {
+        final List<File> files = createCorpus();
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addChild(new DefaultConfiguration(AuditCounter.class.getName()));
+        AuditCounter.AUDITS.set(0);
+        AuditCounter.FILES.set(0);
+
+        CThingAudit.run(List.of(this.tempDir), config, 4);
+        assertThat(AuditCounter.AUDITS).hasValue(4);
+        assertThat(AuditCounter.FILES).hasValue(files.size());
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        final List<File> files = createCorpus();
+        final List<List<File>> batches = CThingAudit.createBatches(files, 3);
+        assertThat(batches).hasSize(3);
+
+        final List<File> batched = new ArrayList<>();
+        long smallest = Long.MAX_VALUE;
+        long largest = 0;
+        for (final List<File> batch : batches) {
+            assertThat(batch).isNotEmpty().isSortedAccordingTo((f1, f2) -> f1.toPath().compareTo(f2.toPath()));
+            batched.addAll(batch);
+            final long size = batch.stream().mapToLong(File::length).sum();
+            smallest = Math.min(smallest, size);
+            largest = Math.max(largest, size);
+        }
+        assertThat(batched).containsExactlyInAnyOrderElementsOf(files);
+
+        final long largestFile = files.stream().mapToLong(File::length).max().orElseThrow();
+        assertThat(largest - smallest).isLessThanOrEqualTo(largestFile);
+    }
+
+    @Test
+    public void testReportedException() throws Exception {
+        final CThingAudit.Collector collector = new CThingAudit.Collector();
+        collector.throwException();
+
+        collector.addException(new AuditEvent(this, "Broken.java"), new IllegalStateException("Check failed"));
+        assertThatThrownBy(collector::throwException).isInstanceOf(CheckstyleException.class)
+                                                     .hasMessageContaining("Broken.java")
+                                                     .hasCauseInstanceOf(IllegalStateException.class);
+        collector.throwException();
+    }
+
+    @Test
+    public void testCollectFiles() throws Exception {
+        final List<File> files = createCorpus();
+        final Path other = this.tempDir.resolve("notes.txt");
+        Files.writeString(other, "Not Java", StandardCharsets.UTF_8);
+
+        final List<File> collected = CThingAudit.collectFiles(List.of(files.get(3).toPath(), this.tempDir));
+        assertThat(collected).hasSize(files.size())
+                             .isSortedAccordingTo((f1, f2) -> f1.toPath().compareTo(f2.toPath()))
+                             .doesNotContain(other.toFile());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(CThingAudit.run(List.of(this.tempDir), 4)).isEmpty();
+    }
+
+    @Test
+    public void testParseError() throws Exception {
+        createCorpus();
+        Files.writeString(this.tempDir.resolve("Broken.java"), "public class Broken {", StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> CThingAudit.run(List.of(this.tempDir), 4)).isInstanceOf(CheckstyleException.class);
+    }
+
+    @Test
+    public void testCacheFileNotSupported() {
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addProperty("cacheFile", this.tempDir.resolve("cache").toString());
+
+        assertThatThrownBy(() -> CThingAudit.run(List.of(this.tempDir), config, 4))
+                .isInstanceOf(CheckstyleException.class)
+                .hasMessageContaining("cacheFile");
+    }
+
+    /**
+     * Listener counting the audits and files processed by all Checkers.
+     */
+    public static final class AuditCounter implements AuditListener {
+        static final AtomicInteger AUDITS = new AtomicInteger();
+        static final AtomicInteger FILES = new AtomicInteger();
+
+        @Override
+        public void auditStarted(final AuditEvent event) {
+            AUDITS.incrementAndGet();
+        }
+
+        @Override
+        public void auditFinished(final AuditEvent event) {
+        }
+
+        @Override
+        public void fileStarted(final AuditEvent event) {
+            FILES.incrementAndGet();
+        }
+
+        @Override
+        public void fileFinished(final AuditEvent event) {
+        }
+
+        @Override
+        public void addError(final AuditEvent event) {
+        }
+
+        @Override
+        public void addException(final AuditEvent event, final Throwable throwable) {
+        }
+    }
+
+    private List<File> createCorpus() throws IOException {
+        final SyntheticCorpus corpus = new SyntheticCorpus(42L, 0.2);
+        final List<File> files = new ArrayList<>();
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            files.addAll(corpus.write(this.tempDir.resolve(shape.name().toLowerCase()), shape, 8, 10));
+        }
+        files.sort((f1, f2) -> f1.toPath().compareTo(f2.toPath()));
+        return files;
+    }
+
+    private static List<AuditEvent> runChecker(final List<File> files, final DefaultConfiguration config)
+            throws CheckstyleException {
+        final List<AuditEvent> events = new ArrayList<>();
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(config);
+        checker.addListener(new AuditListener() {
+            @Override
+            public void auditStarted(final AuditEvent event) {
+            }
+
+            @Override
+            public void auditFinished(final AuditEvent event) {
+            }
+
+            @Override
+            public void fileStarted(final AuditEvent event) {
+            }
+
+            @Override
+            public void fileFinished(final AuditEvent event) {
+            }
+
+            @Override
+            public void addError(final AuditEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void addException(final AuditEvent event, final Throwable throwable) {
+            }
+        });
+        checker.process(files);
+        checker.destroy();
+        return events;
+    }
+
+    private static List<String> format(final List<AuditEvent> events) {
+        return events.stream()
+                     .map(event -> event.getFileName() + ':' + event.getLine() + ':' + event.getColumn() + ": "
+                             + event.getMessage() + " [" + event.getViolation().getKey() + ']')
+                     .toList();
+    }
+}
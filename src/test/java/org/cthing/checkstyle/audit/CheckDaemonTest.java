@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.cthing.checkstyle.checks.SyntheticCorpus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests the {@link CheckDaemon} class.
+ */
+public class CheckDaemonTest {
+
+    private static final long SEED = 42L;
+    private static final Duration DEBOUNCE = Duration.ofMillis(100);
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @TempDir
+    private Path tempDir;
+
+    /**
+     * Result of checking the changed files of a watched directory.
+     *
+     * @param files  Files checked
+     * @param events  Violations found
+     */
+    private record Checked(List<Path> files, List<AuditEvent> events) {
+    }
+
+    @Test
+    public void testCheck() throws Exception {
+        final Path srcDir = createCorpus();
+        final List<String> expected = format(CThingAudit.run(List.of(srcDir), 1));
+        assertThat(expected).isNotEmpty();
+
+        try (CheckDaemon daemon = new CheckDaemon(CThingAudit.createConfiguration(), 2)) {
+            assertThat(format(daemon.check(List.of(srcDir)))).isEqualTo(expected);
+            assertThat(format(daemon.check(List.of(srcDir)))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testSocket() throws Exception {
+        final Path srcDir = createCorpus();
+        final List<String> expected = format(CThingAudit.run(List.of(srcDir), 1));
+        final Path socket = this.tempDir.resolve("daemon.sock");
+
+        try (CheckDaemon daemon = new CheckDaemon()) {
+            daemon.listen(socket);
+
+            for (int i = 0; i < 2; i++) {
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                final int numViolations = CheckDaemon.request(socket, List.of(srcDir),
+                                                              new PrintStream(out, true, StandardCharsets.UTF_8));
+                assertThat(numViolations).isEqualTo(expected.size());
+                assertThat(out.toString(StandardCharsets.UTF_8).lines().toList()).isEqualTo(expected);
+            }
+        }
+        assertThat(socket).doesNotExist();
+    }
+
+    @Test
+    public void testSocketPermissions() throws Exception {
+        final Path socket = this.tempDir.resolve("daemon.sock");
+
+        try (CheckDaemon daemon = new CheckDaemon(CThingAudit.createConfiguration(), 1)) {
+            daemon.listen(socket);
+            assertThat(Files.getPosixFilePermissions(socket)).containsExactlyInAnyOrder(
+                    PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE);
+            try (Stream<Path> files = Files.list(this.tempDir)) {
+                assertThat(files).containsExactly(socket);
+            }
+
+            try (CheckDaemon other = new CheckDaemon(CThingAudit.createConfiguration(), 1)) {
+                assertThatThrownBy(() -> other.listen(socket)).isInstanceOf(IOException.class);
+            }
+            assertThat(socket).exists();
+        }
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        final Path srcDir = createCorpus();
+        final Path socket = this.tempDir.resolve("daemon.sock");
+
+        try (CheckDaemon daemon = new CheckDaemon(CThingAudit.createConfiguration(), 1)) {
+            daemon.setReadTimeout(DEBOUNCE);
+            daemon.listen(socket);
+
+            // A client that never completes its request is disconnected
+            try (SocketChannel stalled = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+                stalled.write(StandardCharsets.UTF_8.encode(srcDir.toString()));
+                assertThat(stalled.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+            }
+
+            final PrintStream out = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+            assertThat(CheckDaemon.request(socket, List.of(srcDir), out)).isPositive();
+        }
+    }
+
+    @Test
+    public void testSocketError() throws Exception {
+        final Path broken = this.tempDir.resolve("Broken.java");
+        Files.writeString(broken, "public class Broken {", StandardCharsets.UTF_8);
+        final Path socket = this.tempDir.resolve("daemon.sock");
+
+        try (CheckDaemon daemon = new CheckDaemon(CThingAudit.createConfiguration(), 1)) {
+            daemon.listen(socket);
+
+            final PrintStream out = new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+            assertThatThrownBy(() -> CheckDaemon.request(socket, List.of(broken), out))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Broken.java");
+
+            // The checker remains usable after an error
+            final Path good = createCorpus();
+            assertThat(CheckDaemon.request(socket, List.of(good), out)).isPositive();
+        }
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        final Path srcDir = Files.createDirectories(this.tempDir.resolve("src"));
+        final BlockingQueue<Checked> results = new LinkedBlockingQueue<>();
+
+        try (CheckDaemon daemon = new CheckDaemon(CThingAudit.createConfiguration(), 1)) {
+            daemon.watch(List.of(this.tempDir), DEBOUNCE, new CheckDaemon.WatchListener() {
+                @Override
+                public void filesChecked(final List<Path> files, final List<AuditEvent> events) {
+                    results.add(new Checked(files, events));
+                }
+
+                @Override
+                public void checkFailed(final List<Path> files, final CheckstyleException ex) {
+                    results.add(new Checked(files, null));
+                }
+            });
+
+            // Several writes within the debounce time are checked together
+            final String source = new SyntheticCorpus(SEED, 1.0).generate(SyntheticCorpus.Shape.DAO, "Watch", 4);
+            final Path file = srcDir.resolve("WatchDaoImpl.java");
+            final Path other = srcDir.resolve("OtherDaoImpl.java");
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+            Files.writeString(other, source.replace("WatchDaoImpl", "OtherDaoImpl"), StandardCharsets.UTF_8);
+            Files.writeString(file, source + "\n", StandardCharsets.UTF_8);
+
+            final Checked checked = results.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(checked).isNotNull();
+            assertThat(checked.files()).containsExactly(other, file);
+            assertThat(checked.events()).isNotEmpty()
+                                        .allMatch(event -> event.getFileName().equals(file.toString())
+                                                || event.getFileName().equals(other.toString()));
+        }
+    }
+
+    @Test
+    public void testFormat() throws Exception {
+        final Path srcDir = createCorpus();
+        final List<AuditEvent> events = CThingAudit.run(List.of(srcDir), 1);
+
+        final AuditEvent event = events.get(0);
+        assertThat(CheckDaemon.format(event)).startsWith("[ERROR] " + event.getFileName() + ":" + event.getLine())
+                                             .endsWith(event.getMessage() + " [LogDeclaration]");
+    }
+
+    private Path createCorpus() throws IOException {
+        final Path srcDir = this.tempDir.resolve("corpus");
+        final SyntheticCorpus corpus = new SyntheticCorpus(SEED, 0.2);
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            corpus.write(srcDir.resolve(shape.name().toLowerCase()), shape, 2, 10);
+        }
+        return srcDir;
+    }
+
+    private static List<String> format(final List<AuditEvent> events) {
+        return events.stream().map(CheckDaemon::format).toList();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.cthing.checkstyle.checks.LogDeclarationCheck;
+import org.cthing.checkstyle.checks.SpringDaoAnnotationCheck;
+import org.cthing.checkstyle.checks.SyntheticCorpus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests the {@link PipelinedAudit} class.
+ */
+public class PipelinedAuditTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testMatchesChecker() throws Exception {
+        createCorpus();
+        final List<String> expected = format(CThingAudit.run(List.of(this.tempDir), 1));
+        assertThat(expected).isNotEmpty();
+
+        assertThat(format(new PipelinedAudit().run(List.of(this.tempDir)))).isEqualTo(expected);
+
+        final PipelinedAudit audit = new PipelinedAudit();
+        audit.setReadThreads(3);
+        audit.setParseThreads(2);
+        audit.setCheckThreads(3);
+        audit.setQueueCapacity(1);
+        assertThat(format(audit.run(List.of(this.tempDir)))).isEqualTo(expected);
+    }
+
+    @Test
+    public void testCheckConfiguration() throws Exception {
+        createCorpus();
+        final DefaultConfiguration logConfig = new DefaultConfiguration("LogDeclaration");
+        logConfig.addProperty("severity", "warning");
+        final DefaultConfiguration daoConfig = new DefaultConfiguration(SpringDaoAnnotationCheck.class.getName());
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("Checker");
+        checkerConfig.addChild(PipelinedAudit.createTreeWalkerConfig(logConfig, daoConfig));
+
+        final List<String> expected = format(CThingAudit.run(List.of(this.tempDir), checkerConfig, 2));
+        final List<AuditEvent> events =
+                new PipelinedAudit(PipelinedAudit.createTreeWalkerConfig(logConfig, daoConfig))
+                        .run(List.of(this.tempDir));
+        assertThat(format(events)).isEqualTo(expected);
+        assertThat(events).noneMatch(event -> event.getViolation().getKey().startsWith("testmethoddeclaration"))
+                          .anyMatch(event -> LogDeclarationCheck.class.getName().equals(event.getSourceName())
+                                  && (event.getSeverityLevel() == SeverityLevel.WARNING));
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        createCorpus();
+        final Path cacheFile = this.tempDir.resolve("cache").resolve("audit.cache");
+        final List<String> expected = format(CThingAudit.run(List.of(this.tempDir), 1));
+        final int numFiles = CThingAudit.collectFiles(List.of(this.tempDir)).size();
+
+        final PipelinedAudit audit = new PipelinedAudit();
+        audit.setCacheFile(cacheFile);
+        assertThat(format(audit.run(List.of(this.tempDir)))).isEqualTo(expected);
+        assertThat(audit.getCacheHits()).isZero();
+        assertThat(cacheFile).exists();
+
+        final PipelinedAudit cachedAudit = new PipelinedAudit();
+        cachedAudit.setCacheFile(cacheFile);
+        final List<AuditEvent> cachedEvents = cachedAudit.run(List.of(this.tempDir));
+        assertThat(cachedAudit.getCacheHits()).isEqualTo(numFiles);
+        assertThat(format(cachedEvents)).isEqualTo(expected);
+        assertThat(cachedEvents).extracting(AuditEvent::getSourceName)
+                                .isEqualTo(CThingAudit.run(List.of(this.tempDir), 1).stream()
+                                                      .map(AuditEvent::getSourceName)
+                                                      .toList());
+
+        // A changed file is audited again
+        final Path changed = this.tempDir.resolve("DAO").resolve("Changed.java");
+        Files.writeString(changed, "public class ChangedDaoImpl { }", StandardCharsets.UTF_8);
+        final List<String> changedExpected = format(CThingAudit.run(List.of(this.tempDir), 1));
+        assertThat(format(cachedAudit.run(List.of(this.tempDir)))).isEqualTo(changedExpected);
+        assertThat(cachedAudit.getCacheHits()).isEqualTo(numFiles);
+
+        // A change in the configuration invalidates the cache
+        final DefaultConfiguration logConfig = new DefaultConfiguration("LogDeclaration");
+        logConfig.addProperty("severity", "warning");
+        final PipelinedAudit configuredAudit = new PipelinedAudit(PipelinedAudit.createTreeWalkerConfig(logConfig));
+        configuredAudit.setCacheFile(cacheFile);
+        configuredAudit.run(List.of(this.tempDir));
+        assertThat(configuredAudit.getCacheHits()).isZero();
+    }
+
+    @Test
+    public void testDecode() throws Exception {
+        final byte[] contents = {
+            'a', '\r', '\n', 'b', '\r', 'c', '\n', (byte)0xC3, (byte)0xAF, ' ', (byte)0xFF, '\n', '\n', 'd',
+        };
+        final Path path = this.tempDir.resolve("Lines.java");
+        Files.write(path, contents);
+
+        final FileText expected = new FileText(path.toFile(), StandardCharsets.UTF_8.name());
+        final FileText actual = PipelinedAudit.decode(path.toFile(), contents, StandardCharsets.UTF_8);
+        assertThat(actual.getFile()).isEqualTo(path.toFile());
+        assertThat(actual.toLinesArray()).containsExactly(expected.toLinesArray());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(new PipelinedAudit().run(List.of(this.tempDir))).isEmpty();
+    }
+
+    @Test
+    public void testParseError() throws Exception {
+        createCorpus();
+        Files.writeString(this.tempDir.resolve("Broken.java"), "public class Broken {", StandardCharsets.UTF_8);
+
+        final PipelinedAudit audit = new PipelinedAudit();
+        audit.setQueueCapacity(1);
+        assertThatThrownBy(() -> audit.run(List.of(this.tempDir))).isInstanceOf(CheckstyleException.class)
+                                                                   .hasMessageContaining("Broken.java");
+    }
+
+    @Test
+    public void testMissingFile() {
+        assertThatThrownBy(() -> new PipelinedAudit().run(List.of(this.tempDir.resolve("Missing.java"))))
+                .isInstanceOf(CheckstyleException.class)
+                .hasMessageContaining("Missing.java");
+    }
+
+    @Test
+    public void testNotACheck() {
+        final DefaultConfiguration config =
+                PipelinedAudit.createTreeWalkerConfig(new DefaultConfiguration("SuppressionCommentFilter"));
+        assertThatThrownBy(() -> new PipelinedAudit(config).run(List.of(this.tempDir.resolve("A.java"))))
+                .isInstanceOf(CheckstyleException.class)
+                .hasMessageContaining("not a check");
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        final ExecutorService executor = PipelinedAudit.createExecutor(2);
+        try {
+            final boolean virtual = executor.submit(() -> Thread.currentThread().toString().contains("Virtual"))
+                                            .get();
+            assertThat(virtual).isEqualTo(PipelinedAudit.isVirtualThreadsAvailable());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void createCorpus() throws IOException {
+        final SyntheticCorpus corpus = new SyntheticCorpus(7L, 0.2);
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            corpus.write(this.tempDir.resolve(shape.name()), shape, 6, 10);
+        }
+    }
+
+    private static List<String> format(final List<AuditEvent> events) {
+        return events.stream()
+                     .map(event -> event.getFileName() + ':' + event.getLine() + ':' + event.getColumn() + ": "
+                             + event.getMessage() + " [" + event.getSourceName() + ']')
+                     .toList();
+    }
+}
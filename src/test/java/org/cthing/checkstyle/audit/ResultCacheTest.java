@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.audit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+
+import org.cthing.checkstyle.checks.LogDeclarationCheck;
+import org.cthing.checkstyle.checks.SpringDaoAnnotationCheck;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link ResultCache} class.
+ */
+public class ResultCacheTest {
+
+    private static final String FINGERPRINT = "fingerprint";
+    private static final ClassLoader CLASS_LOADER = ResultCacheTest.class.getClassLoader();
+
+    @TempDir
+    private Path tempDir;
+
+    private Path cacheFile;
+    private String sourceFile;
+    private byte[] sourceHash;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.cacheFile = this.tempDir.resolve("cache.bin");
+        final Path source = this.tempDir.resolve("Test.java");
+        Files.writeString(source, "class Test { }", StandardCharsets.UTF_8);
+        this.sourceFile = source.toString();
+        this.sourceHash = ResultCache.hash(Files.readAllBytes(source));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Violation violation = new Violation(3, 5, 4, TokenTypes.VARIABLE_DEF,
+                                                  "org.cthing.checkstyle.checks.messages", "logdeclaration.name",
+                                                  new Object[] { "LOG", "'quoted' {braces}" }, SeverityLevel.WARNING,
+                                                  "myId", LogDeclarationCheck.class, null);
+        final Violation customViolation = new Violation(7, 0, 0, 0, null, "springdao.class.repository", null,
+                                                        SeverityLevel.ERROR, null, SpringDaoAnnotationCheck.class,
+                                                        "Custom message");
+
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            assertThat(cache.get(this.sourceFile, this.sourceHash)).isNull();
+            cache.put(this.sourceFile, this.sourceHash, List.of(violation, customViolation));
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            final SortedSet<Violation> cached = cache.get(this.sourceFile, this.sourceHash);
+            assertThat(cached).hasSize(2);
+
+            final Violation first = cached.first();
+            assertThat(first.getLineNo()).isEqualTo(3);
+            assertThat(first.getColumnNo()).isEqualTo(5);
+            assertThat(first.getColumnCharIndex()).isEqualTo(4);
+            assertThat(first.getTokenType()).isEqualTo(TokenTypes.VARIABLE_DEF);
+            assertThat(first.getSeverityLevel()).isEqualTo(SeverityLevel.WARNING);
+            assertThat(first.getModuleId()).isEqualTo("myId");
+            assertThat(first.getKey()).isEqualTo("logdeclaration.name");
+            assertThat(first.getSourceName()).isEqualTo(LogDeclarationCheck.class.getName());
+            assertThat(first.getViolation()).isEqualTo(violation.getViolation());
+
+            final Violation last = cached.last();
+            assertThat(last.getModuleId()).isNull();
+            assertThat(last.getViolation()).isEqualTo("Custom message");
+        }
+    }
+
+    @Test
+    public void testChangedContents() throws IOException {
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            cache.put(this.sourceFile, this.sourceHash, List.of());
+        }
+
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            assertThat(cache.get(this.sourceFile, this.sourceHash)).isEmpty();
+            assertThat(cache.get(this.sourceFile, ResultCache.hash(new byte[] { 1 }))).isNull();
+            assertThat(cache.get(this.tempDir.resolve("Other.java").toString(), this.sourceHash)).isNull();
+        }
+    }
+
+    @Test
+    public void testFingerprintMismatch() throws IOException {
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            cache.put(this.sourceFile, this.sourceHash, List.of());
+        }
+
+        try (ResultCache cache = ResultCache.open(this.cacheFile, "other", CLASS_LOADER)) {
+            assertThat(cache.size()).isZero();
+            assertThat(cache.get(this.sourceFile, this.sourceHash)).isNull();
+        }
+
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Test
+    public void testTruncatedFile() throws IOException {
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            cache.put(this.sourceFile, this.sourceHash, List.of());
+        }
+        final long validSize = Files.size(this.cacheFile);
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            cache.put(this.tempDir.resolve("Other.java").toString(), this.sourceHash, List.of());
+        }
+        final byte[] contents = Files.readAllBytes(this.cacheFile);
+        Files.write(this.cacheFile, Arrays.copyOf(contents, contents.length - 3));
+
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.get(this.sourceFile, this.sourceHash)).isEmpty();
+        }
+        assertThat(Files.size(this.cacheFile)).isEqualTo(validSize);
+    }
+
+    @Test
+    public void testCorruptFile() throws IOException {
+        Files.writeString(this.cacheFile, "not a cache", StandardCharsets.UTF_8);
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            assertThat(cache.size()).isZero();
+            cache.put(this.sourceFile, this.sourceHash, List.of());
+        }
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        final List<Long> sizes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+                cache.put(this.sourceFile, ResultCache.hash(new byte[] { (byte)i }), List.of());
+                cache.put(this.tempDir.resolve("Deleted.java").toString(), this.sourceHash, List.of());
+            }
+            sizes.add(Files.size(this.cacheFile));
+        }
+
+        // The file is compacted when the superseded entries outnumber the current ones, and the entry of the
+        // file that does not exist is removed
+        assertThat(sizes.stream().mapToLong(Long::longValue).max().orElseThrow()).isLessThan(sizes.get(0) * 100);
+        assertThat(sizes.subList(1, sizes.size())).contains(sizes.get(0));
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            assertThat(cache.get(this.sourceFile, ResultCache.hash(new byte[] { (byte)199 }))).isEmpty();
+            assertThat(cache.get(this.sourceFile, this.sourceHash)).isNull();
+        }
+    }
+
+    @Test
+    public void testUnknownSourceClass() throws IOException {
+        final ClassLoader emptyLoader = new ClassLoader(null) { };
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, CLASS_LOADER)) {
+            cache.put(this.sourceFile, this.sourceHash,
+                      List.of(new Violation(1, "bundle", "key", null, null, LogDeclarationCheck.class, "message")));
+        }
+        try (ResultCache cache = ResultCache.open(this.cacheFile, FINGERPRINT, emptyLoader)) {
+            assertThat(cache.get(this.sourceFile, this.sourceHash)).isNull();
+        }
+    }
+
+    @Test
+    public void testFingerprint() throws Exception {
+        final Set<Class<?>> classes = Set.of(LogDeclarationCheck.class);
+        final String fingerprint = ResultCache.createFingerprint(createConfig(null), classes, StandardCharsets.UTF_8);
+        assertThat(fingerprint).hasSize(64)
+                               .isEqualTo(ResultCache.createFingerprint(createConfig(null), classes,
+                                                                        StandardCharsets.UTF_8))
+                               .isNotEqualTo(ResultCache.createFingerprint(createConfig("warning"), classes,
+                                                                           StandardCharsets.UTF_8))
+                               .isNotEqualTo(ResultCache.createFingerprint(createConfig(null), classes,
+                                                                           StandardCharsets.ISO_8859_1));
+    }
+
+    private static Configuration createConfig(final String severity) {
+        final DefaultConfiguration checkConfig = new DefaultConfiguration("LogDeclaration");
+        if (severity != null) {
+            checkConfig.addProperty("severity", severity);
+        }
+        return PipelinedAudit.createTreeWalkerConfig(checkConfig);
+    }
+}
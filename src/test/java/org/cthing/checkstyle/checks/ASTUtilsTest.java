@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import com.puppycrawl.tools.checkstyle.Checker;
 import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.DetailAstImpl;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
@@ -62,10 +63,13 @@ public class ASTUtilsTest extends AbstractCheckTestSupport {
         Collections.addAll(theFiles, new File(getPath("ClassDeclaration.java")));
         checker.process(theFiles);
 
-        assertThat(ASTUtils.findDeclModifiers(TestCheck.ast)).contains(TokenTypes.LITERAL_PUBLIC);
+        assertThat(ASTUtils.findDeclModifiers(TestCheck.ast)).containsExactly(TokenTypes.LITERAL_PUBLIC);
+        assertThat(ASTUtils.findDeclModifierMask(TestCheck.ast)).isEqualTo(ModifierMask.PUBLIC);
         final DetailAST variableDef = ASTUtils.findType(TestCheck.ast, TokenTypes.VARIABLE_DEF);
         assertThat(variableDef).isNotNull();
         assertThat(ASTUtils.getIdent(variableDef)).isEqualTo("HELLO");
+        assertThat(ASTUtils.findDeclModifierMask(variableDef)).isEqualTo(ModifierMask.PRIVATE | ModifierMask.STATIC
+                                                                                 | ModifierMask.FINAL);
         assertThat(ASTUtils.findText(variableDef, "HELLO")).isNotNull();
 
         final DetailAST classDef = ASTUtils.findEnclosingClass(variableDef);
@@ -73,4 +77,96 @@ public class ASTUtilsTest extends AbstractCheckTestSupport {
 
         checker.destroy();
     }
+
+    @Test
+    public void testSearchOrder() {
+        final DetailAstImpl root = createNode(TokenTypes.EXPR, "root");
+        final DetailAstImpl first = createNode(TokenTypes.METHOD_CALL, "first");
+        final DetailAstImpl firstChild = createNode(TokenTypes.IDENT, "target");
+        final DetailAstImpl second = createNode(TokenTypes.IDENT, "target");
+        final DetailAstImpl rootSibling = createNode(TokenTypes.LITERAL_CLASS, "sibling");
+        root.addChild(first);
+        first.addChild(firstChild);
+        root.addChild(second);
+        root.addNextSibling(rootSibling);
+
+        assertThat(ASTUtils.findType(root, TokenTypes.EXPR)).isSameAs(root);
+        assertThat(ASTUtils.findType(root, TokenTypes.IDENT)).isSameAs(firstChild);
+        assertThat(ASTUtils.findText(root, "target")).isSameAs(firstChild);
+        assertThat(ASTUtils.findType(second, TokenTypes.IDENT)).isSameAs(second);
+        assertThat(ASTUtils.findType(root, TokenTypes.LITERAL_CLASS)).isNull();
+        assertThat(ASTUtils.findText(first, "sibling")).isNull();
+    }
+
+    @Test
+    public void testFindFirst() {
+        final DetailAstImpl root = createNode(TokenTypes.EXPR, "root");
+        final DetailAstImpl first = createNode(TokenTypes.METHOD_CALL, "first");
+        final DetailAstImpl firstChild = createNode(TokenTypes.IDENT, "target");
+        final DetailAstImpl second = createNode(TokenTypes.IDENT, "other");
+        final DetailAstImpl rootSibling = createNode(TokenTypes.LITERAL_CLASS, "sibling");
+        root.addChild(first);
+        first.addChild(firstChild);
+        root.addChild(second);
+        root.addNextSibling(rootSibling);
+
+        final SubtreeMatches matches = ASTUtils.findFirst(root, new String[] { "other", "target", "missing", "sibling" },
+                                                          new int[] { TokenTypes.IDENT, TokenTypes.LITERAL_CLASS,
+                                                                      TokenTypes.METHOD_CALL });
+        assertThat(matches.isComplete()).isFalse();
+        assertThat(matches.getTextMatch(0)).isSameAs(second);
+        assertThat(matches.getTextMatch(1)).isSameAs(firstChild);
+        assertThat(matches.getTextMatch(2)).isNull();
+        assertThat(matches.getTextMatch(3)).isNull();
+        assertThat(matches.getTypeMatch(0)).isSameAs(firstChild);
+        assertThat(matches.getTypeMatch(1)).isNull();
+        assertThat(matches.getTypeMatch(2)).isSameAs(first);
+
+        final SubtreeMatches complete = ASTUtils.findFirst(root, new String[] { "first" }, new int[] { TokenTypes.EXPR });
+        assertThat(complete.isComplete()).isTrue();
+        assertThat(complete.getTextMatch(0)).isSameAs(first);
+        assertThat(complete.getTypeMatch(0)).isSameAs(root);
+    }
+
+    @Test
+    public void testNodeBudget() {
+        final DetailAstImpl root = createNode(TokenTypes.EXPR, "root");
+        final DetailAstImpl child1 = createNode(TokenTypes.IDENT, "a");
+        final DetailAstImpl child2 = createNode(TokenTypes.STRING_LITERAL, "b");
+        root.addChild(child1);
+        root.addChild(child2);
+
+        assertThat(ASTUtils.findType(root, TokenTypes.STRING_LITERAL, 3)).isSameAs(child2);
+        assertThat(ASTUtils.findType(root, TokenTypes.STRING_LITERAL, 2)).isNull();
+        assertThat(ASTUtils.findText(root, "b", 3)).isSameAs(child2);
+        assertThat(ASTUtils.findText(root, "b", 2)).isNull();
+        assertThat(ASTUtils.findText(root, "root", 0)).isNull();
+    }
+
+    @Test
+    public void testDeepTree() {
+        final int depth = 200_000;
+        final DetailAstImpl leaf = createNode(TokenTypes.STRING_LITERAL, "\"leaf\"");
+
+        // Build from the leaf up because adding a child to a node with ancestors walks those ancestors
+        DetailAstImpl top = leaf;
+        for (int i = 0; i < depth; i++) {
+            final DetailAstImpl node = createNode(TokenTypes.PLUS, "+");
+            node.addChild(top);
+            top = node;
+        }
+        final DetailAstImpl root = createNode(TokenTypes.EXPR, "root");
+        root.addChild(top);
+
+        assertThat(ASTUtils.findType(root, TokenTypes.STRING_LITERAL)).isSameAs(leaf);
+        assertThat(ASTUtils.findText(root, "\"leaf\"")).isSameAs(leaf);
+        assertThat(ASTUtils.findType(root, TokenTypes.LITERAL_CLASS)).isNull();
+        assertThat(ASTUtils.findEnclosingClass(leaf)).isNull();
+    }
+
+    private static DetailAstImpl createNode(final int type, final String text) {
+        final DetailAstImpl node = new DetailAstImpl();
+        node.initialize(type, text);
+        return node;
+    }
 }
@@ -67,11 +67,11 @@ public abstract class AbstractCheckTestSupport {
         return new DefaultConfiguration(clazz.getName());
     }
 
-    protected Checker createChecker(final Configuration checkConfig) throws Exception {
+    protected Checker createChecker(final Configuration... checkConfigs) throws Exception {
         this.byteOutputStream = new ByteArrayOutputStream();
         this.printStream = new PrintStream(this.byteOutputStream);
 
-        final DefaultConfiguration checkerConfig = createCheckerConfig(checkConfig);
+        final DefaultConfiguration checkerConfig = createCheckerConfig(checkConfigs);
         final Checker checker = new Checker();
 
         // Ensure that the tests always run with English error messages
@@ -86,14 +86,16 @@ public abstract class AbstractCheckTestSupport {
         return checker;
     }
 
-    protected DefaultConfiguration createCheckerConfig(final Configuration config) {
+    protected DefaultConfiguration createCheckerConfig(final Configuration... configs) {
         final DefaultConfiguration checkerConfig = new DefaultConfiguration("configuration");
         final DefaultConfiguration treeWalkerConfig = createCheckConfig(TreeWalker.class);
 
         // Ensure that the tests always run with this charset
         checkerConfig.addProperty("charset", "iso-8859-1");
         checkerConfig.addChild(treeWalkerConfig);
-        treeWalkerConfig.addChild(config);
+        for (final Configuration config : configs) {
+            treeWalkerConfig.addChild(config);
+        }
 
         return checkerConfig;
     }
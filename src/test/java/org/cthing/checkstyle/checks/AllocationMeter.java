@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.lang.management.ManagementFactory;
+
+
+/**
+ * Measures the memory allocated on the current thread by an action, using the allocation counter of the HotSpot
+ * {@link com.sun.management.ThreadMXBean}. The action is run repeatedly and the smallest allocation of a single
+ * run is reported. Warming up the action first excludes one time allocations, such as class loading and the
+ * lazy initialization of caches, and allocations eliminated by the JIT compiler, so that the measurement reflects
+ * the steady state of the action.
+ *
+ * <p>
+ * Allocation measurement is not available on every JVM. Use {@link #isSupported()} to determine whether the
+ * current JVM supports it.
+ * </p>
+ */
+public final class AllocationMeter {
+
+    private static final int WARMUP_RUNS = 200;
+    private static final int MEASURED_RUNS = 20;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = findThreadBean();
+
+    /**
+     * Bytes allocated by reading the allocation counter itself, subtracted from each measurement.
+     */
+    private static final long OVERHEAD = isSupported() ? calibrate() : 0;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Indicates whether the current JVM can measure the memory allocated by a thread.
+     *
+     * @return {@code true} if allocations can be measured.
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * Measures the memory allocated on the current thread by a single run of the specified action.
+     *
+     * @param action  Action to measure. The action is run many times.
+     * @return Smallest number of bytes allocated by a run of the action.
+     * @throws IllegalStateException if allocations cannot be measured on the current JVM
+     */
+    public static long measure(final Runnable action) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Thread allocation measurement is not supported by this JVM");
+        }
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            action.run();
+        }
+        return Math.max(0, measureRuns(action) - OVERHEAD);
+    }
+
+    private static long measureRuns(final Runnable action) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            final long start = THREAD_BEAN.getCurrentThreadAllocatedBytes();
+            action.run();
+            best = Math.min(best, THREAD_BEAN.getCurrentThreadAllocatedBytes() - start);
+        }
+        return best;
+    }
+
+    private static long calibrate() {
+        final Runnable empty = () -> { };
+        measureRuns(empty);
+        return measureRuns(empty);
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link AnnotationDescriptor} class.
+ */
+public class AnnotationDescriptorTest extends AbstractCheckTestSupport {
+
+    @Test
+    public void testParse() throws Exception {
+        final DetailAST root = JavaParser.parseFile(new File(getPath("Annotations.java")),
+                                                    JavaParser.Options.WITHOUT_COMMENTS);
+        final AstIndex index = AstIndex.acquire(root);
+        try {
+            final DetailAST classDef = index.getTokens(TokenTypes.CLASS_DEF)[0];
+            final AnnotationDescriptor[] classAnnotations = index.getAnnotations(classDef.findFirstToken(TokenTypes.MODIFIERS));
+            assertThat(classAnnotations).hasSize(2);
+
+            assertThat(classAnnotations[0].getSimpleName()).isEqualTo("Repository");
+            assertThat(classAnnotations[0].getQualifiedName()).isEqualTo("Repository");
+            assertThat(classAnnotations[0].getNode().getType()).isEqualTo(TokenTypes.ANNOTATION);
+            assertThat(classAnnotations[0].hasMember("value")).isFalse();
+
+            final AnnotationDescriptor transactional = AnnotationDescriptor.find(classAnnotations, "Transactional");
+            assertThat(transactional).isSameAs(classAnnotations[1]);
+            assertThat(transactional.getQualifiedName()).isEqualTo("org.springframework.transaction.annotation.Transactional");
+            assertThat(transactional.hasName("org.springframework.transaction.annotation.Transactional")).isTrue();
+            assertThat(transactional.getMemberValue("readOnly")).isEqualTo("true");
+            assertThat(transactional.getMemberValue("timeout")).isEqualTo("100");
+            assertThat(transactional.getMemberValue("propagation")).isNull();
+            assertThat(AnnotationDescriptor.find(classAnnotations, "Service")).isNull();
+
+            final DetailAST[] methodDefs = index.getTokens(TokenTypes.METHOD_DEF);
+            final AnnotationDescriptor[] annotated = index.getAnnotations(methodDefs[0].findFirstToken(TokenTypes.MODIFIERS));
+            assertThat(annotated).hasSize(2);
+            assertThat(annotated[0].getMemberValue(AnnotationDescriptor.VALUE_MEMBER)).isEqualTo("\"unchecked\"");
+            assertThat(annotated[1].getMemberValue("since")).isEqualTo("\"1.0\"");
+            assertThat(annotated[1].getMemberValue("forRemoval")).isEqualTo("true");
+
+            final AnnotationDescriptor[] complex = index.getAnnotations(methodDefs[1].findFirstToken(TokenTypes.MODIFIERS));
+            assertThat(complex).hasSize(2);
+            assertThat(complex[0].getSimpleName()).isEqualTo("Tags");
+            assertThat(complex[0].getMemberValue(AnnotationDescriptor.VALUE_MEMBER)).isEqualTo("\"fast\"");
+            assertThat(complex[1].getMemberValue("value")).isEqualTo("5");
+            assertThat(complex[1].getMemberValue("unit")).isNull();
+
+            final DetailAST plainModifiers = methodDefs[2].findFirstToken(TokenTypes.MODIFIERS);
+            assertThat(index.getAnnotations(plainModifiers)).isEmpty();
+            assertThat(index.getAnnotations(null)).isEmpty();
+
+            final DetailAST modifiers = methodDefs[0].findFirstToken(TokenTypes.MODIFIERS);
+            assertThat(index.getAnnotations(modifiers)).isSameAs(index.getAnnotations(modifiers));
+            assertThat(ASTUtils.parseAnnotations(modifiers)).isNotSameAs(index.getAnnotations(modifiers));
+        } finally {
+            index.release();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link AstIndex} class.
+ */
+public class AstIndexTest extends AbstractCheckTestSupport {
+
+    @Test
+    public void testQueries() throws Exception {
+        final DetailAST root = JavaParser.parseFile(new File(getPath("LogDeclaration.java")),
+                                                    JavaParser.Options.WITHOUT_COMMENTS);
+        final AstIndex index = AstIndex.acquire(root);
+        try {
+            final DetailAST[] classDefs = index.getTokens(TokenTypes.CLASS_DEF);
+            assertThat(classDefs).hasSize(9);
+            assertThat(ASTUtils.getIdent(classDefs[0])).isEqualTo("LogDeclaration");
+            assertThat(ASTUtils.getIdent(classDefs[8])).isEqualTo("SyntaxError1");
+
+            final DetailAST[] loggers = index.getIdents("Logger");
+            assertThat(loggers).hasSize(10);
+            for (int i = 1; i < loggers.length; i++) {
+                assertThat(loggers[i].getLineNo()).isGreaterThanOrEqualTo(loggers[i - 1].getLineNo());
+            }
+
+            assertThat(index.hasIdent("Logger")).isTrue();
+            assertThat(index.hasIdent("LoggerFactory")).isTrue();
+            assertThat(index.hasIdent("SyntaxError1")).isTrue();
+            assertThat(index.hasIdent("Test")).isFalse();
+            assertThat(index.getIdents("Test")).isEmpty();
+            assertThat(index.getTokens(TokenTypes.LITERAL_INTERFACE)).isEmpty();
+            assertThat(index.getTokens(Integer.MAX_VALUE)).isEmpty();
+
+            // Keywords are not identifiers
+            assertThat(index.hasIdent("class")).isFalse();
+        } finally {
+            index.release();
+        }
+    }
+
+    @Test
+    public void testSharing() throws Exception {
+        final DetailAST root1 = JavaParser.parseFile(new File(getPath("ClassDeclaration.java")),
+                                                     JavaParser.Options.WITHOUT_COMMENTS);
+        final DetailAST root2 = JavaParser.parseFile(new File(getPath("ClassDeclaration.java")),
+                                                     JavaParser.Options.WITHOUT_COMMENTS);
+
+        final AstIndex index1 = AstIndex.acquire(root1);
+        final AstIndex index2 = AstIndex.acquire(root1);
+        assertThat(index2).isSameAs(index1);
+        assertThat(index1.getTokens(TokenTypes.VARIABLE_DEF)).hasSize(1);
+        assertThat(index1.getTokens(TokenTypes.VARIABLE_DEF)).isSameAs(index2.getTokens(TokenTypes.VARIABLE_DEF));
+        assertThat(index1.getImports()).isSameAs(index2.getImports());
+        index1.release();
+        index2.release();
+
+        final AstIndex index3 = AstIndex.acquire(root1);
+        assertThat(index3).isNotSameAs(index1);
+        final AstIndex index4 = AstIndex.acquire(root2);
+        assertThat(index4).isNotSameAs(index3);
+        index3.release();
+        index4.release();
+    }
+
+    @Test
+    public void testEmptyTree() {
+        final AstIndex index = AstIndex.acquire(null);
+        try {
+            assertThat(index.getTokens(TokenTypes.CLASS_DEF)).isEmpty();
+            assertThat(index.hasIdent("Logger")).isFalse();
+        } finally {
+            index.release();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link CThingChecksCheck} class.
+ */
+public class CThingChecksCheckTest extends AbstractCheckTestSupport {
+
+    private static final long SEED = 5;
+    private static final int SCALE = 8;
+
+    @Test
+    public void testMatchesSeparateChecks() throws Exception {
+        assertMatches(createCheckConfig(CThingChecksCheck.class),
+                      createCheckConfig(LogDeclarationCheck.class),
+                      createCheckConfig(SpringDaoAnnotationCheck.class),
+                      createCheckConfig(TestMethodDeclarationCheck.class));
+    }
+
+    @Test
+    public void testRuleProperties() throws Exception {
+        final DefaultConfiguration compositeConfig = createCheckConfig(CThingChecksCheck.class);
+        compositeConfig.addProperty("logDeclarationFrameworks", "slf4j, log4j2, jul, system");
+        compositeConfig.addProperty("logDeclarationRules", "Log:LogFactory.getLog:private static final:LOG");
+        compositeConfig.addProperty("springDaoAnnotationIncludePattern", "^.*Dao(Impl)?$");
+        compositeConfig.addProperty("springDaoAnnotationExcludePattern", "^Good.+$");
+        compositeConfig.addProperty("springDaoAnnotationWriteMethodPrefixes", "insert, update, delete, save");
+        compositeConfig.addProperty("springDaoAnnotationReadMethodPrefixes", "find, get");
+        compositeConfig.addProperty("testMethodDeclarationTestAnnotations", "org.junit.jupiter.api.Test, Property");
+
+        final DefaultConfiguration logConfig = createCheckConfig(LogDeclarationCheck.class);
+        logConfig.addProperty("frameworks", "slf4j, log4j2, jul, system");
+        logConfig.addProperty("rules", "Log:LogFactory.getLog:private static final:LOG");
+        final DefaultConfiguration daoConfig = createCheckConfig(SpringDaoAnnotationCheck.class);
+        daoConfig.addProperty("includePattern", "^.*Dao(Impl)?$");
+        daoConfig.addProperty("excludePattern", "^Good.+$");
+        daoConfig.addProperty("writeMethodPrefixes", "insert, update, delete, save");
+        daoConfig.addProperty("readMethodPrefixes", "find, get");
+        final DefaultConfiguration testConfig = createCheckConfig(TestMethodDeclarationCheck.class);
+        testConfig.addProperty("testAnnotations", "org.junit.jupiter.api.Test, Property");
+
+        assertMatches(compositeConfig, logConfig, daoConfig, testConfig);
+    }
+
+    @Test
+    public void testDisabledRules() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(CThingChecksCheck.class);
+        checkConfig.addProperty("logDeclaration", "false");
+        checkConfig.addProperty("springDaoAnnotation", "false");
+
+        final String[] expected = {
+                "33: Test method must have void return type. [CThingChecks]",
+                "38: Test method must be a public instance method. [CThingChecks]",
+                "42: Test method must be a public instance method. [CThingChecks]",
+                "46: Test method must be a public instance method. [CThingChecks]",
+        };
+
+        verify(checkConfig, getPath("TestMethodDeclaration.java"), expected);
+    }
+
+    @Test
+    public void testAllRulesDisabled() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(CThingChecksCheck.class);
+        checkConfig.addProperty("logDeclaration", "false");
+        checkConfig.addProperty("springDaoAnnotation", "false");
+        checkConfig.addProperty("testMethodDeclaration", "false");
+
+        final CheckHarness harness = CheckHarness.of(checkConfig);
+        for (final Path file : listFixtures()) {
+            assertThat(harness.run(Files.readString(file, StandardCharsets.ISO_8859_1))).as(file.toString())
+                                                                                        .isEmpty();
+        }
+    }
+
+    /**
+     * Asserts that the composite check reports the same violations, with the same message keys and messages, as
+     * the separate checks over the test fixtures and over synthetic sources of every shape.
+     */
+    private static void assertMatches(final DefaultConfiguration compositeConfig,
+                                      final DefaultConfiguration... separateConfigs) throws Exception {
+        final CheckHarness composite = CheckHarness.of(compositeConfig);
+        final CheckHarness separate = CheckHarness.of(separateConfigs);
+
+        for (final Path file : listFixtures()) {
+            final String source = Files.readString(file, StandardCharsets.ISO_8859_1);
+            assertThat(format(composite.run(source))).as(file.toString()).isEqualTo(format(separate.run(source)));
+        }
+
+        final SyntheticCorpus corpus = new SyntheticCorpus(SEED, 0.5);
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            final String source = corpus.generate(shape, "Composite", SCALE);
+            assertThat(format(composite.run(source))).as(shape.name()).isEqualTo(format(separate.run(source)));
+        }
+    }
+
+    private static List<Path> listFixtures() throws Exception {
+        final Path fixtures = Path.of(getPath("LogDeclaration.java")).getParent();
+        try (Stream<Path> stream = Files.list(fixtures)) {
+            return stream.sorted().toList();
+        }
+    }
+
+    private static List<String> format(final List<AuditEvent> events) {
+        return events.stream()
+                     .map(event -> event.getLine() + ":" + event.getColumn() + ":" + event.getViolation().getKey()
+                             + ": " + event.getMessage())
+                     .toList();
+    }
+}
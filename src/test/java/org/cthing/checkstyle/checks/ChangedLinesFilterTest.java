@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.cthing.checkstyle.audit.CThingAudit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests the {@link ChangedLinesFilter} and {@link ChangedFilesFilter} classes.
+ */
+public class ChangedLinesFilterTest {
+
+    private static final long SEED = 11L;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testChangedLines() throws Exception {
+        final Path srcDir = createCorpus();
+        final List<AuditEvent> all = CThingAudit.run(List.of(srcDir), CThingAudit.createConfiguration(), 1);
+        assertThat(all).hasSizeGreaterThan(2);
+
+        // Touch the lines of the first and last violations
+        final AuditEvent first = all.get(0);
+        final AuditEvent last = all.get(all.size() - 1);
+        final Path diff = writeDiff(createHunk(Path.of(first.getFileName()), first.getLine())
+                                            + createHunk(Path.of(last.getFileName()), last.getLine()));
+
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addChild(createFilterConfig("ChangedLinesFilter", diff));
+        final List<AuditEvent> changed = CThingAudit.run(List.of(srcDir), config, 1);
+
+        final Set<String> touched = Set.of(first.getFileName() + ":" + first.getLine(),
+                                           last.getFileName() + ":" + last.getLine());
+        assertThat(changed).isNotEmpty();
+        assertThat(format(changed)).isEqualTo(format(all.stream()
+                                                        .filter(event -> touched.contains(event.getFileName() + ":"
+                                                                                                  + event.getLine()))
+                                                        .toList()));
+    }
+
+    @Test
+    public void testChangedFiles() throws Exception {
+        final Path srcDir = createCorpus();
+        final List<AuditEvent> all = CThingAudit.run(List.of(srcDir), CThingAudit.createConfiguration(), 1);
+        final String fileName = all.get(0).getFileName();
+        final Path diff = writeDiff(createHunk(Path.of(fileName), 1));
+
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addChild(createFilterConfig("ChangedFilesFilter", diff));
+        final List<AuditEvent> changed = CThingAudit.run(List.of(srcDir), config, 1);
+
+        assertThat(changed).isNotEmpty();
+        assertThat(format(changed)).isEqualTo(format(all.stream()
+                                                        .filter(event -> event.getFileName().equals(fileName))
+                                                        .toList()));
+    }
+
+    @Test
+    public void testBasedir() throws Exception {
+        final Path srcDir = createCorpus();
+        final List<AuditEvent> all = CThingAudit.run(List.of(srcDir), CThingAudit.createConfiguration(), 1);
+        assertThat(all).hasSizeGreaterThan(1);
+        final AuditEvent first = all.get(0);
+        final Path diff = writeDiff(createHunk(Path.of(first.getFileName()), first.getLine()));
+
+        // The Checker reports the file names relative to its base directory
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addProperty("basedir", this.tempDir.toString());
+        config.addChild(createFilterConfig("ChangedFilesFilter", diff));
+        config.addChild(createFilterConfig("ChangedLinesFilter", diff));
+        final List<AuditEvent> changed = CThingAudit.run(List.of(srcDir), config, 1);
+
+        assertThat(changed).hasSize(1);
+        assertThat(changed.get(0).getFileName()).isEqualTo(this.tempDir.relativize(Path.of(first.getFileName()))
+                                                                        .toString());
+        assertThat(changed.get(0).getLine()).isEqualTo(first.getLine());
+    }
+
+    @Test
+    public void testSharedIndex() throws Exception {
+        final Path diff = writeDiff("+++ b/Foo.java\n@@ -0,0 +1 @@\n+added\n");
+
+        final ChangedLinesFilter linesFilter = new ChangedLinesFilter();
+        linesFilter.configure(createFilterConfig("ChangedLinesFilter", diff));
+        final ChangedFilesFilter filesFilter = new ChangedFilesFilter();
+        filesFilter.configure(createFilterConfig("ChangedFilesFilter", diff));
+        assertThat(filesFilter.getIndex()).isSameAs(linesFilter.getIndex());
+
+        // A different strip count resolves the pathnames differently
+        final DefaultConfiguration stripConfig = createFilterConfig("ChangedFilesFilter", diff);
+        stripConfig.addProperty("strip", "0");
+        final ChangedFilesFilter stripFilter = new ChangedFilesFilter();
+        stripFilter.configure(stripConfig);
+        assertThat(stripFilter.getIndex()).isNotSameAs(linesFilter.getIndex());
+        assertThat(stripFilter.getIndex().containsFile(this.tempDir.resolve("b/Foo.java").toString())).isTrue();
+
+        // A modified diff is read again
+        writeDiff("+++ b/Foo.java\n@@ -0,0 +1,2 @@\n+added\n+added\n");
+        final ChangedLinesFilter modifiedFilter = new ChangedLinesFilter();
+        modifiedFilter.configure(createFilterConfig("ChangedLinesFilter", diff));
+        assertThat(modifiedFilter.getIndex()).isNotSameAs(linesFilter.getIndex());
+        assertThat(modifiedFilter.getIndex().containsLine(this.tempDir.resolve("Foo.java").toString(), 2)).isTrue();
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        final Path srcDir = createCorpus();
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addChild(new DefaultConfiguration("ChangedLinesFilter"));
+        assertThatThrownBy(() -> CThingAudit.run(List.of(srcDir), config, 1))
+                .isInstanceOf(CheckstyleException.class)
+                .hasStackTraceContaining("file property");
+
+        final DefaultConfiguration unreadable = CThingAudit.createConfiguration();
+        unreadable.addChild(createFilterConfig("ChangedFilesFilter", this.tempDir.resolve("missing.diff")));
+        assertThatThrownBy(() -> CThingAudit.run(List.of(srcDir), unreadable, 1))
+                .isInstanceOf(CheckstyleException.class)
+                .hasStackTraceContaining("missing.diff");
+    }
+
+    private Path createCorpus() throws Exception {
+        final Path srcDir = this.tempDir.resolve("src");
+        new SyntheticCorpus(SEED, 0.5).write(srcDir, SyntheticCorpus.Shape.DAO, 3, 6);
+        return srcDir;
+    }
+
+    private DefaultConfiguration createFilterConfig(final String name, final Path diff) {
+        final DefaultConfiguration config = new DefaultConfiguration(name);
+        config.addProperty("file", diff.toString());
+        config.addProperty("baseDir", this.tempDir.toString());
+        return config;
+    }
+
+    /**
+     * Creates the Git style diff of a file in which the specified line has been replaced.
+     */
+    private String createHunk(final Path file, final int line) throws Exception {
+        final String name = this.tempDir.relativize(file).toString().replace(File.separatorChar, '/');
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        return "diff --git a/" + name + " b/" + name + "\n"
+                + "--- a/" + name + "\n"
+                + "+++ b/" + name + "\n"
+                + "@@ -" + line + " +" + line + " @@\n"
+                + "-removed\n"
+                + "+" + lines.get(line - 1) + "\n";
+    }
+
+    private static List<String> format(final List<AuditEvent> events) {
+        return events.stream()
+                     .map(event -> event.getFileName() + ":" + event.getLine() + ":" + event.getColumn() + ": "
+                             + event.getMessage())
+                     .toList();
+    }
+
+    private Path writeDiff(final String diff) throws Exception {
+        final Path diffFile = this.tempDir.resolve("changes.diff");
+        Files.writeString(diffFile, diff, StandardCharsets.UTF_8);
+        return diffFile;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.cthing.checkstyle.audit.CheckDispatcher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+
+/**
+ * Tests that the memory allocated by each check stays within a budget, in bytes per node of the tree being
+ * checked. Each check is run over the test fixtures and over synthetic sources of every shape, and the bytes
+ * allocated on the current thread are measured using {@link AllocationMeter}. A check that allocates while
+ * examining each node (e.g. by creating a set of modifiers, streaming over the children of a node or parsing
+ * every annotation) exceeds its budget.
+ *
+ * <p>
+ * Each measurement covers a complete {@code beginTree} to {@code finishTree} cycle of the check, including the
+ * acquisition of the {@link AstIndex} and the annotation descriptors it caches. A fixed allowance is made for each
+ * file and for each violation reported, since formatting and collecting a violation allocates memory. The index
+ * of the imports is built the first time a check resolves a name, at a cost proportional to the number of imports
+ * rather than the number of nodes, so an allowance is also made for each import. The index of the tree by token
+ * type and identifier is built the first time a check queries it and is shared by all the checks, so the bytes
+ * allocated building it, measured separately for each source, are allowed, and the index is held to a budget of
+ * its own. The utility methods used on every node are expected not to allocate at all.
+ * </p>
+ */
+public class CheckAllocationTest {
+
+    /** Budget of the LogDeclaration check, in bytes per node. */
+    private static final double LOG_DECLARATION_BUDGET = 1;
+
+    /** Budget of the SpringDaoAnnotation check, in bytes per node. */
+    private static final double SPRING_DAO_ANNOTATION_BUDGET = 1;
+
+    /** Budget of the TestMethodDeclaration check, in bytes per node. */
+    private static final double TEST_METHOD_DECLARATION_BUDGET = 1;
+
+    /** Budget of the composite CThingChecks check, in bytes per node. */
+    private static final double CTHING_CHECKS_BUDGET = 1;
+
+    /** Bytes allowed per file, independent of its size (e.g. for collecting the violations). */
+    private static final long FILE_ALLOWANCE = 1024;
+
+    /** Bytes allowed per violation reported. */
+    private static final long VIOLATION_ALLOWANCE = 3072;
+
+    /** Bytes allowed per import declaration, for building the import index of the {@link AstIndex}. */
+    private static final long IMPORT_ALLOWANCE = 768;
+
+    /** Budget of the token type and identifier index of the {@link AstIndex}, in bytes per node. */
+    private static final double INDEX_BUDGET = 32;
+
+    /** Bytes allowed per file for the token type and identifier index, independent of the size of the file. */
+    private static final long INDEX_FILE_ALLOWANCE = 4096;
+
+    private static final long SEED = 17;
+    private static final int[] SCALES = { 64, 64, 128, 8, 16 };
+    private static final int ARRAY_LENGTH = 1024;
+
+    private static List<Input> inputs;
+
+    private long sink;
+
+    /**
+     * Parsed source over which the checks are run.
+     *
+     * @param name  Name of the fixture or shape from which the tree was parsed
+     * @param root  Root of the tree
+     * @param contents  Contents of the source
+     * @param numNodes  Number of nodes in the tree
+     * @param numImports  Number of import declarations in the source
+     * @param indexBytes  Bytes allocated by building the token type and identifier index of the tree
+     */
+    private record Input(String name, DetailAST root, FileContents contents, int numNodes, int numImports,
+                         long indexBytes) {
+    }
+
+    @BeforeAll
+    public static void parseInputs() throws Exception {
+        assumeTrue(AllocationMeter.isSupported(), "Allocation measurement not supported");
+
+        inputs = new ArrayList<>();
+        final Path fixtures = Path.of(AbstractCheckTestSupport.getPath("LogDeclaration.java")).getParent();
+        try (Stream<Path> stream = Files.list(fixtures)) {
+            for (final Path file : stream.sorted().toList()) {
+                inputs.add(parse(new FileText(file.toFile(), StandardCharsets.ISO_8859_1.name())));
+            }
+        }
+
+        final SyntheticCorpus corpus = new SyntheticCorpus(SEED, 0.1);
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            final String source = corpus.generate(shape, "Allocation", SCALES[shape.ordinal()]);
+            inputs.add(parse(new FileText(new File("Allocation" + shape.getSuffix() + ".java"),
+                                          List.of(source.split("\n", -1)))));
+        }
+    }
+
+    @Test
+    public void testLogDeclaration() throws Exception {
+        assertWithinBudget(LogDeclarationCheck.class, LOG_DECLARATION_BUDGET);
+    }
+
+    @Test
+    public void testSpringDaoAnnotation() throws Exception {
+        assertWithinBudget(SpringDaoAnnotationCheck.class, SPRING_DAO_ANNOTATION_BUDGET);
+    }
+
+    @Test
+    public void testTestMethodDeclaration() throws Exception {
+        assertWithinBudget(TestMethodDeclarationCheck.class, TEST_METHOD_DECLARATION_BUDGET);
+    }
+
+    @Test
+    public void testCThingChecks() throws Exception {
+        assertWithinBudget(CThingChecksCheck.class, CTHING_CHECKS_BUDGET);
+    }
+
+    @Test
+    public void testAstIndex() {
+        for (final Input input : inputs) {
+            assertThat((double)(input.indexBytes() - INDEX_FILE_ALLOWANCE) / input.numNodes())
+                    .as("AstIndex on %s allocated %d bytes", input.name(), input.indexBytes())
+                    .isLessThanOrEqualTo(INDEX_BUDGET);
+        }
+    }
+
+    @Test
+    public void testFindDeclModifierMask() {
+        for (final Input input : inputs) {
+            final long bytes = AllocationMeter.measure(() -> {
+                for (DetailAST node = input.root(); node != null; node = ASTUtils.nextInSubtree(node, input.root())) {
+                    final int type = node.getType();
+                    if (type == TokenTypes.CLASS_DEF || type == TokenTypes.METHOD_DEF
+                            || type == TokenTypes.VARIABLE_DEF) {
+                        this.sink += ASTUtils.findDeclModifierMask(node);
+                    }
+                }
+            });
+            assertThat(bytes).as(input.name()).isZero();
+        }
+    }
+
+    @Test
+    public void testFindTypeAndText() {
+        for (final Input input : inputs) {
+            final long bytes = AllocationMeter.measure(() -> {
+                for (DetailAST node = input.root(); node != null; node = node.getNextSibling()) {
+                    if (ASTUtils.findType(node, TokenTypes.LITERAL_ASSERT) != null) {
+                        this.sink++;
+                    }
+                    if (ASTUtils.findText(node, "allocation") != null) {
+                        this.sink++;
+                    }
+                }
+            });
+            assertThat(bytes).as(input.name()).isZero();
+        }
+    }
+
+    @Test
+    public void testMeasuresAllocation() {
+        final long bytes = AllocationMeter.measure(() -> this.sink += new long[ARRAY_LENGTH].hashCode());
+        assertThat(bytes).isGreaterThanOrEqualTo((long)ARRAY_LENGTH * Long.BYTES);
+        assertThat(AllocationMeter.measure(() -> this.sink++)).isZero();
+    }
+
+    private static Input parse(final FileText text) throws Exception {
+        final DetailAST root = JavaParser.parseFileText(text, JavaParser.Options.WITHOUT_COMMENTS);
+        int numImports = 0;
+        for (DetailAST node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getType() == TokenTypes.IMPORT || node.getType() == TokenTypes.STATIC_IMPORT) {
+                numImports++;
+            }
+        }
+        final long indexBytes = AllocationMeter.measure(() -> {
+            final AstIndex index = AstIndex.acquire(root);
+            index.getTokens(TokenTypes.IDENT);
+            index.release();
+        });
+        return new Input(text.getFile().getName(), root, new FileContents(text), ASTUtils.countNodes(root),
+                         numImports, indexBytes);
+    }
+
+    private static void assertWithinBudget(final Class<? extends AbstractCheck> checkClass, final double budget)
+            throws Exception {
+        final CheckDispatcher dispatcher = new CheckDispatcher(List.of(CheckScalingTest.createCheck(checkClass)));
+        for (final Input input : inputs) {
+            final int numViolations = dispatcher.dispatch(input.root(), input.contents()).size();
+            final long bytes = AllocationMeter.measure(() -> dispatcher.dispatch(input.root(), input.contents()));
+
+            final long allowance = FILE_ALLOWANCE + VIOLATION_ALLOWANCE * numViolations
+                    + IMPORT_ALLOWANCE * input.numImports() + input.indexBytes();
+            assertThat((double)(bytes - allowance) / input.numNodes())
+                    .as("%s on %s allocated %d bytes with %d violations", checkClass.getSimpleName(), input.name(),
+                        bytes, numViolations)
+                    .isLessThanOrEqualTo(budget);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedSet;
+
+import org.cthing.checkstyle.audit.CheckDispatcher;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.LocalizedMessage;
+import com.puppycrawl.tools.checkstyle.ModuleFactory;
+import com.puppycrawl.tools.checkstyle.PackageNamesLoader;
+import com.puppycrawl.tools.checkstyle.PackageObjectFactory;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+
+/**
+ * In-memory harness for running checks over source text. The checks are created and configured once, when the
+ * harness is created, and are reused for every source run through the harness. Sources are parsed from strings
+ * rather than read from disk, and the violations are returned as {@link AuditEvent}s rather than being formatted
+ * by a logger. This makes it cheap to run a check over thousands of generated cases.
+ *
+ * <p>
+ * Like {@link AbstractCheckTestSupport}, the harness produces English messages. Only checks are supported;
+ * filters and Checker level modules are not run. A harness is not thread safe.
+ * </p>
+ */
+public final class CheckHarness {
+
+    private static final String DEFAULT_FILE_NAME = "Harness.java";
+
+    private final CheckDispatcher dispatcher;
+    private final JavaParser.Options parseOptions;
+
+    private CheckHarness(final List<AbstractCheck> checks) {
+        this.dispatcher = new CheckDispatcher(checks);
+        this.parseOptions = this.dispatcher.isCommentNodesRequired() ? JavaParser.Options.WITH_COMMENTS
+                                                                     : JavaParser.Options.WITHOUT_COMMENTS;
+    }
+
+    /**
+     * Creates a harness for the specified check configurations.
+     *
+     * @param checkConfigs  Configurations of the checks to run (e.g. created using
+     *      {@link AbstractCheckTestSupport#createCheckConfig(Class)})
+     * @return Harness running the checks.
+     * @throws CheckstyleException if a check could not be created or configured
+     */
+    public static CheckHarness of(final Configuration... checkConfigs) throws CheckstyleException {
+        LocalizedMessage.setLocale(Locale.ENGLISH);
+
+        final ClassLoader classLoader = CheckHarness.class.getClassLoader();
+        final ModuleFactory moduleFactory =
+                new PackageObjectFactory(PackageNamesLoader.getPackageNames(classLoader), classLoader);
+        final List<AbstractCheck> checks = new ArrayList<>();
+        for (final Configuration checkConfig : checkConfigs) {
+            final Object module = moduleFactory.createModule(checkConfig.getName());
+            if (!(module instanceof AbstractCheck)) {
+                throw new CheckstyleException(checkConfig.getName() + " is not a check");
+            }
+            final AbstractCheck check = AbstractCheck.class.cast(module);
+            check.configure(checkConfig);
+            check.init();
+            checks.add(check);
+        }
+        return new CheckHarness(checks);
+    }
+
+    /**
+     * Runs the checks over the specified source.
+     *
+     * @param source  Java source text. Lines are separated by line feeds.
+     * @return Violations reported by the checks, in violation order.
+     * @throws CheckstyleException if the source could not be parsed
+     */
+    public List<AuditEvent> run(final String source) throws CheckstyleException {
+        return run(DEFAULT_FILE_NAME, source);
+    }
+
+    /**
+     * Runs the checks over the specified source.
+     *
+     * @param fileName  Name of the file reported in the events. The file is not read.
+     * @param source  Java source text. Lines are separated by line feeds.
+     * @return Violations reported by the checks, in violation order.
+     * @throws CheckstyleException if the source could not be parsed
+     */
+    public List<AuditEvent> run(final String fileName, final String source) throws CheckstyleException {
+        final FileText text = new FileText(new File(fileName), Arrays.asList(source.split("\n", -1)));
+        final DetailAST root = JavaParser.parseFileText(text, this.parseOptions);
+        final SortedSet<Violation> violations = this.dispatcher.dispatch(root, new FileContents(text));
+
+        final List<AuditEvent> events = new ArrayList<>(violations.size());
+        for (final Violation violation : violations) {
+            events.add(new AuditEvent(this, fileName, violation));
+        }
+        return events;
+    }
+
+    /**
+     * Obtains the message keys of the specified events, prefixed by their line numbers (e.g.
+     * {@code 5:logdeclaration.badname}). Comparing keys rather than formatted messages keeps assertions
+     * independent of the wording of the messages.
+     *
+     * @param events  Events reported by the harness
+     * @return Line numbers and message keys of the events, in the order of the events.
+     */
+    public static List<String> keys(final List<AuditEvent> events) {
+        final List<String> keys = new ArrayList<>(events.size());
+        for (final AuditEvent event : events) {
+            keys.add(event.getLine() + ":" + event.getViolation().getKey());
+        }
+        return keys;
+    }
+}
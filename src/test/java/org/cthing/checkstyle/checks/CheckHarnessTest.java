@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.cthing.checkstyle.audit.CThingAudit;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+
+/**
+ * Tests the {@link CheckHarness} class.
+ */
+public class CheckHarnessTest {
+
+    private static final String GOOD_SOURCE = """
+            public class Good {
+                private static final Logger LOG = LoggerFactory.getLogger(Good.class);
+            }
+            """;
+
+    private static final String BAD_SOURCE = """
+            public class Bad {
+                Logger log = LoggerFactory.getLogger(Good.class);
+            }
+            """;
+
+    @Test
+    public void testMatchesChecker() throws Exception {
+        final CheckHarness harness = CheckHarness.of(CThingAudit.createConfiguration().getChildren()[0]
+                                                                .getChildren());
+        final Path fixtures = Path.of(AbstractCheckTestSupport.getPath("LogDeclaration.java")).getParent();
+        final List<Path> files;
+        try (Stream<Path> stream = Files.list(fixtures)) {
+            files = stream.sorted().toList();
+        }
+        assertThat(files).hasSizeGreaterThan(10);
+
+        for (final Path file : files) {
+            final String fileName = file.toString();
+            final List<AuditEvent> events = harness.run(fileName,
+                                                        Files.readString(file, StandardCharsets.ISO_8859_1));
+            assertThat(format(events)).as(fileName).isEqualTo(format(CThingAudit.run(List.of(file), 1)));
+        }
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        final CheckHarness harness = CheckHarness.of(AbstractCheckTestSupport.createCheckConfig(
+                LogDeclarationCheck.class));
+
+        assertThat(harness.run(GOOD_SOURCE)).isEmpty();
+        final List<AuditEvent> events = harness.run("Bad.java", BAD_SOURCE);
+        assertThat(CheckHarness.keys(events)).containsExactly("2:logdeclaration.mismatchedclass",
+                                                              "2:logdeclaration.badmodifier",
+                                                              "2:logdeclaration.badname");
+        assertThat(events).allMatch(event -> "Bad.java".equals(event.getFileName()));
+        assertThat(harness.run(GOOD_SOURCE)).isEmpty();
+        assertThat(CheckHarness.keys(harness.run(BAD_SOURCE))).isEqualTo(CheckHarness.keys(events));
+    }
+
+    @Test
+    public void testConfiguration() throws Exception {
+        final CheckHarness harness = CheckHarness.of(
+                AbstractCheckTestSupport.createCheckConfig(LogDeclarationCheck.class),
+                AbstractCheckTestSupport.createCheckConfig(TestMethodDeclarationCheck.class));
+        final List<AuditEvent> events = harness.run("""
+                public class BadTest {
+                    Logger log = LoggerFactory.getLogger(Good.class);
+
+                    @Test
+                    int testValue() {
+                        return 1;
+                    }
+                }
+                """);
+        assertThat(CheckHarness.keys(events)).contains("4:testmethoddeclaration.badreturn",
+                                                       "4:testmethoddeclaration.badscope",
+                                                       "2:logdeclaration.badname");
+        assertThat(events.get(events.size() - 1).getMessage()).isEqualTo("Test method must have void return type.");
+
+        assertThatExceptionOfType(CheckstyleException.class).isThrownBy(() -> CheckHarness.of(
+                AbstractCheckTestSupport.createCheckConfig(LogDeclarationCheck.class),
+                new DefaultConfiguration("NoSuchCheck")));
+    }
+
+    @Test
+    public void testSyntaxError() throws Exception {
+        final CheckHarness harness = CheckHarness.of(AbstractCheckTestSupport.createCheckConfig(
+                LogDeclarationCheck.class));
+        assertThatExceptionOfType(CheckstyleException.class).isThrownBy(() -> harness.run("public class {"));
+    }
+
+    private static List<String> format(final List<AuditEvent> events) {
+        return events.stream()
+                     .map(event -> event.getLine() + ":" + event.getColumn() + ": " + event.getMessage() + " ["
+                             + event.getSourceName() + ']')
+                     .toList();
+    }
+}
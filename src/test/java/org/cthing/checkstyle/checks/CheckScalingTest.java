@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.cthing.checkstyle.audit.CheckDispatcher;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+
+/**
+ * Tests that the time taken by each check grows linearly with the size of its input. Each check is run on
+ * synthetic sources of every shape at 1, 4, 16 and 64 times a base scale (e.g. the number of methods of a DAO or the
+ * nesting depth of classes), and a power law is fitted to the time taken as a function of the number of nodes in the
+ * tree. A check whose time grows as a higher power of the input size than {@link #MAX_EXPONENT} fails, which catches
+ * quadratic behavior, such as re-walking the ancestors or the subtree of each node, that a benchmark with a fixed
+ * input size does not reveal.
+ *
+ * <p>
+ * Only the checks are timed; the sources are generated and parsed beforehand. Each measurement is the fastest of
+ * several rounds, each of which repeats the check until enough time has elapsed to be measured reliably, so the
+ * test is not sensitive to the occasional pause for garbage collection or compilation.
+ * </p>
+ */
+public class CheckScalingTest {
+
+    /**
+     * Largest acceptable exponent of the fitted power law. A linear check has an exponent close to 1 (less for
+     * small inputs, where the fixed cost of a run dominates) and a quadratic check an exponent close to 2.
+     */
+    private static final double MAX_EXPONENT = 1.5;
+
+    private static final int[] MULTIPLIERS = { 1, 4, 16, 64 };
+    private static final int NUM_ROUNDS = 5;
+    private static final long MIN_ROUND_NANOS = 10_000_000L;
+    private static final long SEED = 31;
+
+    /**
+     * Scale of the smallest input of each shape, in the order of {@link SyntheticCorpus.Shape}. The nesting and
+     * expression depths are kept small enough for the largest input to be parsed without overflowing the stack.
+     */
+    private static final int[] BASE_SCALES = { 8, 8, 16, 2, 4 };
+
+    /**
+     * Check whose time grows quadratically with the number of methods, used to verify that the test detects
+     * superlinear growth.
+     */
+    private static final class QuadraticCheck extends AbstractCheck {
+        private int count;
+
+        @Override
+        public int[] getDefaultTokens() {
+            return new int[] { TokenTypes.METHOD_DEF };
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return getDefaultTokens();
+        }
+
+        @Override
+        public int[] getRequiredTokens() {
+            return getDefaultTokens();
+        }
+
+        @Override
+        public void visitToken(final DetailAST ast) {
+            DetailAST root = ast;
+            while (root.getParent() != null) {
+                root = root.getParent();
+            }
+            for (DetailAST node = root; node != null; node = ASTUtils.nextInSubtree(node, root)) {
+                this.count++;
+            }
+        }
+    }
+
+    @Test
+    public void testLogDeclaration() throws Exception {
+        assertLinear(createCheck(LogDeclarationCheck.class));
+    }
+
+    @Test
+    public void testSpringDaoAnnotation() throws Exception {
+        assertLinear(createCheck(SpringDaoAnnotationCheck.class));
+    }
+
+    @Test
+    public void testTestMethodDeclaration() throws Exception {
+        assertLinear(createCheck(TestMethodDeclarationCheck.class));
+    }
+
+    @Test
+    public void testDetectsQuadratic() throws Exception {
+        final QuadraticCheck check = new QuadraticCheck();
+        check.configure(AbstractCheckTestSupport.createCheckConfig(QuadraticCheck.class));
+        assertThat(fitExponent(check, SyntheticCorpus.Shape.DAO)).isGreaterThan(MAX_EXPONENT);
+        assertThat(check.count).isPositive();
+    }
+
+    @Test
+    public void testFitExponent() {
+        final double[] sizes = { 100, 400, 1600, 6400 };
+        assertThat(fitExponent(sizes, Arrays.stream(sizes).map(size -> 3 * size + 50).toArray())).isBetween(0.9, 1.0);
+        assertThat(fitExponent(sizes, Arrays.stream(sizes).map(size -> size * size).toArray())).isCloseTo(2.0,
+                                                                                                    within(1e-9));
+    }
+
+    static AbstractCheck createCheck(final Class<? extends AbstractCheck> checkClass) throws Exception {
+        final AbstractCheck check = checkClass.getConstructor().newInstance();
+        check.configure(AbstractCheckTestSupport.createCheckConfig(checkClass));
+        check.init();
+        return check;
+    }
+
+    private static void assertLinear(final AbstractCheck check) throws Exception {
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            assertThat(fitExponent(check, shape)).as(check.getClass().getSimpleName() + " on " + shape)
+                                                 .isLessThanOrEqualTo(MAX_EXPONENT);
+        }
+    }
+
+    /**
+     * Runs a check on inputs of a shape at each multiple of the base scale and fits a power law to the times.
+     *
+     * @param check  Check to run
+     * @param shape  Shape of the inputs
+     * @return Exponent of the power law fitted to the time taken as a function of the number of nodes.
+     */
+    private static double fitExponent(final AbstractCheck check, final SyntheticCorpus.Shape shape) throws Exception {
+        final SyntheticCorpus corpus = new SyntheticCorpus(SEED, 0.1);
+        final CheckDispatcher dispatcher = new CheckDispatcher(List.of(check));
+        final double[] sizes = new double[MULTIPLIERS.length];
+        final double[] times = new double[MULTIPLIERS.length];
+
+        for (int i = 0; i < MULTIPLIERS.length; i++) {
+            final int scale = BASE_SCALES[shape.ordinal()] * MULTIPLIERS[i];
+            final String source = corpus.generate(shape, "Scaling", scale);
+            final FileText text = new FileText(new File("Scaling" + shape.getSuffix() + ".java"),
+                                               List.of(source.split("\n", -1)));
+            final DetailAST root = JavaParser.parseFileText(text, JavaParser.Options.WITHOUT_COMMENTS);
+            final FileContents contents = new FileContents(text);
+
+            sizes[i] = ASTUtils.countNodes(root);
+            times[i] = measure(dispatcher, root, contents);
+        }
+        return fitExponent(sizes, times);
+    }
+
+    /**
+     * Measures the time taken to run the checks of a dispatcher over a tree.
+     *
+     * @return Fastest time per run, in nanoseconds, over several rounds.
+     */
+    private static double measure(final CheckDispatcher dispatcher, final DetailAST root,
+                                  final FileContents contents) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < NUM_ROUNDS; round++) {
+            final long start = System.nanoTime();
+            long elapsed;
+            int runs = 0;
+            do {
+                dispatcher.dispatch(root, contents);
+                runs++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < MIN_ROUND_NANOS);
+            best = Math.min(best, (double)elapsed / runs);
+        }
+        return best;
+    }
+
+    /**
+     * Fits the power law {@code time = c * size^k} to the measurements by a least squares fit of a straight line
+     * to their logarithms.
+     *
+     * @param sizes  Input sizes
+     * @param times  Times taken for the inputs
+     * @return Exponent {@code k}.
+     */
+    private static double fitExponent(final double[] sizes, final double[] times) {
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            meanX += Math.log(sizes[i]);
+            meanY += Math.log(times[i]);
+        }
+        meanX /= sizes.length;
+        meanY /= sizes.length;
+
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            final double dx = Math.log(sizes[i]) - meanX;
+            covariance += dx * (Math.log(times[i]) - meanY);
+            variance += dx * dx;
+        }
+        return covariance / variance;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests the {@link DiffIndex} class.
+ */
+public class DiffIndexTest {
+
+    private static final Path BASE_DIR = Path.of("/repo");
+
+    private static final String DIFF = """
+            diff --git a/src/Foo.java b/src/Foo.java
+            index 1234567..89abcde 100644
+            --- a/src/Foo.java
+            +++ b/src/Foo.java
+            @@ -1,3 +1,4 @@
+             line1
+            +added2
+             line3
+             line4
+            @@ -10,2 +11,3 @@ public class Foo {
+            --- removed line that looks like a header
+            +++ added line that looks like a header
+            +added12
+             context13
+            diff --git a/src/Gone.java b/src/Gone.java
+            deleted file mode 100644
+            --- a/src/Gone.java
+            +++ /dev/null
+            @@ -1,2 +0,0 @@
+            -a
+            -b
+            diff --git a/src/New.java b/src/New.java
+            new file mode 100644
+            --- /dev/null
+            +++ b/src/New.java
+            @@ -0,0 +1,3 @@
+            +a
+            +b
+            +c
+            \\ No newline at end of file
+            diff --git a/src/Removed.java b/src/Removed.java
+            --- a/src/Removed.java
+            +++ b/src/Removed.java
+            @@ -5,2 +5 @@
+             kept
+            -removed
+            """;
+
+    @Test
+    public void testParse() throws IOException {
+        final DiffIndex index = DiffIndex.parse(new StringReader(DIFF), BASE_DIR, 1);
+        assertThat(index.getNumFiles()).isEqualTo(3);
+
+        assertThat(index.containsFile("/repo/src/Foo.java")).isTrue();
+        assertThat(index.containsFile("/repo/src/Gone.java")).isFalse();
+        assertThat(index.containsFile("/repo/src/Other.java")).isFalse();
+        assertThat(index.containsFile("/repo/src/../src/New.java")).isTrue();
+
+        assertThat(index.containsLine("/repo/src/Foo.java", 1)).isFalse();
+        assertThat(index.containsLine("/repo/src/Foo.java", 2)).isTrue();
+        assertThat(index.containsLine("/repo/src/Foo.java", 3)).isFalse();
+        assertThat(index.containsLine("/repo/src/Foo.java", 10)).isFalse();
+        assertThat(index.containsLine("/repo/src/Foo.java", 11)).isTrue();
+        assertThat(index.containsLine("/repo/src/Foo.java", 12)).isTrue();
+        assertThat(index.containsLine("/repo/src/Foo.java", 13)).isFalse();
+
+        assertThat(index.containsLine("/repo/src/New.java", 0)).isFalse();
+        assertThat(index.containsLine("/repo/src/New.java", 1)).isTrue();
+        assertThat(index.containsLine("/repo/src/New.java", 3)).isTrue();
+        assertThat(index.containsLine("/repo/src/New.java", 4)).isFalse();
+
+        assertThat(index.containsFile("/repo/src/Removed.java")).isTrue();
+        assertThat(index.containsLine("/repo/src/Removed.java", 5)).isFalse();
+        assertThat(index.containsLine("/repo/src/Removed.java", 6)).isFalse();
+
+        // Relative pathnames are resolved against the base directory
+        assertThat(index.containsFile("src/Foo.java")).isTrue();
+        assertThat(index.containsLine("src/Foo.java", 2)).isTrue();
+        assertThat(index.containsLine("src/Foo.java", 3)).isFalse();
+        assertThat(index.containsFile("Foo.java")).isFalse();
+    }
+
+    @Test
+    public void testStrip() throws IOException {
+        final String diff = """
+                --- src/Foo.java\t2026-01-01 10:00:00
+                +++ src/Foo.java\t2026-01-02 10:00:00
+                @@ -1 +1 @@
+                -old
+                +new
+                """;
+
+        final DiffIndex unstripped = DiffIndex.parse(new StringReader(diff), BASE_DIR, 0);
+        assertThat(unstripped.containsLine("/repo/src/Foo.java", 1)).isTrue();
+
+        final DiffIndex stripped = DiffIndex.parse(new StringReader(diff), BASE_DIR, 1);
+        assertThat(stripped.containsLine("/repo/Foo.java", 1)).isTrue();
+        assertThat(stripped.containsFile("/repo/src/Foo.java")).isFalse();
+    }
+
+    @Test
+    public void testManyRanges() throws IOException {
+        final StringBuilder diff = new StringBuilder("--- a/Big.java\n+++ b/Big.java\n");
+        for (int line = 1; line <= 1000; line += 10) {
+            // Replace lines line and line + 1 with three lines
+            diff.append("@@ -").append(line).append(",2 +").append(line).append(",3 @@\n")
+                .append("-old\n-old\n+new\n+new\n+new\n");
+        }
+
+        final DiffIndex index = DiffIndex.parse(new StringReader(diff.toString()), BASE_DIR, 1);
+        for (int line = 1; line <= 1000; line++) {
+            assertThat(index.containsLine("/repo/Big.java", line)).as("line %d", line).isEqualTo(line % 10 <= 3
+                                                                                                && line % 10 >= 1);
+        }
+    }
+
+    @Test
+    public void testQuotedFileNames() throws IOException {
+        final String diff = """
+                --- "a/src/\\101scii.java"
+                +++ "b/src/\\101scii.java"
+                @@ -1 +1 @@
+                -old
+                +new
+                +++ "b/src/Tab\\there \\"quoted\\" back\\\\slash.java"\t2026-01-01 00:00:00
+                @@ -0,0 +1 @@
+                +added
+                """;
+        final DiffIndex index = DiffIndex.parse(new StringReader(diff), BASE_DIR, 1);
+        assertThat(index.getNumFiles()).isEqualTo(2);
+        assertThat(index.containsLine("/repo/src/Ascii.java", 1)).isTrue();
+        assertThat(index.containsLine("/repo/src/Tab\there \"quoted\" back\\slash.java", 1)).isTrue();
+    }
+
+    @Test
+    public void testParseFileName() {
+        assertThat(DiffIndex.parseFileName("b/src/Foo.java")).isEqualTo("b/src/Foo.java");
+        assertThat(DiffIndex.parseFileName("b/src/Foo.java\t2026-01-01")).isEqualTo("b/src/Foo.java");
+        assertThat(DiffIndex.parseFileName("\"b/src/na\\303\\257ve.java\"")).isEqualTo("b/src/na\u00efve.java");
+        assertThat(DiffIndex.parseFileName("\"b/\\342\\202\\254\\n\\r\\a\\v\\f\\b.java\""))
+                .isEqualTo("b/\u20ac\n\r\u0007\u000b\f\b.java");
+        assertThat(DiffIndex.parseFileName("\"b/\\q\u00e9.java\"")).isEqualTo("b/\\q\u00e9.java");
+        assertThat(DiffIndex.parseFileName("\"")).isEqualTo("\"");
+    }
+
+    @Test
+    public void testMalformed() {
+        assertThatThrownBy(() -> DiffIndex.parse(new StringReader("+++ b/Foo.java\n@@ bad @@\n"), BASE_DIR, 1))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Malformed");
+        assertThatThrownBy(() -> DiffIndex.parse(new StringReader("+++ b/Foo.java\n@@ -1,2 +1,2 @@\n x\n"),
+                                                 BASE_DIR, 1))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("ends within a hunk");
+    }
+}
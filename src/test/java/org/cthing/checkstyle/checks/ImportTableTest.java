@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link ImportTable} class.
+ */
+public class ImportTableTest extends AbstractCheckTestSupport {
+
+    @Test
+    public void testResolve() throws Exception {
+        final ImportTable imports = build("GoodDaoImpl.java");
+        assertThat(imports.getPackageName()).isEqualTo("checkstyle");
+        assertThat(imports.resolve("Logger")).isEqualTo("org.slf4j.Logger");
+        assertThat(imports.resolve("Transactional")).isEqualTo("org.springframework.transaction.annotation.Transactional");
+        assertThat(imports.resolve("String")).isNull();
+        assertThat(imports.resolve("TBL_COMMON_ADDRESS")).isNull();
+    }
+
+    @Test
+    public void testRefersTo() throws Exception {
+        final ImportTable imports = build("TestImports.java");
+        assertThat(imports.refersTo("Test", "org.testng.annotations.Test")).isTrue();
+        assertThat(imports.refersTo("Test", "org.junit.jupiter.api.Test")).isFalse();
+        assertThat(imports.refersTo("ParameterizedTest", "org.junit.jupiter.params.ParameterizedTest")).isTrue();
+        assertThat(imports.refersTo("ParameterizedTest", "org.junit.jupiter.api.ParameterizedTest")).isFalse();
+        assertThat(imports.refersTo("Helper", "checkstyle.Helper")).isTrue();
+        assertThat(imports.refersTo("Override", "java.lang.Override")).isTrue();
+        assertThat(imports.refersTo("Test", "Test")).isTrue();
+        assertThat(imports.refersTo("Test", "org.junit.jupiter.api.MyTest")).isFalse();
+        assertThat(imports.refersTo("ParameterizedTest", "Test")).isFalse();
+    }
+
+    @Test
+    public void testIsImported() throws Exception {
+        final ImportTable imports = build("TestImports.java");
+        assertThat(imports.isImported("org.testng.annotations.Test")).isTrue();
+        assertThat(imports.isImported("org.junit.jupiter.api.Test")).isFalse();
+        assertThat(imports.isImported("org.junit.jupiter.params.ParameterizedTest")).isTrue();
+        assertThat(imports.isImported("checkstyle.Helper")).isTrue();
+        assertThat(imports.isImported("java.lang.String")).isTrue();
+        assertThat(imports.isImported("Unpackaged")).isFalse();
+    }
+
+    @Test
+    public void testStaticImports() throws Exception {
+        final FileText text = new FileText(new File("Static.java"),
+                                           List.of("import static org.junit.jupiter.api.Assertions.assertEquals;",
+                                                   "import static org.assertj.core.api.Assertions.*;",
+                                                   "class Static { }"));
+        final DetailAST root = JavaParser.parse(new FileContents(text));
+        final ImportTable imports = ImportTable.build(root);
+        assertThat(imports.getPackageName()).isEmpty();
+        assertThat(imports.resolveStatic("assertEquals")).isEqualTo("org.junit.jupiter.api.Assertions.assertEquals");
+        assertThat(imports.resolveStatic("assertThat")).isNull();
+        assertThat(imports.resolve("Assertions")).isNull();
+        assertThat(imports.isImported("Unpackaged")).isTrue();
+    }
+
+    @Test
+    public void testEmptyFile() {
+        final ImportTable imports = ImportTable.build(null);
+        assertThat(imports.getPackageName()).isEmpty();
+        assertThat(imports.resolve("Logger")).isNull();
+    }
+
+    private static ImportTable build(final String filename) throws Exception {
+        final DetailAST root = JavaParser.parseFile(new File(getPath(filename)), JavaParser.Options.WITHOUT_COMMENTS);
+        return ImportTable.build(root);
+    }
+}
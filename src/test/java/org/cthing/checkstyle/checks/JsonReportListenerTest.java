@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.cthing.checkstyle.audit.CThingAudit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests the {@link JsonReportListener} class.
+ */
+public class JsonReportListenerTest {
+
+    private static final long SEED = 17L;
+    private static final int NUM_EVENTS = 20_000;
+    private static final int BUFFER_SIZE = 256;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testNdjson() throws Exception {
+        final Path srcDir = createCorpus();
+        final Path report = this.tempDir.resolve("reports/checkstyle.ndjson");
+        final List<AuditEvent> events = runAudit(srcDir, report, "ndjson");
+
+        final List<String> lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+        assertThat(lines).hasSameSizeAs(events);
+        for (int i = 0; i < events.size(); i++) {
+            final AuditEvent event = events.get(i);
+            final String ruleName = switch (event.getViolation().getKey().substring(0, 4)) {
+                case "logd" -> "Log Declaration";
+                case "test" -> "Test Method Declaration";
+                default -> "Spring DAO Annotations";
+            };
+            assertThat(lines.get(i)).isEqualTo("{\"file\":\"" + event.getFileName().replace("\\", "\\\\")
+                                                       + "\",\"line\":" + event.getLine()
+                                                       + ",\"column\":" + event.getColumn()
+                                                       + ",\"severity\":\"error\""
+                                                       + ",\"rule\":\"" + event.getViolation().getSourceName()
+                                                                               .replaceAll(".*\\.(\\w+)Check$", "$1")
+                                                       + "\",\"ruleName\":\"" + ruleName
+                                                       + "\",\"key\":\"" + event.getViolation().getKey()
+                                                       + "\",\"message\":\"" + event.getMessage() + "\"}");
+        }
+    }
+
+    @Test
+    public void testSarif() throws Exception {
+        final Path srcDir = createCorpus();
+        final Path report = this.tempDir.resolve("checkstyle.sarif");
+        final List<AuditEvent> events = runAudit(srcDir, report, "sarif");
+
+        final String sarif = Files.readString(report, StandardCharsets.UTF_8);
+        assertThat(sarif).startsWith("{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\","
+                                             + "\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":"
+                                             + "{\"name\":\"checkstyle-checks\"")
+                         .contains("{\"id\":\"LogDeclaration\",\"name\":\"Log Declaration\","
+                                           + "\"shortDescription\":{\"text\":\"Checks the declaration of an SLF4J "
+                                           + "logger.\"},\"messageStrings\":{\"logdeclaration.badname\":"
+                                           + "{\"text\":\"Logger variable must be named LOG.\"}")
+                         .contains("\"logdeclaration.expectedmodifiers\":"
+                                           + "{\"text\":\"Logger variable must be declared {0}.\"}")
+                         .contains("{\"id\":\"CThingChecks\"")
+                         .endsWith("\n],\"invocations\":[{\"executionSuccessful\":true,"
+                                           + "\"toolExecutionNotifications\":[]}]}]}\n");
+
+        final Pattern result = Pattern.compile("\n\\{\"ruleId\":\"(\\w+)\",\"ruleIndex\":(\\d),\"level\":\"error\","
+                                                       + "\"message\":\\{\"id\":\"([\\w.]+)\",\"text\":\"[^\"]+\"},"
+                                                       + "\"locations\":\\[\\{\"physicalLocation\":\\{"
+                                                       + "\"artifactLocation\":\\{\"uri\":\"(file:[^\"]+)\"},"
+                                                       + "\"region\":\\{\"startLine\":(\\d+)"
+                                                       + "(?:,\"startColumn\":(\\d+))?}}}]}");
+        final Matcher matcher = result.matcher(sarif);
+        for (final AuditEvent event : events) {
+            assertThat(matcher.find()).isTrue();
+            assertThat(matcher.group(3)).isEqualTo(event.getViolation().getKey());
+            assertThat(matcher.group(4)).isEqualTo(Path.of(event.getFileName()).toUri().toString());
+            assertThat(Integer.parseInt(matcher.group(5))).isEqualTo(event.getLine());
+            assertThat(matcher.group(6)).isEqualTo((event.getColumn() > 0) ? Integer.toString(event.getColumn())
+                                                                           : null);
+        }
+        assertThat(matcher.find()).isFalse();
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        final Path report = this.tempDir.resolve("streaming.ndjson");
+        final DefaultConfiguration config = new DefaultConfiguration("JsonReportListener");
+        config.addProperty("file", report.toString());
+        config.addProperty("format", "ndjson");
+        config.addProperty("bufferSize", Integer.toString(BUFFER_SIZE));
+        final JsonReportListener listener = new JsonReportListener();
+        listener.configure(config);
+
+        listener.auditStarted(new AuditEvent(this));
+        long written = 0;
+        for (int i = 1; i <= NUM_EVENTS; i++) {
+            final Violation violation = new Violation(i, 1, "org.cthing.checkstyle.checks.messages",
+                                                      "logdeclaration.badname", null, SeverityLevel.WARNING, null,
+                                                      LogDeclarationCheck.class, null);
+            listener.addError(new AuditEvent(this, "Streaming.java", violation));
+            written += 1;
+
+            // The report is written as the violations arrive, never more than a buffer behind
+            if (i % 1000 == 0) {
+                assertThat(Files.size(report)).isGreaterThan(written * "{\"file\":\"Streaming.java\"}".length()
+                                                                     - 2L * BUFFER_SIZE);
+            }
+        }
+        listener.auditFinished(new AuditEvent(this));
+
+        final List<String> lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(NUM_EVENTS);
+        assertThat(lines.get(NUM_EVENTS - 1)).isEqualTo("{\"file\":\"Streaming.java\",\"line\":" + NUM_EVENTS
+                                                                + ",\"column\":1,\"severity\":\"warning\","
+                                                                + "\"rule\":\"LogDeclaration\","
+                                                                + "\"ruleName\":\"Log Declaration\","
+                                                                + "\"key\":\"logdeclaration.badname\","
+                                                                + "\"message\":\"Logger variable must be named LOG.\"}");
+    }
+
+    @Test
+    public void testBadConfiguration() {
+        final DefaultConfiguration missingFile = new DefaultConfiguration("JsonReportListener");
+        assertThatThrownBy(() -> new JsonReportListener().configure(missingFile))
+                .isInstanceOf(CheckstyleException.class)
+                .hasMessageContaining("file property");
+
+        final DefaultConfiguration badFormat = new DefaultConfiguration("JsonReportListener");
+        badFormat.addProperty("file", this.tempDir.resolve("report.xml").toString());
+        badFormat.addProperty("format", "xml");
+        assertThatThrownBy(() -> new JsonReportListener().configure(badFormat))
+                .isInstanceOf(CheckstyleException.class)
+                .hasMessageContaining("Unknown report format: xml");
+
+        final DefaultConfiguration smallBuffer = new DefaultConfiguration("JsonReportListener");
+        smallBuffer.addProperty("file", this.tempDir.resolve("report.json").toString());
+        smallBuffer.addProperty("bufferSize", "1");
+        assertThatThrownBy(() -> new JsonReportListener().configure(smallBuffer))
+                .isInstanceOf(CheckstyleException.class)
+                .hasMessageContaining("buffer size must be at least 2");
+    }
+
+    private Path createCorpus() throws Exception {
+        final Path srcDir = this.tempDir.resolve("src");
+        final SyntheticCorpus corpus = new SyntheticCorpus(SEED, 0.3);
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            corpus.write(srcDir.resolve(shape.name().toLowerCase()), shape, 2, 8);
+        }
+        return srcDir;
+    }
+
+    /**
+     * Runs a single Checker over the files, as a report is written over an entire audit, and returns the
+     * violations reported, in the order in which they are reported to the listener.
+     */
+    private static List<AuditEvent> runAudit(final Path srcDir, final Path report, final String format)
+            throws Exception {
+        final DefaultConfiguration listenerConfig = new DefaultConfiguration("JsonReportListener");
+        listenerConfig.addProperty("file", report.toString());
+        listenerConfig.addProperty("format", format);
+        final DefaultConfiguration config = CThingAudit.createConfiguration();
+        config.addChild(listenerConfig);
+
+        final List<File> files;
+        try (Stream<Path> tree = Files.walk(srcDir)) {
+            files = tree.filter(Files::isRegularFile).sorted().map(Path::toFile).toList();
+        }
+
+        final List<AuditEvent> events = CThingAudit.run(List.of(srcDir), 1);
+        assertThat(events).isNotEmpty();
+
+        final Checker checker = new Checker();
+        try {
+            checker.setModuleClassLoader(JsonReportListenerTest.class.getClassLoader());
+            checker.configure(config);
+            assertThat(checker.process(files)).isEqualTo(events.size());
+        } finally {
+            checker.destroy();
+        }
+        return events;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ * Tests the {@link JsonStreamWriter} class.
+ */
+public class JsonStreamWriterTest {
+
+    @Test
+    public void testString() throws IOException {
+        assertThat(write(4, "plain")).isEqualTo("\"plain\"");
+        assertThat(write(4, "a \"quoted\" \\path\\")).isEqualTo("\"a \\\"quoted\\\" \\\\path\\\\\"");
+        assertThat(write(4, "line\nbreak\r\ttab\b\f")).isEqualTo("\"line\\nbreak\\r\\ttab\\b\\f\"");
+        assertThat(write(4, "nul\u0000 esc\u001b")).isEqualTo("\"nul\\u0000 esc\\u001b\"");
+        assertThat(write(4, "caf\u00e9 \u2028")).isEqualTo("\"caf\u00e9 \u2028\"");
+    }
+
+    @Test
+    public void testSurrogatePairs() throws IOException {
+        // Pairs split across the end of the character buffer at every position
+        final String text = "\ud83d\ude00a\ud83d\ude01bc\ud83d\ude02";
+        for (int bufferSize = 2; bufferSize <= 8; bufferSize++) {
+            assertThat(write(bufferSize, text)).as("buffer %d", bufferSize).isEqualTo('"' + text + '"');
+        }
+    }
+
+    @Test
+    public void testSmallestBuffer() throws IOException {
+        // Every other pair is split across the end of the buffer, including by a flush
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonStreamWriter out = new JsonStreamWriter(Channels.newChannel(bytes),
+                                                         JsonStreamWriter.MIN_BUFFER_SIZE)) {
+            out.write("a\ud83d\ude00\ud83d");
+            out.flush();
+            out.write("\ude01\ud83d\ude02");
+        }
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("a\ud83d\ude00\ud83d\ude01\ud83d\ude02");
+
+        assertThatThrownBy(() -> new JsonStreamWriter(Channels.newChannel(bytes), 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least 2");
+    }
+
+    @Test
+    public void testStructure() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonStreamWriter out = new JsonStreamWriter(Channels.newChannel(bytes), 3)) {
+            out.write('{').name("line").number(42).write(',').name("rule").string("LogDeclaration").write('}');
+        }
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("{\"line\":42,\"rule\":\"LogDeclaration\"}");
+    }
+
+    @Test
+    public void testFlush() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonStreamWriter out = new JsonStreamWriter(Channels.newChannel(bytes), 16)) {
+            out.write("[1");
+            assertThat(bytes.size()).isZero();
+            out.flush();
+            assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("[1");
+            out.write(",2]");
+        }
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("[1,2]");
+    }
+
+    private static String write(final int bufferSize, final String text) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonStreamWriter out = new JsonStreamWriter(Channels.newChannel(bytes), bufferSize)) {
+            out.string(text);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -4,10 +4,15 @@
  */
 package org.cthing.checkstyle.checks;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 
 /**
  * Tests the {@link LogDeclarationCheck} class.
@@ -30,4 +35,129 @@ public class LogDeclarationCheckTest extends AbstractCheckTestSupport {
 
         verify(checkConfig, getPath("LogDeclaration.java"), expected);
     }
+
+    @Test
+    public void testDefaultFramework() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(LogDeclarationCheck.class);
+
+        final String[] expected = {
+                "24: Class name passed to getLogger method does not end in .class. [LogDeclaration]",
+                "24: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "28: Class name passed to getLogger method does not match enclosing class name. [LogDeclaration]",
+                "28: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "32: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "44: Logger variable must be named LOG. [LogDeclaration]",
+                "48: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "48: getLogger method is not called, check that SLF4J is being used. [LogDeclaration]",
+        };
+
+        verify(checkConfig, getPath("LogFrameworks.java"), expected);
+    }
+
+    @Test
+    public void testFrameworks() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(LogDeclarationCheck.class);
+        checkConfig.addProperty("frameworks", "slf4j, log4j2, JUL, system");
+        checkConfig.addProperty("rules", "Log:LogFactory.getLog:private static final:LOG");
+
+        final String[] expected = {
+                "28: Class name passed to getLogger method does not match enclosing class name. [LogDeclaration]",
+                "44: Logger variable must be named LOG. [LogDeclaration]",
+                "48: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "48: getLogger method is not called, check that SLF4J is being used. [LogDeclaration]",
+                "56: Logger must be obtained by calling the getLog method. [LogDeclaration]",
+                "56: Logger variable must be declared private static final. [LogDeclaration]",
+                "56: Logger variable must be named LOG. [LogDeclaration]",
+        };
+
+        verify(checkConfig, getPath("LogFrameworks.java"), expected);
+    }
+
+    @Test
+    public void testLombok() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(LogDeclarationCheck.class);
+        checkConfig.addProperty("frameworks", "lombok, log4j2");
+        checkConfig.addProperty("rules", "Log:LogFactory.getLog:static:logger");
+
+        final String[] expected = {
+                "20: Logger variable must be named log. [LogDeclaration]",
+                "28: Class name passed to getLogger method does not match enclosing class name. [LogDeclaration]",
+                "32: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "32: Logger variable must be named log. [LogDeclaration]",
+                "40: Logger variable must be named log. [LogDeclaration]",
+                "48: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "48: Logger variable must be named log. [LogDeclaration]",
+                "48: getLogger method is not called, check that SLF4J is being used. [LogDeclaration]",
+                "52: Logger variable must be declared static. [LogDeclaration]",
+                "52: Logger variable must be named logger. [LogDeclaration]",
+                "56: Logger must be obtained by calling the getLog method. [LogDeclaration]",
+        };
+
+        verify(checkConfig, getPath("LogFrameworks.java"), expected);
+    }
+
+    @Test
+    public void testImportedTypes() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(LogDeclarationCheck.class);
+
+        final String[] expected = {
+                "25: Class name passed to getLogger method does not match enclosing class name. [LogDeclaration]",
+        };
+
+        verify(checkConfig, getPath("LogImports.java"), expected);
+    }
+
+    @Test
+    public void testForeignLogger() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(LogDeclarationCheck.class);
+        verify(checkConfig, getPath("ForeignLogger.java"), new String[0]);
+    }
+
+    @Test
+    public void testGeneratedDeclarations() throws Exception {
+        final CheckHarness harness = CheckHarness.of(createCheckConfig(LogDeclarationCheck.class));
+        final String[] modifiers = { "public", "private", "static", "final", "volatile", "transient" };
+        final String[] names = { "LOG", "log", "logger", "Log" };
+        final String[] factories = { "LoggerFactory", "LogManager" };
+        final String[] classes = { "Generated", "Other" };
+
+        int numCases = 0;
+        for (int mask = 0; mask < (1 << modifiers.length); mask++) {
+            final StringBuilder declModifiers = new StringBuilder();
+            for (int i = 0; i < modifiers.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    declModifiers.append(modifiers[i]).append(' ');
+                }
+            }
+            final boolean goodModifiers = "private static final ".contentEquals(declModifiers);
+
+            for (final String name : names) {
+                for (final String factory : factories) {
+                    for (final String clazz : classes) {
+                        final String source = "class Generated {\n    " + declModifiers + "Logger " + name + " = "
+                                + factory + ".getLogger(" + clazz + ".class);\n}\n";
+
+                        final List<String> expected = new ArrayList<>();
+                        if (!goodModifiers) {
+                            expected.add("2:logdeclaration.badmodifier");
+                        }
+                        if (!"LOG".equals(name)) {
+                            expected.add("2:logdeclaration.badname");
+                        }
+                        if (!"LoggerFactory".equals(factory)) {
+                            expected.add("2:logdeclaration.badtype");
+                        }
+                        if (!"Generated".equals(clazz)) {
+                            expected.add("2:logdeclaration.mismatchedclass");
+                        }
+
+                        assertThat(CheckHarness.keys(harness.run(source))).as(source)
+                                                                         .containsExactlyInAnyOrderElementsOf(expected);
+                        numCases++;
+                    }
+                }
+            }
+        }
+        assertThat(numCases).isEqualTo(1024);
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+/**
+ * Tests the {@link LoggerRule} class.
+ */
+public class LoggerRuleTest {
+
+    @Test
+    public void testFrameworks() {
+        assertThat(LoggerRule.forFramework("slf4j")).isSameAs(LoggerRule.SLF4J);
+        assertThat(LoggerRule.forFramework(" Log4j2 ").getFactoryClass()).isEqualTo("LogManager");
+        assertThat(LoggerRule.forFramework("log4j2").isClassRequired()).isFalse();
+        assertThat(LoggerRule.forFramework("lombok").getFieldName()).isEqualTo("log");
+        assertThatIllegalArgumentException().isThrownBy(() -> LoggerRule.forFramework("logback"))
+                                            .withMessageContaining("logback");
+    }
+
+    @Test
+    public void testParse() {
+        final LoggerRule rule = LoggerRule.parse(" Log : org.apache.commons.logging.LogFactory.getLog : private  final : logger ");
+        assertThat(rule.getTypeName()).isEqualTo("Log");
+        assertThat(rule.getFactoryClass()).isEqualTo("org.apache.commons.logging.LogFactory");
+        assertThat(rule.getFactoryMethod()).isEqualTo("getLog");
+        assertThat(rule.getModifiers()).isEqualTo("private final");
+        assertThat(rule.getModifierMask()).isEqualTo(ModifierMask.PRIVATE | ModifierMask.FINAL);
+        assertThat(rule.getFieldName()).isEqualTo("logger");
+        assertThat(rule.isClassRequired()).isTrue();
+
+        assertThat(LoggerRule.parse("Log:LogFactory.getLog::LOG").getModifierMask()).isEqualTo(ModifierMask.NONE);
+    }
+
+    @Test
+    public void testParseErrors() {
+        assertThatIllegalArgumentException().isThrownBy(() -> LoggerRule.parse("Log:LogFactory.getLog:static"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoggerRule.parse("Log:getLog:static:LOG"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoggerRule.parse("Log:LogFactory.:static:LOG"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoggerRule.parse(":LogFactory.getLog:static:LOG"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoggerRule.parse("Log:LogFactory.getLog:static:"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoggerRule.parse("Log:LogFactory.getLog:shared:LOG"))
+                                            .withMessageContaining("shared");
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+
+/**
+ * Tests the {@link MetricsRegistry}, {@link CheckMetrics} and {@link MetricsListener} classes. The tests of the
+ * instrumented checks require metrics to be enabled and are tagged {@value #METRICS_TAG}, so that the build runs
+ * them in a JVM with metrics enabled, separately from the other tests.
+ */
+public class MetricsRegistryTest extends AbstractCheckTestSupport {
+
+    private static final String METRICS_TAG = "metrics";
+
+    @Test
+    @Tag(METRICS_TAG)
+    public void testCheckMetrics() throws Exception {
+        assumeTrue(MetricsRegistry.ENABLED, "Metrics are not enabled");
+        MetricsRegistry.reset();
+
+        final String[] expected = {
+                "29: Logger variable must be declared private static final. [LogDeclaration]",
+                "33: Declared type is not LoggerFactory, check that SLF4J is being used. [LogDeclaration]",
+                "37: Logger must be assigned where declared. [LogDeclaration]",
+                "41: Class name passed to getLogger method does not match enclosing class name. [LogDeclaration]",
+                "45: Class name passed to getLogger method does not end in .class. [LogDeclaration]",
+                "49: Logger variable must be named LOG. [LogDeclaration]",
+                "53: getLogger method is not called, check that SLF4J is being used. [LogDeclaration]",
+        };
+        verify(createCheckConfig(LogDeclarationCheck.class), getPath("LogDeclaration.java"), expected);
+
+        final CheckMetrics metrics = MetricsRegistry.get("LogDeclaration");
+        assertThat(metrics.getFiles()).isEqualTo(1);
+        assertThat(metrics.getInvocations()).isEqualTo(9);
+        assertThat(metrics.getFileNodes()).isGreaterThan(metrics.getInvocations());
+        assertThat(metrics.getTotalNanos()).isGreaterThanOrEqualTo(metrics.getMaxNanos());
+        assertThat(metrics.getViolations()).containsEntry("logdeclaration.badname", 1L)
+                                           .containsEntry("logdeclaration.badmodifier", 1L)
+                                           .hasSize(7);
+        assertThat(metrics.getSlowestFiles()).containsOnlyKeys(getPath("LogDeclaration.java"));
+
+        final Object invocations = ManagementFactory.getPlatformMBeanServer()
+                                                    .getAttribute(MetricsRegistry.getObjectName("LogDeclaration"),
+                                                                  "Invocations");
+        assertThat(invocations).isEqualTo(9L);
+    }
+
+    @Test
+    public void testSlowestFiles() {
+        final CheckMetrics metrics = new CheckMetrics("Test", 2);
+        metrics.recordFile("a.java", 1, 300, 300, 10, List.of());
+        metrics.recordFile("b.java", 1, 100, 100, 10, List.of());
+        metrics.recordFile("c.java", 2, 500, 400, 20, List.of());
+
+        assertThat(metrics.getSlowestFiles()).containsExactly(Map.entry("c.java", 500L), Map.entry("a.java", 300L));
+        assertThat(metrics.getFiles()).isEqualTo(3);
+        assertThat(metrics.getInvocations()).isEqualTo(4);
+        assertThat(metrics.getTotalNanos()).isEqualTo(900);
+        assertThat(metrics.getMaxNanos()).isEqualTo(400);
+        assertThat(metrics.getFileNodes()).isEqualTo(40);
+
+        metrics.reset();
+        assertThat(metrics.getFiles()).isZero();
+        assertThat(metrics.getMaxNanos()).isZero();
+        assertThat(metrics.getSlowestFiles()).isEmpty();
+    }
+
+    @Test
+    public void testOpenMetrics() throws Exception {
+        final CheckMetrics metrics = new CheckMetrics("Test", 10);
+        final Violation violation = new Violation(1, "messages", "test.key", null, SeverityLevel.ERROR, null,
+                                                  getClass(), null);
+        metrics.recordFile("dir\\\"quoted\".java", 3, 2_000_000, 1_500_000, 30, List.of(violation, violation));
+
+        final StringWriter out = new StringWriter();
+        MetricsRegistry.writeOpenMetrics(out, List.of(metrics));
+        assertThat(out.toString()).isEqualTo("""
+                # TYPE cthing_check_invocations counter
+                # HELP cthing_check_invocations Number of tokens visited by the check.
+                cthing_check_invocations_total{check="Test"} 3
+                # TYPE cthing_check_visit_seconds counter
+                # UNIT cthing_check_visit_seconds seconds
+                # HELP cthing_check_visit_seconds Total time spent visiting tokens.
+                cthing_check_visit_seconds_total{check="Test"} 0.002
+                # TYPE cthing_check_visit_max_seconds gauge
+                # UNIT cthing_check_visit_max_seconds seconds
+                # HELP cthing_check_visit_max_seconds Longest time spent visiting a single token.
+                cthing_check_visit_max_seconds{check="Test"} 0.0015
+                # TYPE cthing_check_files counter
+                # HELP cthing_check_files Number of files processed by the check.
+                cthing_check_files_total{check="Test"} 1
+                # TYPE cthing_check_file_nodes counter
+                # HELP cthing_check_file_nodes Number of AST nodes in the files processed by the check.
+                cthing_check_file_nodes_total{check="Test"} 30
+                # TYPE cthing_check_violations counter
+                # HELP cthing_check_violations Number of violations reported by the check.
+                cthing_check_violations_total{check="Test",key="test.key"} 2
+                # TYPE cthing_check_file_seconds gauge
+                # UNIT cthing_check_file_seconds seconds
+                # HELP cthing_check_file_seconds Time spent visiting the tokens of the slowest files.
+                cthing_check_file_seconds{check="Test",file="dir\\\\\\"quoted\\".java"} 0.002
+                # EOF
+                """);
+    }
+
+    @Test
+    @Tag(METRICS_TAG)
+    public void testListener(@TempDir final Path tempDir) throws Exception {
+        assumeTrue(MetricsRegistry.ENABLED, "Metrics are not enabled");
+        final Path metricsFile = tempDir.resolve("metrics/checks.txt");
+
+        final DefaultConfiguration listenerConfig = new DefaultConfiguration(MetricsListener.class.getName());
+        listenerConfig.addProperty("file", metricsFile.toString());
+        final DefaultConfiguration checkerConfig =
+                createCheckerConfig(createCheckConfig(TestMethodDeclarationCheck.class));
+        checkerConfig.addChild(listenerConfig);
+
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        checker.process(List.of(new File(getPath("TestMethodDeclaration.java"))));
+        checker.destroy();
+
+        final String contents = Files.readString(metricsFile, StandardCharsets.UTF_8);
+        assertThat(contents).contains("cthing_check_invocations_total{check=\"TestMethodDeclaration\"}")
+                            .endsWith("# EOF\n");
+    }
+}
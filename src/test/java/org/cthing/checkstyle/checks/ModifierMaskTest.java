@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link ModifierMask} utility class.
+ */
+public class ModifierMaskTest {
+
+    @Test
+    public void testBit() {
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_PUBLIC)).isEqualTo(ModifierMask.PUBLIC);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_PRIVATE)).isEqualTo(ModifierMask.PRIVATE);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_PROTECTED)).isEqualTo(ModifierMask.PROTECTED);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_STATIC)).isEqualTo(ModifierMask.STATIC);
+        assertThat(ModifierMask.bit(TokenTypes.FINAL)).isEqualTo(ModifierMask.FINAL);
+        assertThat(ModifierMask.bit(TokenTypes.ABSTRACT)).isEqualTo(ModifierMask.ABSTRACT);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_TRANSIENT)).isEqualTo(ModifierMask.TRANSIENT);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_VOLATILE)).isEqualTo(ModifierMask.VOLATILE);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_SYNCHRONIZED)).isEqualTo(ModifierMask.SYNCHRONIZED);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_NATIVE)).isEqualTo(ModifierMask.NATIVE);
+        assertThat(ModifierMask.bit(TokenTypes.STRICTFP)).isEqualTo(ModifierMask.STRICTFP);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_DEFAULT)).isEqualTo(ModifierMask.DEFAULT);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_SEALED)).isEqualTo(ModifierMask.SEALED);
+        assertThat(ModifierMask.bit(TokenTypes.LITERAL_NON_SEALED)).isEqualTo(ModifierMask.NON_SEALED);
+        assertThat(ModifierMask.bit(TokenTypes.IDENT)).isEqualTo(ModifierMask.OTHER);
+    }
+
+    @Test
+    public void testOperations() {
+        final int mask = ModifierMask.of(TokenTypes.LITERAL_PRIVATE, TokenTypes.LITERAL_STATIC, TokenTypes.FINAL);
+        assertThat(mask).isEqualTo(ModifierMask.PRIVATE | ModifierMask.STATIC | ModifierMask.FINAL);
+
+        assertThat(ModifierMask.contains(mask, TokenTypes.LITERAL_STATIC)).isTrue();
+        assertThat(ModifierMask.contains(mask, TokenTypes.LITERAL_PUBLIC)).isFalse();
+
+        assertThat(ModifierMask.containsAll(mask, ModifierMask.STATIC | ModifierMask.FINAL)).isTrue();
+        assertThat(ModifierMask.containsAll(mask, ModifierMask.STATIC | ModifierMask.PUBLIC)).isFalse();
+
+        assertThat(ModifierMask.containsOnly(mask, mask | ModifierMask.PUBLIC)).isTrue();
+        assertThat(ModifierMask.containsOnly(mask, ModifierMask.STATIC | ModifierMask.FINAL)).isFalse();
+        assertThat(ModifierMask.containsOnly(ModifierMask.NONE, ModifierMask.PUBLIC)).isTrue();
+    }
+
+    @Test
+    public void testToTokenTypes() {
+        assertThat(ModifierMask.toTokenTypes(ModifierMask.NONE)).isEmpty();
+        assertThat(ModifierMask.toTokenTypes(ModifierMask.PUBLIC | ModifierMask.ABSTRACT | ModifierMask.OTHER))
+                .containsExactlyInAnyOrder(TokenTypes.LITERAL_PUBLIC, TokenTypes.ABSTRACT);
+    }
+}
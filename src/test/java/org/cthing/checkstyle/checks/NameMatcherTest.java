@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link NameMatcher} class.
+ */
+public class NameMatcherTest {
+
+    private static final List<String> NAMES = List.of("", "D", "Dao", "DaoImpl", "UserDaoImpl", "AbstractDaoImpl",
+                                                      "Abstract", "AbstractX", "XDaoX", "DaoX", "XDao", "ImplDao",
+                                                      "a.b", "aXb");
+
+    @Test
+    public void testMatches() {
+        final Map<String, NameMatcher.Kind> patterns = Map.ofEntries(
+                Map.entry("^.*DaoImpl$", NameMatcher.Kind.SUFFIX),
+                Map.entry(".+DaoImpl", NameMatcher.Kind.SUFFIX),
+                Map.entry("^Abstract.+$", NameMatcher.Kind.PREFIX),
+                Map.entry("Abstract.*", NameMatcher.Kind.PREFIX),
+                Map.entry("^.*Dao.*$", NameMatcher.Kind.CONTAINS),
+                Map.entry(".+Dao.+", NameMatcher.Kind.CONTAINS),
+                Map.entry(".*Dao.+", NameMatcher.Kind.CONTAINS),
+                Map.entry("DaoImpl", NameMatcher.Kind.EQUALS),
+                Map.entry("^$", NameMatcher.Kind.EQUALS),
+                Map.entry(".*", NameMatcher.Kind.SUFFIX),
+                Map.entry(".+", NameMatcher.Kind.SUFFIX),
+                Map.entry("^.+Dao(Impl)?$", NameMatcher.Kind.REGEX),
+                Map.entry("a.b", NameMatcher.Kind.REGEX),
+                Map.entry("Dao\\.*", NameMatcher.Kind.REGEX),
+                Map.entry("^Abstract\\$", NameMatcher.Kind.REGEX),
+                Map.entry(".*.*", NameMatcher.Kind.REGEX));
+
+        patterns.forEach((regex, kind) -> {
+            final Pattern pattern = Pattern.compile(regex);
+            final NameMatcher matcher = NameMatcher.of(pattern);
+            assertThat(matcher.getKind()).as(regex).isEqualTo(kind);
+            assertThat(matcher.getPattern()).isSameAs(pattern);
+            for (final String name : NAMES) {
+                assertThat(matcher.matches(name)).as(regex + " " + name).isEqualTo(pattern.matcher(name).matches());
+            }
+        });
+    }
+
+    @Test
+    public void testFlags() {
+        final NameMatcher matcher = NameMatcher.of(Pattern.compile("^.*DaoImpl$", Pattern.CASE_INSENSITIVE));
+        assertThat(matcher.getKind()).isEqualTo(NameMatcher.Kind.REGEX);
+        assertThat(matcher.matches("userdaoimpl")).isTrue();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+/**
+ * Tests the {@link PrefixTrie} class.
+ */
+public class PrefixTrieTest {
+
+    @Test
+    public void testClassify() {
+        final PrefixTrie trie = new PrefixTrie();
+        trie.add(1, "insert", "update", "delete", " save ", "");
+        trie.add(2, "get", "find", "\u00e9tat");
+        trie.add(1, "getAndDelete");
+
+        assertThat(trie.classify("insertAddress")).isEqualTo(1);
+        assertThat(trie.classify("insert")).isEqualTo(1);
+        assertThat(trie.classify("save")).isEqualTo(1);
+        assertThat(trie.classify("getAddress")).isEqualTo(2);
+        assertThat(trie.classify("getAndDeleteAddress")).isEqualTo(1);
+        assertThat(trie.classify("getAndDel")).isEqualTo(2);
+        assertThat(trie.classify("\u00e9tatCourant")).isEqualTo(2);
+        assertThat(trie.classify("inser")).isEqualTo(PrefixTrie.NO_MATCH);
+        assertThat(trie.classify("merge")).isEqualTo(PrefixTrie.NO_MATCH);
+        assertThat(trie.classify("")).isEqualTo(PrefixTrie.NO_MATCH);
+    }
+
+    @Test
+    public void testRemove() {
+        final PrefixTrie trie = new PrefixTrie();
+        trie.add(1, "insert", "update");
+        trie.add(2, "get");
+        trie.remove(1);
+        trie.add(1, "save");
+
+        assertThat(trie.classify("insertAddress")).isEqualTo(PrefixTrie.NO_MATCH);
+        assertThat(trie.classify("saveAddress")).isEqualTo(1);
+        assertThat(trie.classify("getAddress")).isEqualTo(2);
+    }
+
+    @Test
+    public void testNoMatchValue() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PrefixTrie().add(PrefixTrie.NO_MATCH, "get"));
+    }
+}
@@ -8,6 +8,9 @@ import org.junit.jupiter.api.Test;
 
 import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 
 /**
  * Tests the {@link SpringDaoAnnotationCheck} class.
@@ -61,4 +64,95 @@ public class SpringDaoAnnotationCheckTest extends AbstractCheckTestSupport {
 
         verify(checkConfig, getPath("IncorrectAnnotationsDaoImpl.java"), expected);
     }
+
+    @Test
+    public void testNestedClasses() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(SpringDaoAnnotationCheck.class);
+
+        final String[] expected = {
+                "31: Class must be annotated with @Repository. [SpringDaoAnnotation]",
+                "31: Class must be annotated with @Transactional(readOnly = true). [SpringDaoAnnotation]",
+                "32: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+                "36: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+                "42: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+        };
+
+        verify(checkConfig, getPath("NestedDaoImpl.java"), expected);
+    }
+
+    @Test
+    public void testIncludePattern() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(SpringDaoAnnotationCheck.class);
+        checkConfig.addProperty("includePattern", "^.+Dao(Impl)?$");
+
+        final String[] expected = {
+                "47: Class must be annotated with @Repository. [SpringDaoAnnotation]",
+                "47: Class must be annotated with @Transactional(readOnly = true). [SpringDaoAnnotation]",
+                "122: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+                "147: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+        };
+
+        verify(checkConfig, getPath("MissingAnnotationsDaoImpl.java"), expected);
+    }
+
+    @Test
+    public void testExcludePattern() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(SpringDaoAnnotationCheck.class);
+        checkConfig.addProperty("excludePattern", "^Missing.*$");
+
+        verify(checkConfig, getPath("MissingAnnotationsDaoImpl.java"), new String[0]);
+    }
+
+    @Test
+    public void testPatternProperties() {
+        final SpringDaoAnnotationCheck check = new SpringDaoAnnotationCheck();
+        assertThat(check.getIncludePattern()).isEqualTo("^.*DaoImpl$");
+        assertThat(check.getExcludePattern()).isEqualTo("^Abstract.+$");
+
+        check.setIncludePattern("^.+Dao$");
+        check.setExcludePattern("^Test");
+        assertThat(check.getIncludePattern()).isEqualTo("^.+Dao$");
+        assertThat(check.getExcludePattern()).isEqualTo("^Test");
+
+        assertThatThrownBy(() -> check.setIncludePattern("(")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> check.setExcludePattern("[")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDefaultMethodPrefixes() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(SpringDaoAnnotationCheck.class);
+
+        final String[] expected = {
+                "26: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+        };
+
+        verify(checkConfig, getPath("PrefixesDaoImpl.java"), expected);
+    }
+
+    @Test
+    public void testMethodPrefixes() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(SpringDaoAnnotationCheck.class);
+        checkConfig.addProperty("writeMethodPrefixes", "save, merge, bulkInsert, getAndRemove");
+        checkConfig.addProperty("readMethodPrefixes", "find, get");
+
+        final String[] expected = {
+                "29: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+                "36: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+                "48: Read method must not be annotated with @Transactional unless readOnly = true. [SpringDaoAnnotation]",
+        };
+
+        verify(checkConfig, getPath("PrefixesDaoImpl.java"), expected);
+    }
+
+    @Test
+    public void testImportedAnnotations() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(SpringDaoAnnotationCheck.class);
+
+        final String[] expected = {
+                "25: Class must be annotated with @Transactional(readOnly = true). [SpringDaoAnnotation]",
+                "29: Method must be annotated with @Transactional(readOnly = false). [SpringDaoAnnotation]",
+        };
+
+        verify(checkConfig, getPath("ImportsDaoImpl.java"), expected);
+    }
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Deterministic generator of synthetic Java source files for benchmarks and scaling tests. The sources are
+ * shaped like the code the checks are run against (DAO implementations, unit tests, classes with many fields,
+ * deeply nested classes and deeply nested expressions) and are scaled by a single size parameter. For a given
+ * seed, the generated sources are always identical, so large inputs can be reproduced without being checked
+ * into the repository.
+ *
+ * <p>
+ * When the violation rate is greater than zero, a seeded fraction of the generated declarations deliberately
+ * violate the checks (e.g. a DAO write method without {@literal @}Transactional(readOnly = false)).
+ * </p>
+ */
+public final class SyntheticCorpus {
+
+    /**
+     * Shapes of the source files that can be generated.
+     */
+    public enum Shape {
+        /** DAO implementation class in the style of {@code GoodDaoImpl}. The scale is the number of methods. */
+        DAO("DaoImpl"),
+        /** Unit test class. The scale is the number of test methods. */
+        TEST("Test"),
+        /** Class with many fields declared before its logger. The scale is the number of fields. */
+        FIELDS("Fields"),
+        /** Class with nested inner classes. The scale is the nesting depth. */
+        NESTED("Nested"),
+        /**
+         * Class containing deeply nested expressions. The scale is the expression depth. The depth of the nested
+         * conditional expression is limited to avoid overflowing the stack in the Checkstyle parser.
+         */
+        EXPRESSION("Expression");
+
+        private final String suffix;
+
+        Shape(final String suffix) {
+            this.suffix = suffix;
+        }
+
+        /**
+         * Obtains the suffix appended to the base name of a generated class of this shape.
+         *
+         * @return Class name suffix.
+         */
+        public String getSuffix() {
+            return this.suffix;
+        }
+    }
+
+    /**
+     * Checkstyle parses nested conditional expressions recursively and overflows the default thread stack at a
+     * depth of a few hundred. String concatenation is parsed iteratively and is not limited.
+     */
+    private static final int MAX_TERNARY_DEPTH = 100;
+
+    private static final String[] WRITE_PREFIXES = { "insert", "update", "delete" };
+    private static final String[] READ_PREFIXES = { "find", "get", "count", "list" };
+    private static final String[] ENTITIES = { "Address", "Account", "Customer", "Invoice", "Order", "Product" };
+
+    private final Random random;
+    private final double violationRate;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed  Seed for the generator. The same seed always produces the same sources.
+     * @param violationRate  Fraction of the declarations, from 0.0 to 1.0, that violate the checks
+     */
+    public SyntheticCorpus(final long seed, final double violationRate) {
+        this.random = new Random(seed);
+        this.violationRate = violationRate;
+    }
+
+    /**
+     * Generates the source of a class of the specified shape.
+     *
+     * @param shape  Shape of the class to generate
+     * @param name  Base name of the class. A suffix appropriate for the shape is appended (e.g. "DaoImpl").
+     * @param scale  Size of the class, interpreted according to the shape
+     * @return Source code of the class.
+     */
+    public String generate(final Shape shape, final String name, final int scale) {
+        final String className = name + shape.getSuffix();
+        return switch (shape) {
+            case DAO -> daoClass(className, scale);
+            case TEST -> testClass(className, scale);
+            case FIELDS -> fieldsClass(className, scale);
+            case NESTED -> nestedClass(className, scale);
+            case EXPRESSION -> expressionClass(className, scale);
+        };
+    }
+
+    /**
+     * Writes a set of generated source files to the specified directory.
+     *
+     * @param dir  Directory in which to write the files. The directory is created if it does not exist.
+     * @param shape  Shape of the classes to generate
+     * @param numFiles  Number of files to generate
+     * @param scale  Size of each class, interpreted according to the shape
+     * @return Generated files in the order they were generated.
+     * @throws IOException if the files could not be written
+     */
+    public List<File> write(final Path dir, final Shape shape, final int numFiles, final int scale) throws IOException {
+        Files.createDirectories(dir);
+        final List<File> files = new ArrayList<>(numFiles);
+        for (int i = 0; i < numFiles; i++) {
+            final String name = ENTITIES[i % ENTITIES.length] + i;
+            final Path file = dir.resolve(name + shape.getSuffix() + ".java");
+            Files.writeString(file, generate(shape, name, scale), StandardCharsets.UTF_8);
+            files.add(file.toFile());
+        }
+        return files;
+    }
+
+    private String daoClass(final String className, final int numMethods) {
+        final StringBuilder src = new StringBuilder();
+        header(src);
+        src.append("""
+                   import javax.sql.DataSource;
+
+                   import org.slf4j.Logger;
+                   import org.slf4j.LoggerFactory;
+                   import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
+                   import org.springframework.stereotype.Repository;
+                   import org.springframework.transaction.annotation.Transactional;
+
+
+                   /**
+                    * Generated data access object.
+                    */
+                   """);
+        if (!violate()) {
+            src.append("@Repository\n");
+        }
+        src.append(violate() ? "@Transactional(timeout = 100)\n" : "@Transactional(timeout = 100, readOnly = true)\n");
+        src.append("public class ").append(className).append(" extends NamedParameterJdbcDaoSupport {\n\n");
+        logger(src, "    ", className);
+        src.append('\n');
+
+        for (int i = 0; i < numMethods; i++) {
+            src.append("    private static final String SQL_").append(i)
+               .append(" = \"SELECT * FROM TBL_").append(i).append(" WHERE ID=?\";\n");
+        }
+        src.append('\n');
+
+        src.append("    public ").append(className).append("(final DataSource dataSource) {\n")
+           .append("        setDataSource(dataSource);\n")
+           .append("    }\n");
+
+        for (int i = 0; i < numMethods; i++) {
+            src.append('\n');
+            if (this.random.nextInt(3) == 0) {
+                final String prefix = WRITE_PREFIXES[this.random.nextInt(WRITE_PREFIXES.length)];
+                src.append("    @Override\n");
+                if (!violate()) {
+                    src.append("    @Transactional(readOnly = false)\n");
+                }
+                src.append("    public void ").append(prefix).append("Entity").append(i).append("(final Object entity) {\n")
+                   .append("        LOG.trace(\"").append(prefix).append(" {}\", entity);\n")
+                   .append("        getJdbcTemplate().update(SQL_").append(i).append(", entity);\n")
+                   .append("    }\n");
+            } else {
+                final String prefix = READ_PREFIXES[this.random.nextInt(READ_PREFIXES.length)];
+                src.append("    public Object ").append(prefix).append("Entity").append(i).append("(final Long id) {\n")
+                   .append("        LOG.trace(\"").append(prefix).append(" {}\", id);\n")
+                   .append("        return getJdbcTemplate().queryForObject(SQL_").append(i).append(", Object.class, id);\n")
+                   .append("    }\n");
+            }
+        }
+        src.append("}\n");
+        return src.toString();
+    }
+
+    private String testClass(final String className, final int numTests) {
+        final StringBuilder src = new StringBuilder();
+        header(src);
+        src.append("""
+                   import org.junit.jupiter.api.BeforeEach;
+                   import org.junit.jupiter.api.Test;
+
+                   import static org.assertj.core.api.Assertions.assertThat;
+
+
+                   """);
+        src.append("public class ").append(className).append(" {\n\n")
+           .append("    private int value;\n\n")
+           .append("    @BeforeEach\n")
+           .append("    public void setup() {\n")
+           .append("        this.value = ").append(this.random.nextInt(1000)).append(";\n")
+           .append("    }\n");
+
+        for (int i = 0; i < numTests; i++) {
+            src.append('\n');
+            if (this.random.nextInt(5) == 0) {
+                src.append("    private static int helper").append(i).append("(final int input) {\n")
+                   .append("        return input * ").append(this.random.nextInt(100)).append(";\n")
+                   .append("    }\n\n");
+            }
+            final boolean violate = violate();
+            src.append("    @Test\n")
+               .append(violate ? "    void test" : "    public void test").append(i).append("() {\n")
+               .append("        assertThat(this.value + ").append(i).append(").isGreaterThan(").append(i - 1).append(");\n")
+               .append("    }\n");
+        }
+        src.append("}\n");
+        return src.toString();
+    }
+
+    private String fieldsClass(final String className, final int numFields) {
+        final StringBuilder src = new StringBuilder();
+        header(src);
+        src.append("import org.slf4j.Logger;\nimport org.slf4j.LoggerFactory;\n\n\n");
+        src.append("public class ").append(className).append(" {\n\n");
+        for (int i = 0; i < numFields; i++) {
+            switch (this.random.nextInt(4)) {
+                case 0 -> src.append("    private static final int CONSTANT_").append(i).append(" = ").append(i).append(";\n");
+                case 1 -> src.append("    private final String name").append(i).append(" = \"name").append(i).append("\";\n");
+                case 2 -> src.append("    private java.util.List<String> list").append(i).append(";\n");
+                default -> src.append("    protected long counter").append(i).append(";\n");
+            }
+        }
+        src.append('\n');
+        logger(src, "    ", className);
+        src.append("\n    public int sum() {\n        return CONSTANT_SUM;\n    }\n\n")
+           .append("    private static final int CONSTANT_SUM = ").append(numFields).append(";\n")
+           .append("}\n");
+        return src.toString();
+    }
+
+    private String nestedClass(final String className, final int depth) {
+        final StringBuilder src = new StringBuilder();
+        header(src);
+        src.append("import org.slf4j.Logger;\nimport org.slf4j.LoggerFactory;\n\n\n");
+        src.append("public class ").append(className).append(" {\n");
+        logger(src, "    ", className);
+
+        final StringBuilder indent = new StringBuilder("    ");
+        for (int i = 0; i < depth; i++) {
+            final String inner = "Inner" + i;
+            src.append('\n').append(indent).append("public static class ").append(inner).append(" {\n");
+            indent.append("    ");
+            logger(src, indent.toString(), inner);
+            src.append(indent).append("public void insert").append(i).append("() {\n")
+               .append(indent).append("    LOG.info(\"").append(inner).append("\");\n")
+               .append(indent).append("}\n");
+        }
+        for (int i = 0; i < depth; i++) {
+            indent.setLength(indent.length() - 4);
+            src.append(indent).append("}\n");
+        }
+        src.append("}\n");
+        return src.toString();
+    }
+
+    private String expressionClass(final String className, final int depth) {
+        final StringBuilder src = new StringBuilder();
+        header(src);
+        src.append("import org.slf4j.Logger;\nimport org.slf4j.LoggerFactory;\n\n\n");
+        src.append("public class ").append(className).append(" {\n\n");
+        logger(src, "    ", className);
+
+        src.append("\n    private static final String CONCATENATION = \"s0\"");
+        for (int i = 1; i < depth; i++) {
+            src.append(" + \"s").append(i).append('"');
+        }
+        src.append(";\n");
+
+        src.append("\n    public int compute(final int input) {\n        return ");
+        final int ternaryDepth = Math.min(depth, MAX_TERNARY_DEPTH);
+        for (int i = 0; i < ternaryDepth; i++) {
+            src.append("input > ").append(i).append(" ? ").append(this.random.nextInt(100)).append(" : ");
+        }
+        src.append("-1;\n    }\n}\n");
+        return src.toString();
+    }
+
+    private void logger(final StringBuilder src, final String indent, final String className) {
+        final boolean violate = violate();
+        src.append(indent).append("private static final Logger ").append(violate ? "log" : "LOG")
+           .append(" = LoggerFactory.getLogger(").append(className).append(".class);\n");
+    }
+
+    private static void header(final StringBuilder src) {
+        src.append("/*\n * Generated source.\n */\npackage corpus;\n\n");
+    }
+
+    private boolean violate() {
+        return (this.violationRate > 0.0) && (this.random.nextDouble() < this.violationRate);
+    }
+}
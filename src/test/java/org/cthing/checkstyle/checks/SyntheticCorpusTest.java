@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 C Thing Software
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.cthing.checkstyle.checks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the {@link SyntheticCorpus} generator.
+ */
+public class SyntheticCorpusTest extends AbstractCheckTestSupport {
+
+    @TempDir
+    public Path tempDir;
+
+    @Test
+    public void testDeterministic() {
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            final String source1 = new SyntheticCorpus(42, 0.1).generate(shape, "Sample", 20);
+            final String source2 = new SyntheticCorpus(42, 0.1).generate(shape, "Sample", 20);
+            assertThat(source1).isEqualTo(source2);
+        }
+
+        final String dao1 = new SyntheticCorpus(1, 0.1).generate(SyntheticCorpus.Shape.DAO, "Sample", 50);
+        final String dao2 = new SyntheticCorpus(2, 0.1).generate(SyntheticCorpus.Shape.DAO, "Sample", 50);
+        assertThat(dao1).isNotEqualTo(dao2);
+    }
+
+    @Test
+    public void testParseable() throws Exception {
+        final SyntheticCorpus corpus = new SyntheticCorpus(7, 0.1);
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            final List<File> files = corpus.write(this.tempDir.resolve(shape.name()), shape, 3, 200);
+            assertThat(files).hasSize(3);
+            for (final File file : files) {
+                assertThat(file.getName()).endsWith(shape.getSuffix() + ".java");
+                assertThat(JavaParser.parseFile(file, JavaParser.Options.WITHOUT_COMMENTS)).isNotNull();
+            }
+        }
+    }
+
+    @Test
+    public void testLargeInput() throws Exception {
+        final List<File> files = new SyntheticCorpus(3, 0.0).write(this.tempDir, SyntheticCorpus.Shape.DAO, 1, 20_000);
+        assertThat(Files.size(files.get(0).toPath())).isGreaterThan(4_000_000L);
+    }
+
+    @Test
+    public void testNoViolations() throws Exception {
+        final SyntheticCorpus corpus = new SyntheticCorpus(11, 0.0);
+
+        for (final SyntheticCorpus.Shape shape : SyntheticCorpus.Shape.values()) {
+            final List<File> files = corpus.write(this.tempDir.resolve(shape.name()), shape, 2, 50);
+            final Checker checker = createChecker(createCheckConfig(LogDeclarationCheck.class),
+                                                  createCheckConfig(SpringDaoAnnotationCheck.class),
+                                                  createCheckConfig(TestMethodDeclarationCheck.class));
+            verify(checker, files.toArray(new File[0]), "", new String[0]);
+        }
+    }
+
+    @Test
+    public void testViolations() throws Exception {
+        final SyntheticCorpus corpus = new SyntheticCorpus(13, 1.0);
+        final List<File> files = corpus.write(this.tempDir, SyntheticCorpus.Shape.DAO, 1, 3);
+
+        final Checker checker = createChecker(createCheckConfig(SpringDaoAnnotationCheck.class));
+        final int numErrors = checker.process(files);
+        assertThat(numErrors).isGreaterThanOrEqualTo(2);
+        checker.destroy();
+    }
+}
@@ -4,10 +4,15 @@
  */
 package org.cthing.checkstyle.checks;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 
 /**
  * Tests the {@link TestMethodDeclarationCheck} class.
@@ -27,4 +32,97 @@ public class TestMethodDeclarationCheckTest extends AbstractCheckTestSupport {
 
         verify(checkConfig, getPath("TestMethodDeclaration.java"), expected);
     }
+
+    @Test
+    public void testDefaultAnnotations() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(TestMethodDeclarationCheck.class);
+
+        final String[] expected = {
+                "25: Test method must be a public instance method. [TestMethodDeclaration]",
+                "30: Test method must be a public instance method. [TestMethodDeclaration]",
+                "34: Test method must have void return type. [TestMethodDeclaration]",
+                "39: Test method must have void return type. [TestMethodDeclaration]",
+                "44: Test method must be a public instance method. [TestMethodDeclaration]",
+        };
+
+        verify(checkConfig, getPath("TestAnnotations.java"), expected);
+    }
+
+    @Test
+    public void testQualifiedAnnotations() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(TestMethodDeclarationCheck.class);
+        checkConfig.addProperty("testAnnotations", "org.junit.jupiter.api.Test, ParameterizedTest, Property");
+
+        final String[] expected = {
+                "25: Test method must be a public instance method. [TestMethodDeclaration]",
+                "39: Test method must have void return type. [TestMethodDeclaration]",
+                "48: Test method must be a public instance method. [TestMethodDeclaration]",
+        };
+
+        verify(checkConfig, getPath("TestAnnotations.java"), expected);
+    }
+
+    @Test
+    public void testImportedAnnotations() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(TestMethodDeclarationCheck.class);
+
+        final String[] expected = {
+                "24: Test method must be a public instance method. [TestMethodDeclaration]",
+                "28: Test method must be a public instance method. [TestMethodDeclaration]",
+                "32: Test method must be a public instance method. [TestMethodDeclaration]",
+        };
+
+        verify(checkConfig, getPath("TestImports.java"), expected);
+    }
+
+    @Test
+    public void testQualifiedImportedAnnotations() throws Exception {
+        final DefaultConfiguration checkConfig = createCheckConfig(TestMethodDeclarationCheck.class);
+        checkConfig.addProperty("testAnnotations",
+                                "org.junit.jupiter.api.Test, org.junit.jupiter.params.ParameterizedTest");
+
+        final String[] expected = {
+                "28: Test method must be a public instance method. [TestMethodDeclaration]",
+                "32: Test method must be a public instance method. [TestMethodDeclaration]",
+        };
+
+        verify(checkConfig, getPath("TestImports.java"), expected);
+    }
+
+    @Test
+    public void testGeneratedMethods() throws Exception {
+        final CheckHarness harness = CheckHarness.of(createCheckConfig(TestMethodDeclarationCheck.class));
+        final String[] annotations = {
+            "Test", "ParameterizedTest", "RepeatedTest(3)", "TestFactory", "TestTemplate", "org.junit.jupiter.api.Test",
+            "Disabled", "Tested",
+        };
+        final String[] scopes = { "public ", "protected ", "private ", "" };
+        final String[] staticModifiers = { "", "static " };
+        final String[] returnTypes = { "void", "int", "Stream<DynamicTest>" };
+
+        for (final String annotation : annotations) {
+            final boolean isTest = !annotation.startsWith("Disabled") && !annotation.startsWith("Tested");
+            for (final String scope : scopes) {
+                for (final String staticModifier : staticModifiers) {
+                    for (final String returnType : returnTypes) {
+                        final String body = "void".equals(returnType) ? "" : "return null;";
+                        final String source = "import java.util.stream.Stream;\n\nclass GeneratedTest {\n    @"
+                                + annotation + "\n    " + scope + staticModifier + returnType + " testMethod() {"
+                                + body + "}\n}\n";
+
+                        final List<String> expected = new ArrayList<>();
+                        if (isTest && !"void".equals(returnType)) {
+                            expected.add("4:testmethoddeclaration.badreturn");
+                        }
+                        if (isTest && !("public ".equals(scope) && staticModifier.isEmpty())) {
+                            expected.add("4:testmethoddeclaration.badscope");
+                        }
+
+                        assertThat(CheckHarness.keys(harness.run(source))).as(source)
+                                                                         .containsExactlyInAnyOrderElementsOf(expected);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 C Thing Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package checkstyle;
+
+
+@Repository
+@org.springframework.transaction.annotation.Transactional(timeout = 100, readOnly = true)
+public class Annotations {
+
+    @SuppressWarnings("unchecked")
+    @Deprecated(since = "1.0", forRemoval = true)
+    public void annotated() {
+    }
+
+    @Tags({ @Tag("fast"), @Tag("unit") })
+    @Timeout(value = 5 + 2, unit = TimeUnit.SECONDS)
+    public void complex() {
+    }
+
+    public void plain() {
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 C Thing Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package checkstyle;
+
+
+public class LogFrameworks {
+    private static final Logger LOG = LoggerFactory.getLogger(LogFrameworks.class);
+}
+
+class Log4j2 {
+    private static final Logger LOG = LogManager.getLogger();
+}
+
+class Log4j2WithClass {
+    private static final Logger LOG = LogManager.getLogger(Log4j2.class);
+}
+
+class Jul {
+    private static final Logger LOG = Logger.getLogger(Jul.class.getName());
+}
+
+class SystemLogger {
+    private static final System.Logger LOG = System.getLogger(SystemLogger.class.getName());
+}
+
+class QualifiedSlf4j {
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(QualifiedSlf4j.class);
+}
+
+class Lombok {
+    private static final Logger log = LoggerFactory.getLogger(Lombok.class);
+}
+
+class UnknownFactory {
+    private static final Logger LOG = Loggers.create(UnknownFactory.class);
+}
+
+class CommonsLogging {
+    private static final Log LOG = LogFactory.getLog(CommonsLogging.class);
+}
+
+class CommonsLoggingBad {
+    static Log logger = LogFactory.getLogger(CommonsLoggingBad.class);
+}
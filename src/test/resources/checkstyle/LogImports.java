@@ -0,0 +1,30 @@
+/*
+ * Copyright 2022 C Thing Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package checkstyle;
+
+import com.example.log.Logger;
+import com.example.log.LoggerFactory;
+
+
+public class LogImports {
+    private Logger logger = LoggerFactory.getLogger();
+
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(Other.class);
+}
+
+class ForeignLogger {
+    static Logger log = LoggerFactory.create(ForeignLogger.class);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 C Thing Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package checkstyle;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+
+@Repository
+@Transactional(readOnly = true)
+public class NestedDaoImpl {
+
+    public static class Helper {
+        public void insertHelper() {
+        }
+    }
+
+    public static class InnerDaoImpl {
+        public void updateInner() {
+        }
+    }
+
+    public void insertOuter() {
+        final Runnable runnable = new Runnable() {
+            @Override
+            public void run() {
+            }
+
+            public void deleteAnonymous() {
+            }
+        };
+    }
+
+    interface Callback {
+        void updateCallback();
+    }
+
+    @Transactional(readOnly = false)
+    public void deleteOuter() {
+    }
+}
+
+class PackageDaoImpl {
+    public void insertPackage() {
+    }
+}
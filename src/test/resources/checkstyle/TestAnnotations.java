@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 C Thing Software
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package checkstyle;
+
+public class TestAnnotations {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2 })
+    public void testGoodParameterized(final int value) {
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2 })
+    void testBadParameterized(final int value) {
+    }
+
+    @RepeatedTest(3)
+    protected void testBadRepeated() {
+    }
+
+    @TestFactory
+    public Stream<DynamicTest> testBadFactory() {
+        return Stream.empty();
+    }
+
+    @org.junit.jupiter.api.Test
+    public int testBadQualified() {
+        return 1;
+    }
+
+    @org.testng.annotations.Test
+    void testBadOtherFramework() {
+    }
+
+    @Property
+    void testBadProperty() {
+    }
+
+    @Testing
+    void helper() {
+    }
+}